@@ -0,0 +1,82 @@
+package seedu.reserve.benchutil;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.reserve.model.ReserveMate;
+import seedu.reserve.model.reservation.DateTime;
+import seedu.reserve.model.reservation.Diners;
+import seedu.reserve.model.reservation.Email;
+import seedu.reserve.model.reservation.Name;
+import seedu.reserve.model.reservation.Phone;
+import seedu.reserve.model.reservation.Preference;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.util.SampleDataUtil;
+
+/**
+ * Generates reservation books of arbitrary size for the benchmarks.
+ * Reservations start from the next hour and fill {@link #RESERVATIONS_PER_SLOT} reservations per hourly slot,
+ * each with a distinct phone number and email, so that every generated book is free of duplicates.
+ */
+public class ReservationGenerator {
+
+    public static final int RESERVATIONS_PER_SLOT = 8;
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+    private static final LocalDateTime FIRST_SLOT = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusHours(1);
+    private static final int FIRST_PHONE = 80000000;
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Amy", "Bob"};
+    private static final String[] LAST_NAMES =
+        {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Bee", "Choo"};
+
+    /**
+     * Returns the {@code index}-th generated reservation.
+     */
+    public static Reservation reservation(int index) {
+        String name = FIRST_NAMES[index % FIRST_NAMES.length] + " " + LAST_NAMES[(index / 8) % LAST_NAMES.length];
+        return new Reservation(new Name(name),
+                new Phone(String.valueOf(FIRST_PHONE + index)),
+                new Email("guest" + index + "@example.com"),
+                new Diners(String.valueOf(index % Diners.MAX_DINERS + 1)),
+                DateTime.fromFileString(dateTimeString(index / RESERVATIONS_PER_SLOT)),
+                SampleDataUtil.getOccasionSet("Birthday"),
+                new Preference("None"));
+    }
+
+    /**
+     * Returns the first {@code size} generated reservations in ascending {@code DateTime} order.
+     */
+    public static List<Reservation> reservations(int size) {
+        List<Reservation> reservations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            reservations.add(reservation(i));
+        }
+        return reservations;
+    }
+
+    /**
+     * Returns a {@code ReserveMate} holding the first {@code size} generated reservations.
+     */
+    public static ReserveMate reserveMate(int size) {
+        ReserveMate reserveMate = new ReserveMate();
+        reserveMate.setReservations(reservations(size));
+        return reserveMate;
+    }
+
+    /**
+     * Returns the date-time string of the {@code slot}-th hourly slot, in the format accepted by the parser.
+     */
+    public static String dateTimeString(int slot) {
+        return FIRST_SLOT.plusHours(slot).format(FORMATTER);
+    }
+
+    /**
+     * Returns the date string of the day after the first slot, in the format accepted by the {@code free} command.
+     */
+    public static String nextDayString() {
+        return FIRST_SLOT.plusDays(1).toLocalDate().toString();
+    }
+}
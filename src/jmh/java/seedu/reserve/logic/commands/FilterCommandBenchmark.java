@@ -0,0 +1,65 @@
+package seedu.reserve.logic.commands;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.reserve.benchutil.ReservationGenerator;
+import seedu.reserve.logic.commands.exceptions.CommandException;
+import seedu.reserve.model.Model;
+import seedu.reserve.model.ModelManager;
+import seedu.reserve.model.UserPrefs;
+import seedu.reserve.model.reservation.DateTime;
+
+/**
+ * Benchmarks {@link FilterCommand#execute(Model)} over a day of reservations, alternating between two days, on a
+ * model holding {@code bookSize} reservations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterCommandBenchmark {
+
+    private static final int SLOTS_PER_DAY = 24;
+
+    @Param({"1000", "10000", "100000"})
+    private int bookSize;
+
+    private Model model;
+    private FilterCommand[] filterCommands;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(ReservationGenerator.reserveMate(bookSize), new UserPrefs());
+        int slots = bookSize / ReservationGenerator.RESERVATIONS_PER_SLOT;
+        filterCommands = new FilterCommand[] {
+            dayFilter(slots / 3), dayFilter(2 * slots / 3)
+        };
+    }
+
+    private static FilterCommand dayFilter(int firstSlot) {
+        return new FilterCommand(DateTime.fromFileString(ReservationGenerator.dateTimeString(firstSlot)),
+                DateTime.fromFileString(ReservationGenerator.dateTimeString(firstSlot + SLOTS_PER_DAY - 1)));
+    }
+
+    /** Runs the next of the two day filters. */
+    @Benchmark
+    public CommandResult execute() throws CommandException {
+        next ^= 1;
+        return filterCommands[next].execute(model);
+    }
+}
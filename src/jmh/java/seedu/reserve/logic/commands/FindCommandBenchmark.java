@@ -0,0 +1,59 @@
+package seedu.reserve.logic.commands;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.reserve.benchutil.ReservationGenerator;
+import seedu.reserve.model.Model;
+import seedu.reserve.model.ModelManager;
+import seedu.reserve.model.UserPrefs;
+import seedu.reserve.model.reservation.NameContainsKeywordsPredicate;
+
+/**
+ * Benchmarks {@link FindCommand#execute(Model)} with two keywords, alternating between two searches, on a model
+ * holding {@code bookSize} reservations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindCommandBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int bookSize;
+
+    private Model model;
+    private FindCommand[] findCommands;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(ReservationGenerator.reserveMate(bookSize), new UserPrefs());
+        // Alternates between two searches, as the filtered list is not refreshed when its predicate is unchanged
+        findCommands = new FindCommand[] {
+            new FindCommand(new NameContainsKeywordsPredicate(List.of("irfan", "balakrishnan"))),
+            new FindCommand(new NameContainsKeywordsPredicate(List.of("bob", "yeoh")))
+        };
+    }
+
+    /** Runs the next of the two searches. */
+    @Benchmark
+    public CommandResult execute() {
+        next ^= 1;
+        return findCommands[next].execute(model);
+    }
+}
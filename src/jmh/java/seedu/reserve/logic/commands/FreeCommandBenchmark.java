@@ -0,0 +1,52 @@
+package seedu.reserve.logic.commands;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.reserve.benchutil.ReservationGenerator;
+import seedu.reserve.logic.commands.exceptions.CommandException;
+import seedu.reserve.logic.parser.ParserUtil;
+import seedu.reserve.logic.parser.exceptions.ParseException;
+import seedu.reserve.model.Model;
+import seedu.reserve.model.ModelManager;
+import seedu.reserve.model.UserPrefs;
+
+/**
+ * Benchmarks {@link FreeCommand#execute(Model)} on a model holding {@code bookSize} reservations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FreeCommandBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    private int bookSize;
+
+    private Model model;
+    private FreeCommand freeCommand;
+
+    @Setup
+    public void setUp() throws ParseException {
+        model = new ModelManager(ReservationGenerator.reserveMate(bookSize), new UserPrefs());
+        freeCommand = new FreeCommand(ParserUtil.parseDateTimeFree(ReservationGenerator.nextDayString() + " 0000"));
+    }
+
+    @Benchmark
+    public CommandResult execute() throws CommandException {
+        return freeCommand.execute(model);
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.reserve.logic.parser;
+
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_DATE_TIME;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NUMBER_OF_DINERS;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_OCCASION;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link ArgumentTokenizer#tokenize(String)} on {@code add} arguments
+ * with an increasing number of occasions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int occasionCount;
+
+    private final ArgumentTokenizer tokenizer = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_NUMBER_OF_DINERS, PREFIX_DATE_TIME, PREFIX_OCCASION);
+    private String argsString;
+
+    @Setup
+    public void setUp() {
+        StringBuilder args = new StringBuilder(" n/John Doe p/98765432 e/johnd@example.com x/5 d/2025-05-01 1800");
+        for (int i = 0; i < occasionCount; i++) {
+            args.append(" o/Occasion ").append(i);
+        }
+        argsString = args.toString();
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return tokenizer.tokenize(argsString);
+    }
+}
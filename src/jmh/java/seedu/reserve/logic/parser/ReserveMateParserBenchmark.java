@@ -0,0 +1,78 @@
+package seedu.reserve.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.reserve.benchutil.ReservationGenerator;
+import seedu.reserve.logic.commands.Command;
+import seedu.reserve.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks {@link ReserveMateParser#parseCommand(String)} for every command word.
+ * Parsing does not touch the model, so this benchmark is parameterised by command word rather than book size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReserveMateParserBenchmark {
+
+    @Param({"add", "edit", "delete", "clear", "find", "list", "exit", "help", "show", "free", "filter", "stats",
+        "pref"})
+    private String commandWord;
+
+    private final ReserveMateParser parser = new ReserveMateParser();
+    private String userInput;
+
+    @Setup
+    public void setUp() {
+        userInput = commandWord + " " + argumentsFor(commandWord);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+
+    /**
+     * Returns valid arguments for {@code commandWord}.
+     */
+    private static String argumentsFor(String commandWord) {
+        switch (commandWord) {
+        case "add":
+            return "n/John Doe p/98765432 e/johnd@example.com x/5 d/" + ReservationGenerator.dateTimeString(24)
+                    + " o/Birthday o/Anniversary";
+        case "edit":
+            return "1 n/Jane Doe x/4";
+        case "delete":
+            return "1 cfm";
+        case "clear":
+            return "cfm";
+        case "find":
+            return "alex bernice charlotte";
+        case "show":
+            return "1";
+        case "free":
+            return "d/" + ReservationGenerator.nextDayString();
+        case "filter":
+            return "sd/" + ReservationGenerator.dateTimeString(0) + " ed/" + ReservationGenerator.dateTimeString(48);
+        case "pref":
+            return "save 1 No nuts, allergic to seafood";
+        default:
+            return "";
+        }
+    }
+}
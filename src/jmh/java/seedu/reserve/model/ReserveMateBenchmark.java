@@ -0,0 +1,45 @@
+package seedu.reserve.model;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.reserve.benchutil.ReservationGenerator;
+
+/**
+ * Benchmarks the reservation statistics computed by {@link ReserveMate}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReserveMateBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    private int bookSize;
+
+    private ReserveMate reserveMate;
+
+    @Setup
+    public void setUp() {
+        reserveMate = ReservationGenerator.reserveMate(bookSize);
+    }
+
+    @Benchmark
+    public Map<String, Integer> getSumOfReservationsPerDiner() {
+        return reserveMate.getSumOfReservationsPerDiner();
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.reserve.model.reservation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.reserve.benchutil.ReservationGenerator;
+import seedu.reserve.logic.parser.ParserUtil;
+import seedu.reserve.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks parsing a {@link DateTime}, as typed in a command and as read from the data file,
+ * and formatting it back, as when the data file is saved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTimeBenchmark {
+
+    private String dateTimeString;
+    private DateTime dateTime;
+
+    @Setup
+    public void setUp() {
+        dateTimeString = ReservationGenerator.dateTimeString(ReservationGenerator.RESERVATIONS_PER_SLOT * 24);
+        dateTime = DateTime.fromFileString(dateTimeString);
+    }
+
+    @Benchmark
+    public DateTime parseCommandDateTime() throws ParseException {
+        return ParserUtil.parseDateTime(dateTimeString);
+    }
+
+    @Benchmark
+    public DateTime parseFileDateTime() {
+        return DateTime.fromFileString(dateTimeString);
+    }
+
+    @Benchmark
+    public String format() {
+        return dateTime.toString();
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.reserve.model.reservation;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.reserve.benchutil.ReservationGenerator;
+
+/**
+ * Measures the heap taken by {@code bookSize} reservations built from their fields one by one, as when the
+ * reservation book is read from its data file.
+ * The result of interest is the {@code bytesPerReservation} counter, i.e. the growth of the live heap divided by
+ * the number of reservations, which leaves out the indexes kept by the reservation book.
+ * The score is the time taken to build the reservations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class ReservationFootprintBenchmark {
+
+    private static final int GC_ROUNDS = 3;
+
+    @Param({"1000000"})
+    private int bookSize;
+
+    /** Builds {@code bookSize} reservations and records the heap they take. */
+    @Benchmark
+    public List<Reservation> buildReservations(Footprint footprint) {
+        long usedHeapBefore = usedHeapAfterGc();
+        List<Reservation> reservations = ReservationGenerator.reservations(bookSize);
+        footprint.bytesPerReservation = (double) (usedHeapAfterGc() - usedHeapBefore) / bookSize;
+        return reservations;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Reports the heap taken per reservation by the last operation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        private double bytesPerReservation;
+
+        public double bytesPerReservation() {
+            return bytesPerReservation;
+        }
+    }
+}
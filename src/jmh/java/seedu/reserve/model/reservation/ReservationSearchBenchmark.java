@@ -0,0 +1,64 @@
+package seedu.reserve.model.reservation;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.reserve.benchutil.ReservationGenerator;
+
+/**
+ * Benchmarks {@link UniqueReservationList#search(ReservationQuery)} on a list of {@code bookSize} reservations.
+ * The generated names share a handful of words, so the name searches are combined with a phone or email search
+ * to measure the lookup rather than the size of the result.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReservationSearchBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int bookSize;
+
+    private UniqueReservationList reservations;
+    private ReservationQuery phoneQuery;
+    private ReservationQuery emailQuery;
+    private ReservationQuery typoAndPhoneQuery;
+
+    @Setup
+    public void setUp() {
+        reservations = new UniqueReservationList();
+        reservations.setReservations(ReservationGenerator.reservations(bookSize));
+        phoneQuery = new ReservationQuery(List.of(), "0555", null);
+        emailQuery = new ReservationQuery(List.of(), null, "guest55");
+        typoAndPhoneQuery = new ReservationQuery(List.of("balakrisnan"), "555", null);
+    }
+
+    @Benchmark
+    public ReservationSearchResult searchPhone() {
+        return reservations.search(phoneQuery);
+    }
+
+    @Benchmark
+    public ReservationSearchResult searchEmailPrefix() {
+        return reservations.search(emailQuery);
+    }
+
+    @Benchmark
+    public ReservationSearchResult searchNameTypoAndPhone() {
+        return reservations.search(typoAndPhoneQuery);
+    }
+}
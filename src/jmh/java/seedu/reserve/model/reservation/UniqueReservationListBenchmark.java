@@ -0,0 +1,75 @@
+package seedu.reserve.model.reservation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.reserve.benchutil.ReservationGenerator;
+
+/**
+ * Benchmarks the mutating operations of {@link UniqueReservationList}.
+ * Every benchmark pairs an operation with its inverse so that the list stays at {@code bookSize} reservations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueReservationListBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    private int bookSize;
+
+    private UniqueReservationList reservations;
+    private Reservation existing;
+    private Reservation edited;
+    private Reservation absent;
+
+    @Setup
+    public void setUp() {
+        reservations = new UniqueReservationList();
+        reservations.setReservations(ReservationGenerator.reservations(bookSize));
+        existing = ReservationGenerator.reservation(bookSize / 2);
+        absent = ReservationGenerator.reservation(bookSize);
+        edited = ReservationGenerator.reservation(bookSize + 1);
+    }
+
+    /** Adds a reservation that is not in the list, then removes it again. */
+    @Benchmark
+    public UniqueReservationList addThenRemove() {
+        reservations.add(absent);
+        reservations.remove(absent);
+        return reservations;
+    }
+
+    @Benchmark
+    public UniqueReservationList setReservationAndRevert() {
+        reservations.setReservation(existing, edited);
+        reservations.setReservation(edited, existing);
+        return reservations;
+    }
+
+    /** Removes a reservation from the middle of the list, then adds it back. */
+    @Benchmark
+    public UniqueReservationList removeThenAdd() {
+        reservations.remove(existing);
+        reservations.add(existing);
+        return reservations;
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return reservations.contains(absent);
+    }
+}
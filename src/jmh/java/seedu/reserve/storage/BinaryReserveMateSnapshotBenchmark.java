@@ -0,0 +1,75 @@
+package seedu.reserve.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.reserve.benchutil.ReservationGenerator;
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.model.ReadOnlyReserveMate;
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * Benchmarks reading a reservation book from its {@link BinaryReserveMateSnapshot}, compared with reading the
+ * same book from a compact json data file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryReserveMateSnapshotBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int bookSize;
+
+    private Path tempDir;
+    private JsonReserveMateStorage jsonStorage;
+    private BinaryReserveMateSnapshot snapshot;
+
+    @Setup
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("reservemate-jmh");
+        Path filePath = tempDir.resolve("reservemate.json");
+        jsonStorage = new JsonReserveMateStorage(filePath, true);
+        snapshot = new BinaryReserveMateSnapshot(BinaryReserveMateSnapshot.getSnapshotFilePath(filePath));
+        ReadOnlyReserveMate reserveMate = ReservationGenerator.reserveMate(bookSize);
+        jsonStorage.saveReserveMate(reserveMate);
+        snapshot.save(reserveMate.getReservationList(), List.of(filePath));
+    }
+
+    /** Deletes the snapshot, the data file and the temporary directory. */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshot.getFilePath());
+        Files.deleteIfExists(jsonStorage.getReserveMateFilePath());
+        Files.deleteIfExists(tempDir);
+    }
+
+    @Benchmark
+    public Optional<List<Reservation>> readBinarySnapshot() {
+        return snapshot.read();
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyReserveMate> readJson() throws DataLoadingException {
+        return jsonStorage.readReserveMate();
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.reserve.storage;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.reserve.benchutil.ReservationGenerator;
+import seedu.reserve.commons.exceptions.IllegalValueException;
+
+/**
+ * Benchmarks validating and converting already-parsed records with {@link JsonAdaptedReservation#toModelType()},
+ * the part of loading a data file that runs every field validator once per record.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonAdaptedReservationBenchmark {
+
+    @Param({"1000", "100000"})
+    private int bookSize;
+
+    private List<JsonAdaptedReservation> records;
+
+    @Setup
+    public void setUp() {
+        records = ReservationGenerator.reservations(bookSize).stream()
+                .map(JsonAdaptedReservation::new)
+                .collect(Collectors.toList());
+    }
+
+    /** Converts every json record back into a reservation. */
+    @Benchmark
+    public void toModelType(Blackhole blackhole) throws IllegalValueException {
+        for (JsonAdaptedReservation record : records) {
+            blackhole.consume(record.toModelType());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.reserve.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.reserve.benchutil.ReservationGenerator;
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.commons.util.FileUtil;
+import seedu.reserve.model.ReadOnlyReserveMate;
+import seedu.reserve.model.ReserveMate;
+
+/**
+ * Benchmarks saving and reading a reservation book through {@link JsonReserveMateStorage}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonReserveMateStorageBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    private int bookSize;
+
+    @Param({"false", "true"})
+    private boolean isCompact;
+
+    private Path tempDir;
+    private JsonReserveMateStorage storage;
+    private ReserveMate reserveMate;
+
+    @Setup
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("reservemate-jmh");
+        storage = new JsonReserveMateStorage(tempDir.resolve("reservemate.json"), isCompact);
+        reserveMate = ReservationGenerator.reserveMate(bookSize);
+        storage.saveReserveMate(reserveMate);
+    }
+
+    /** Deletes the data file, its backup and the temporary directory. */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getReserveMateFilePath());
+        Files.deleteIfExists(FileUtil.getBackupFilePath(storage.getReserveMateFilePath()));
+        Files.deleteIfExists(tempDir);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveReserveMate(reserveMate);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyReserveMate> read() throws DataLoadingException {
+        return storage.readReserveMate();
+    }
+}
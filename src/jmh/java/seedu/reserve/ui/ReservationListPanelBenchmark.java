@@ -0,0 +1,98 @@
+package seedu.reserve.ui;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import seedu.reserve.benchutil.ReservationGenerator;
+
+/**
+ * Benchmarks scrolling a {@link ReservationListPanel} of {@code bookSize} reservations by one screen at a time.
+ * Each operation scrolls and lays out the panel on the JavaFX application thread, which is the work done for a
+ * frame while scrolling, so the score is the frame time excluding rendering.
+ * Needs a display, as it starts the JavaFX toolkit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReservationListPanelBenchmark {
+
+    private static final int WIDTH = 600;
+    private static final int HEIGHT = 900;
+
+    @Param({"50000"})
+    private int bookSize;
+
+    private Parent root;
+    private ListView<?> listView;
+    private int firstVisibleIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Platform.startup(() -> {});
+        runOnFxThread(() -> {
+            ReservationListPanel panel = new ReservationListPanel(
+                    FXCollections.observableArrayList(ReservationGenerator.reservations(bookSize)));
+            root = panel.getRoot();
+            new Scene(root, WIDTH, HEIGHT);
+            listView = (ListView<?>) root.lookup("#reservationListView");
+            layOut();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Platform.exit();
+    }
+
+    /** Scrolls the list down by a screen of reservations and lays it out again. */
+    @Benchmark
+    public void scrollOneScreen() throws Exception {
+        runOnFxThread(() -> {
+            // Each card is at least 105 pixels tall, so a screen holds fewer than HEIGHT / 100 reservations
+            firstVisibleIndex = (firstVisibleIndex + HEIGHT / 100) % bookSize;
+            listView.scrollTo(firstVisibleIndex);
+            layOut();
+        });
+    }
+
+    private void layOut() {
+        root.applyCss();
+        root.layout();
+    }
+
+    private static void runOnFxThread(Runnable action) throws InterruptedException, ExecutionException {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                action.run();
+                done.complete(null);
+            } catch (RuntimeException e) {
+                done.completeExceptionally(e);
+            }
+        });
+        done.get();
+    }
+}
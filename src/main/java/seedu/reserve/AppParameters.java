@@ -2,6 +2,7 @@ package seedu.reserve;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -17,7 +18,11 @@ import seedu.reserve.commons.util.ToStringBuilder;
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
+
     private Path configPath;
+    private Path batchPath;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +32,43 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the file of commands to execute without the GUI, or null if the application should start normally.
+     * A path of {@code -} stands for standard input.
+     */
+    public Path getBatchPath() {
+        return batchPath;
+    }
+
+    public void setBatchPath(Path batchPath) {
+        this.batchPath = batchPath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments given to {@code main}, before any JavaFX runtime is started.
+     * Named parameters take the same {@code --name=value} form that JavaFX accepts; other arguments are ignored.
+     */
+    public static AppParameters parse(String... args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf(NAMED_PARAMETER_SEPARATOR);
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separatorIndex > NAMED_PARAMETER_PREFIX.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,6 +77,13 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String batchPathParameter = namedParameters.get("batch");
+        if (batchPathParameter != null && !FileUtil.isValidPath(batchPathParameter)) {
+            logger.warning("Invalid batch file path " + batchPathParameter + ". Starting the GUI instead.");
+            batchPathParameter = null;
+        }
+        appParameters.setBatchPath(batchPathParameter != null ? Paths.get(batchPathParameter) : null);
+
         return appParameters;
     }
 
@@ -56,18 +99,20 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(batchPath, otherAppParameters.batchPath);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchPath);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("batchPath", batchPath)
                 .toString();
     }
 }
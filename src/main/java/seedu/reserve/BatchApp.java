@@ -0,0 +1,92 @@
+package seedu.reserve;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.reserve.commons.core.LogsCenter;
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.commons.util.StringUtil;
+import seedu.reserve.logic.BatchRunner;
+import seedu.reserve.model.ModelManager;
+import seedu.reserve.model.ReadOnlyReserveMate;
+import seedu.reserve.model.ReserveMate;
+import seedu.reserve.model.UserPrefs;
+import seedu.reserve.storage.JournalReserveMateStorage;
+import seedu.reserve.storage.JsonUserPrefsStorage;
+import seedu.reserve.storage.ReserveMateStorage;
+import seedu.reserve.storage.StorageManager;
+import seedu.reserve.storage.UserPrefsStorage;
+
+/**
+ * Runs a script of commands against the reservation book without starting the GUI, e.g. for scripted imports.
+ * Uses the same config, preferences and data file as the GUI, and saves the data file once at the end.
+ */
+public class BatchApp extends MainApp {
+
+    /** Batch path that stands for the standard input. */
+    public static final Path STANDARD_INPUT_PATH = Paths.get("-");
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_FAILURE = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BatchApp.class);
+
+    /**
+     * Executes the commands in {@code appParameters}'s batch file and returns the exit status of the process:
+     * {@code EXIT_SUCCESS} if every command succeeded and the data file was saved, {@code EXIT_FAILURE} otherwise.
+     * Unlike the GUI, an unreadable data file stops the run so that it is never overwritten.
+     */
+    public int run(AppParameters appParameters) {
+        logger.info("=============================[ Running ReserveMate batch ]===========================");
+        config = initConfig(appParameters.getConfigPath());
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        ReserveMateStorage reserveMateStorage = new JournalReserveMateStorage(userPrefs.getReserveMateFilePath());
+        storage = new StorageManager(reserveMateStorage, userPrefsStorage);
+
+        PrintStream out = new PrintStream(new BufferedOutputStream(System.out), false, StandardCharsets.UTF_8);
+        try {
+            Optional<ReadOnlyReserveMate> reserveMateOptional = storage.readReserveMate();
+            model = new ModelManager(reserveMateOptional.orElseGet(ReserveMate::new), userPrefs);
+            model.setReservationArchive(storage);
+
+            BatchRunner.Summary summary;
+            try (BufferedReader commands = openCommands(appParameters.getBatchPath())) {
+                summary = new BatchRunner(model).run(commands, out);
+            }
+
+            if (summary.isModified()) {
+                storage.saveReserveMate(model.getReserveMate());
+            }
+            return summary.failed() == 0 ? EXIT_SUCCESS : EXIT_FAILURE;
+        } catch (DataLoadingException e) {
+            out.println("Data file at " + storage.getReserveMateFilePath() + " could not be loaded: "
+                    + e.getMessage());
+            return EXIT_FAILURE;
+        } catch (IOException e) {
+            logger.severe("Batch run failed " + StringUtil.getDetails(e));
+            out.println("Batch run failed: " + e.getMessage());
+            return EXIT_FAILURE;
+        } finally {
+            out.flush();
+        }
+    }
+
+    private static BufferedReader openCommands(Path batchPath) throws IOException {
+        if (batchPath.equals(STANDARD_INPUT_PATH)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(batchPath, StandardCharsets.UTF_8);
+    }
+}
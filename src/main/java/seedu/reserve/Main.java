@@ -20,11 +20,19 @@ import seedu.reserve.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * When started with {@code --batch=FILE}, the commands in FILE (or the standard
+ * input, if FILE is {@code -}) are executed by {@link BatchApp} and the GUI is
+ * never started.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.getBatchPath() != null) {
+            System.exit(new BatchApp().run(appParameters));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
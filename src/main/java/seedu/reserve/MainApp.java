@@ -2,10 +2,14 @@ package seedu.reserve;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.reserve.commons.core.Config;
 import seedu.reserve.commons.core.LogsCenter;
@@ -15,6 +19,7 @@ import seedu.reserve.commons.util.ConfigUtil;
 import seedu.reserve.commons.util.StringUtil;
 import seedu.reserve.logic.Logic;
 import seedu.reserve.logic.LogicManager;
+import seedu.reserve.logic.commands.exceptions.CommandException;
 import seedu.reserve.model.Model;
 import seedu.reserve.model.ModelManager;
 import seedu.reserve.model.ReadOnlyReserveMate;
@@ -22,7 +27,7 @@ import seedu.reserve.model.ReadOnlyUserPrefs;
 import seedu.reserve.model.ReserveMate;
 import seedu.reserve.model.UserPrefs;
 import seedu.reserve.model.util.SampleDataUtil;
-import seedu.reserve.storage.JsonReserveMateStorage;
+import seedu.reserve.storage.JournalReserveMateStorage;
 import seedu.reserve.storage.JsonUserPrefsStorage;
 import seedu.reserve.storage.ReserveMateStorage;
 import seedu.reserve.storage.Storage;
@@ -46,6 +51,13 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    /** The reservation book being read from storage, which is put into {@code model} once the UI has started. */
+    private CompletableFuture<ReadOnlyReserveMate> initialDataLoading;
+
+    /**
+     * Reads the config and preferences, which locate the data file, and then starts reading the data file on a
+     * background thread so that the UI can be built and shown while the reservation book loads.
+     */
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing ReserveMate ]===========================");
@@ -57,10 +69,17 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        ReserveMateStorage reserveMateStorage = new JsonReserveMateStorage(userPrefs.getReserveMateFilePath());
+        ReserveMateStorage reserveMateStorage = new JournalReserveMateStorage(userPrefs.getReserveMateFilePath());
         storage = new StorageManager(reserveMateStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        initialDataLoading = CompletableFuture.supplyAsync(() -> readInitialData(storage, userPrefs), runnable -> {
+            Thread thread = new Thread(runnable, "ReserveMate-loader");
+            thread.setDaemon(true);
+            thread.start();
+        });
+
+        model = new ModelManager(new ReserveMate(), userPrefs);
+        model.setReservationArchive(storage);
 
         logic = new LogicManager(model, storage);
 
@@ -68,14 +87,14 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s reservation book and
-     * {@code userPrefs}. <br>
+     * Returns the data from {@code storage}'s reservation book. <br>
      * The data from the sample reservation book will be used instead if {@code storage}'s
      * reservation book is not found,
      * or an empty reservation book will be used instead if errors occur when reading
      * {@code storage}'s reservation book.
+     * Reservations older than the archive age in {@code userPrefs} are moved to {@code storage}'s archive.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyReserveMate readInitialData(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getReserveMateFilePath());
 
         Optional<ReadOnlyReserveMate> reserveMateOptional;
@@ -93,7 +112,23 @@ public class MainApp extends Application {
             initialData = new ReserveMate();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return archiveOldReservations(storage, initialData, userPrefs.getArchiveAfterDays());
+    }
+
+    /**
+     * Moves the reservations in {@code initialData} from before the day {@code archiveAfterDays} days ago to
+     * {@code storage}'s archive and returns the remaining reservations.
+     * All of {@code initialData} is returned if archiving fails.
+     */
+    private ReadOnlyReserveMate archiveOldReservations(Storage storage, ReadOnlyReserveMate initialData,
+                                                      int archiveAfterDays) {
+        try {
+            return storage.archiveReservationsBefore(initialData,
+                    LocalDate.now().minusDays(archiveAfterDays).atStartOfDay());
+        } catch (IOException e) {
+            logger.warning("Failed to archive past reservations " + StringUtil.getDetails(e));
+            return initialData;
+        }
     }
 
     private void initLogging(Config config) {
@@ -130,7 +165,8 @@ public class MainApp extends Application {
             initializedConfig = new Config();
         }
 
-        //Update config file in case it was missing to begin with or there are new/unused fields
+        //Update config file in case it was missing to begin with or there are new/unused fields.
+        //The file is left untouched if it is already up to date.
         try {
             ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
         } catch (IOException e) {
@@ -161,7 +197,8 @@ public class MainApp extends Application {
             initializedPrefs = new UserPrefs();
         }
 
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        //Update prefs file in case it was missing to begin with or there are new/unused fields.
+        //The file is left untouched if it is already up to date.
         try {
             storage.saveUserPrefs(initializedPrefs);
         } catch (IOException e) {
@@ -175,11 +212,32 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting ReserveMate " + MainApp.VERSION);
         ui.start(primaryStage);
+        ui.setLoading(true);
+        initialDataLoading.thenAcceptAsync(initialData -> {
+            logic.loadReserveMate(initialData);
+            ui.setLoading(false);
+            logger.info("Loaded " + initialData.getReservationList().size() + " reservations");
+        }, Platform::runLater).whenCompleteAsync((unused, error) -> {
+            if (error == null) {
+                return;
+            }
+            // Reading or loading failed unexpectedly, so the model still holds the empty reservation book
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+            logger.severe("Failed to load the reservation book " + StringUtil.getDetails(cause));
+            ui.setLoadingFailed(cause);
+        }, Platform::runLater);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping ReserveMate ] =============================");
+        try {
+            logic.flush();
+        } catch (CommandException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
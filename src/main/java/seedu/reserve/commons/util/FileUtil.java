@@ -1,10 +1,19 @@
 package seedu.reserve.commons.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Predicate;
 
 /**
  * Writes and reads files
@@ -12,6 +21,9 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+    private static final int LINE_SEARCH_BUFFER_BYTES = 8192;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +87,136 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     *
+     * @see #writeToFile(Path, ContentWriter)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFile(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file, creating the file and its missing parent
+     * directories if needed.
+     * The content is written to a temporary file next to {@code file}, forced to disk, and then moved over
+     * {@code file} in one step, so {@code file} holds either its old or its new content even if the process is
+     * killed midway.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = Channels.newOutputStream(channel);
+            contentWriter.writeTo(out);
+            out.flush();
+            channel.force(true);
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the location where {@link #createBackup(Path)} keeps the previous generation of {@code file}.
+     */
+    public static Path getBackupFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Keeps the current content of {@code file}, if any, at {@link #getBackupFilePath(Path)}.
+     * The backup is a hard link where the file system supports it, so no data is copied.
+     */
+    public static void createBackup(Path file) throws IOException {
+        if (!isFileExists(file)) {
+            return;
+        }
+
+        Path backupFile = getBackupFilePath(file);
+        Files.deleteIfExists(backupFile);
+        try {
+            Files.createLink(backupFile, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Makes {@code file} end with a line terminator, so that lines appended to it later start on a line of their
+     * own. A last line without a terminator, as left by a write interrupted by a crash, is terminated if
+     * {@code isCompleteLine} accepts it and cut off otherwise. Does nothing if {@code file} does not exist.
+     * Only the end of the file is read.
+     *
+     * @return true if the last line was cut off.
+     */
+    public static boolean repairLastLine(Path file, Predicate<String> isCompleteLine) throws IOException {
+        if (!isFileExists(file)) {
+            return false;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            long lastLineStart = findLastLineStart(channel, size);
+            if (lastLineStart == size) {
+                return false;
+            }
+
+            ByteBuffer lastLine = ByteBuffer.allocate(Math.toIntExact(size - lastLineStart));
+            readFully(channel, lastLine, lastLineStart);
+            boolean isCutOff = !isCompleteLine.test(new String(lastLine.array(), StandardCharsets.UTF_8));
+            if (isCutOff) {
+                channel.truncate(lastLineStart);
+            } else {
+                ByteBuffer terminator = ByteBuffer.wrap(System.lineSeparator().getBytes(StandardCharsets.UTF_8));
+                while (terminator.hasRemaining()) {
+                    channel.write(terminator, size + terminator.position());
+                }
+            }
+            channel.force(false);
+            return isCutOff;
+        }
+    }
+
+    /**
+     * Returns the position just after the last line feed in the first {@code size} bytes of {@code channel},
+     * or 0 if there is none.
+     */
+    private static long findLastLineStart(FileChannel channel, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(LINE_SEARCH_BUFFER_BYTES);
+        long end = size;
+        while (end > 0) {
+            long start = Math.max(0, end - buffer.capacity());
+            buffer.clear().limit((int) (end - start));
+            readFully(channel, buffer, start);
+            for (int i = buffer.limit() - 1; i >= 0; i--) {
+                if (buffer.get(i) == '\n') {
+                    return start + i + 1;
+                }
+            }
+            end = start;
+        }
+        return 0;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+    }
+
+    /**
+     * Represents a function that writes the content of a file to the given stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
@@ -0,0 +1,33 @@
+package seedu.reserve.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Shares one instance among equal immutable values, e.g. the occasions of many reservations, so that each
+ * distinct value is kept in memory only once.
+ * Values are held weakly, so a value that is no longer used anywhere else is forgotten.
+ *
+ * @param <T> the type of the values, which must be immutable and implement {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+
+    private final Map<T, WeakReference<T>> instances = new WeakHashMap<>();
+
+    /**
+     * Returns the shared instance equal to {@code value}, making {@code value} the shared instance if there is none.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = instances.get(value);
+        T instance = reference == null ? null : reference.get();
+        if (instance == null) {
+            instances.put(value, new WeakReference<>(value));
+            instance = value;
+        }
+        return instance;
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.reserve.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.reserve.commons.core.LogsCenter;
+import seedu.reserve.logic.commands.Command;
+import seedu.reserve.logic.commands.CommandResult;
+import seedu.reserve.logic.commands.exceptions.CommandException;
+import seedu.reserve.logic.parser.ReserveMateParser;
+import seedu.reserve.logic.parser.exceptions.ParseException;
+import seedu.reserve.model.Model;
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * Executes a script of commands against a {@code Model} without the GUI, one command per line.
+ * Blank lines and lines starting with {@code #} are skipped. A failing command is reported and the
+ * rest of the script still runs; an {@code exit} command stops the script early.
+ * Nothing is saved here, so the caller can save the reservation book once after the whole script has run.
+ */
+public class BatchRunner {
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_SUCCESS_FORMAT = "[%d] OK: %s";
+    public static final String MESSAGE_FAILURE_FORMAT = "[%d] FAILED: %s";
+    public static final String MESSAGE_SUMMARY_FORMAT =
+            "Executed %d commands (%d succeeded, %d failed) in %d ms, %.1f commands/s";
+
+    private final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Model model;
+    private final ReserveMateParser reserveMateParser = new ReserveMateParser();
+
+    /**
+     * Constructs a {@code BatchRunner} that executes commands against the given {@code Model}.
+     */
+    public BatchRunner(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    /**
+     * Executes every command read from {@code commands}, printing the result of each command, labelled with its
+     * line number, and then a throughput summary to {@code out}.
+     *
+     * @throws IOException if the commands could not be read.
+     */
+    public Summary run(BufferedReader commands, PrintStream out) throws IOException {
+        requireNonNull(commands);
+        requireNonNull(out);
+
+        boolean[] isModified = new boolean[1];
+        ListChangeListener<Reservation> modificationListener = change -> isModified[0] = true;
+        model.getReserveMate().getReservationList().addListener(modificationListener);
+
+        int succeeded = 0;
+        int failed = 0;
+        long startTime = System.nanoTime();
+        try {
+            int lineNumber = 0;
+            String commandText;
+            while ((commandText = commands.readLine()) != null) {
+                lineNumber++;
+                commandText = commandText.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                    continue;
+                }
+
+                try {
+                    Command command = reserveMateParser.parseCommand(commandText);
+                    CommandResult commandResult = command.execute(model);
+                    succeeded++;
+                    out.println(String.format(MESSAGE_SUCCESS_FORMAT, lineNumber, commandResult.getFeedbackToUser()));
+                    if (commandResult.isExit()) {
+                        break;
+                    }
+                } catch (CommandException | ParseException e) {
+                    failed++;
+                    out.println(String.format(MESSAGE_FAILURE_FORMAT, lineNumber, e.getMessage()));
+                }
+            }
+        } finally {
+            model.getReserveMate().getReservationList().removeListener(modificationListener);
+        }
+
+        Summary summary = new Summary(succeeded, failed, System.nanoTime() - startTime, isModified[0]);
+        out.println(summary.getMessage());
+        logger.info(summary.getMessage());
+        return summary;
+    }
+
+    /**
+     * The outcome of running a script of commands.
+     *
+     * @param succeeded Number of commands that executed successfully.
+     * @param failed Number of commands that could not be parsed or executed.
+     * @param elapsedNanos Time taken to execute all commands, in nanoseconds.
+     * @param isModified Whether any command changed the reservation book.
+     */
+    public record Summary(int succeeded, int failed, long elapsedNanos, boolean isModified) {
+
+        /**
+         * Returns the total number of commands executed.
+         */
+        public int total() {
+            return succeeded + failed;
+        }
+
+        /**
+         * Returns a message summarising the number of commands executed and the throughput achieved.
+         */
+        public String getMessage() {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            double commandsPerSecond = elapsedNanos == 0 ? 0 : total() * 1e9 / elapsedNanos;
+            return String.format(MESSAGE_SUMMARY_FORMAT, total(), succeeded, failed, elapsedMillis,
+                    commandsPerSecond);
+        }
+    }
+}
@@ -1,13 +1,14 @@
 package seedu.reserve.logic;
 
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.reserve.commons.core.GuiSettings;
 import seedu.reserve.logic.commands.CommandResult;
 import seedu.reserve.logic.commands.exceptions.CommandException;
 import seedu.reserve.logic.parser.exceptions.ParseException;
+import seedu.reserve.model.ReadOnlyReservationStatistics;
 import seedu.reserve.model.ReadOnlyReserveMate;
 import seedu.reserve.model.reservation.Reservation;
 
@@ -24,6 +25,30 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands in {@code commandTexts} in order, as a single all-or-nothing batch.
+     * The commands are applied to a staging copy of the model; only if all of them succeed are their
+     * changes applied to the model, in a single change, and saved once.
+     * @return the results of the commands, in order.
+     * @throws CommandException If a command cannot be parsed or fails to execute, in which case none of
+     *     the commands take effect, or if the changes could not be saved.
+     */
+    List<CommandResult> executeBatch(List<String> commandTexts) throws CommandException;
+
+    /**
+     * Blocks until all changes made by executed commands have been saved to storage.
+     * @throws CommandException If the latest save failed.
+     */
+    void flush() throws CommandException;
+
+    /**
+     * Replaces the reservation book with {@code reserveMate}, which was read from storage.
+     * The replacement is not saved back to storage and cannot be undone.
+     *
+     * @see seedu.reserve.model.Model#loadReserveMate(ReadOnlyReserveMate)
+     */
+    void loadReserveMate(ReadOnlyReserveMate reserveMate);
+
     /**
      * Returns the ReserveMate.
      *
@@ -34,8 +59,8 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of reservations */
     ObservableList<Reservation> getFilteredReservationList();
 
-    /** Returns a Hash Map of reservation statistics from model */
-    HashMap<String, Integer> getReservationStatistics();
+    /** Returns a read-only view of the reservation statistics from model */
+    ReadOnlyReservationStatistics getReservationStatistics();
 
     /**
      * Returns the user prefs' reservation book file path.
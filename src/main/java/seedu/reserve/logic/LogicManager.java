@@ -1,11 +1,15 @@
 package seedu.reserve.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.reserve.commons.core.GuiSettings;
 import seedu.reserve.commons.core.LogsCenter;
@@ -15,8 +19,11 @@ import seedu.reserve.logic.commands.exceptions.CommandException;
 import seedu.reserve.logic.parser.ReserveMateParser;
 import seedu.reserve.logic.parser.exceptions.ParseException;
 import seedu.reserve.model.Model;
+import seedu.reserve.model.ReadOnlyReservationStatistics;
 import seedu.reserve.model.ReadOnlyReserveMate;
 import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.storage.BackgroundReserveMateSaver;
+import seedu.reserve.storage.ReserveMateChanges;
 import seedu.reserve.storage.Storage;
 
 /**
@@ -28,19 +35,53 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_BATCH_FAILED =
+            "Command %1$d of the batch (%2$s) failed, so no changes were made: %3$s";
+
+    public static final String MESSAGE_OVER_UNDO_HISTORY_LIMIT = "Note: this change is larger than the undo "
+            + "history limit of %1$d reservations, so it can only be undone until the next change is made.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final ReserveMateParser reserveMateParser;
+    private final BackgroundReserveMateSaver reserveMateSaver;
+
+    /** Changes made to the reservation book since it was last scheduled to be saved. */
+    private ReserveMateChanges unsavedChanges = new ReserveMateChanges();
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
         reserveMateParser = new ReserveMateParser();
+        reserveMateSaver = new BackgroundReserveMateSaver(storage, model.getReserveMate().getReservationList());
+        model.getReserveMate().getReservationList().addListener((ListChangeListener<Reservation>) this::recordChanges);
+    }
+
+    /**
+     * Records the reservations added to and removed from the reservation book by {@code change}, to be saved.
+     * A change that replaces every reservation, such as clearing the book, is recorded as removing them all at
+     * once. Loading the book through {@link #loadReserveMate(ReadOnlyReserveMate)} is not recorded.
+     */
+    private void recordChanges(ListChangeListener.Change<? extends Reservation> change) {
+        while (change.next()) {
+            if (change.wasRemoved() && change.getAddedSize() == change.getList().size()) {
+                unsavedChanges.recordClear();
+            } else {
+                change.getRemoved().forEach(unsavedChanges::recordRemove);
+            }
+            change.getAddedSubList().forEach(unsavedChanges::recordAdd);
+        }
+    }
+
+    @Override
+    public void loadReserveMate(ReadOnlyReserveMate reserveMate) {
+        requireNonNull(reserveMate);
+        model.loadReserveMate(reserveMate);
+        unsavedChanges = new ReserveMateChanges();
+        reserveMateSaver.resetSavedReservations(model.getReserveMate().getReservationList());
     }
 
     @Override
@@ -48,18 +89,89 @@ public class LogicManager implements Logic {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
+        boolean isWithinUndoHistoryLimit;
         Command command = reserveMateParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            isWithinUndoHistoryLimit = model.commitReserveMate();
+        }
+
+        saveIfDirty();
+        return isWithinUndoHistoryLimit ? commandResult : withUndoHistoryLimitNote(commandResult);
+    }
+
+    @Override
+    public List<CommandResult> executeBatch(List<String> commandTexts) throws CommandException {
+        requireNonNull(commandTexts);
+        logger.info("----------------[USER BATCH][" + commandTexts.size() + " commands]");
+
+        Model stagingModel = model.createStagingCopy();
+        List<CommandResult> commandResults = new ArrayList<>(commandTexts.size());
+        for (int i = 0; i < commandTexts.size(); i++) {
+            String commandText = commandTexts.get(i);
+            try {
+                Command command = reserveMateParser.parseCommand(commandText);
+                commandResults.add(command.execute(stagingModel));
+            } catch (CommandException | ParseException e) {
+                logger.info("Batch rolled back at command " + (i + 1) + ": " + e.getMessage());
+                throw new CommandException(String.format(MESSAGE_BATCH_FAILED, i + 1, commandText, e.getMessage()), e);
+            }
+        }
+
+        model.commitStagingCopy(stagingModel);
+        boolean isWithinUndoHistoryLimit = model.commitReserveMate();
+        saveIfDirty();
+        if (!isWithinUndoHistoryLimit && !commandResults.isEmpty()) {
+            int lastIndex = commandResults.size() - 1;
+            commandResults.set(lastIndex, withUndoHistoryLimitNote(commandResults.get(lastIndex)));
+        }
+        return commandResults;
+    }
+
+    /**
+     * Returns {@code commandResult} with a note that its change cannot be kept in the undo history.
+     */
+    private CommandResult withUndoHistoryLimitNote(CommandResult commandResult) {
+        String note = String.format(MESSAGE_OVER_UNDO_HISTORY_LIMIT, model.getUserPrefs().getUndoHistoryLimit());
+        return new CommandResult(commandResult.getFeedbackToUser() + "\n" + note, commandResult.isShowUserGuide(),
+                commandResult.isShowStatistics(), commandResult.isExit());
+    }
+
+    /**
+     * Schedules a save if the reservation book has changed since the last one,
+     * and reports the error of any earlier save that failed.
+     */
+    private void saveIfDirty() throws CommandException {
+        if (!unsavedChanges.isEmpty()) {
+            reserveMateSaver.scheduleSave(unsavedChanges);
+            unsavedChanges = new ReserveMateChanges();
+        }
 
         try {
-            storage.saveReserveMate(model.getReserveMate());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            reserveMateSaver.checkSaveError();
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw toCommandException(ioe);
         }
+    }
+
+    @Override
+    public void flush() throws CommandException {
+        try {
+            reserveMateSaver.flush();
+        } catch (IOException ioe) {
+            throw toCommandException(ioe);
+        }
+    }
 
-        return commandResult;
+    /**
+     * Wraps an error from saving the reservation book in a {@code CommandException} to be shown to the user.
+     */
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
     }
 
     @Override
@@ -73,7 +185,7 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public HashMap<String, Integer> getReservationStatistics() {
+    public ReadOnlyReservationStatistics getReservationStatistics() {
         return model.getReservationStatistics();
     }
 
@@ -26,6 +26,9 @@ public class Messages {
             + "For example, use 'John' instead of just 'Jo'.";
     public static final String MESSAGE_DUPLICATE_RESERVATION =
             "A reservation already exists for this customer (same email or phone) at the chosen date-time.";
+    public static final String MESSAGE_ARCHIVED_RESERVATION =
+            "Archived reservations cannot be changed. Use 'list' to show the reservations that can be.";
+    public static final String MESSAGE_ARCHIVE_LOADING_FAILED = "Could not read the archived reservations: %1$s";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -51,7 +54,7 @@ public class Messages {
                 .append("Email: ")
                 .append(reservation.getEmail().value).append("\n")
                 .append("Number of Diners: ")
-                .append(reservation.getDiners().value).append("\n")
+                .append(reservation.getDiners()).append("\n")
                 .append("Date/Time: ")
                 .append(reservation.getDateTime().toString()).append("\n")
                 .append("Preference: ")
@@ -0,0 +1,51 @@
+package seedu.reserve.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.reserve.model.Model.PREDICATE_SHOW_ALL_RESERVATIONS;
+
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.logic.Messages;
+import seedu.reserve.logic.commands.exceptions.CommandException;
+import seedu.reserve.model.Model;
+
+/**
+ * Lists all reservations, including the past reservations that have been moved to the archive.
+ */
+public class ArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "archive";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists all reservations, including archived past reservations, from oldest to newest.\n\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Listed all reservations, including archived ones. "
+            + "Archived reservations cannot be changed.";
+    public static final String MESSAGE_NO_ARCHIVED_RESERVATIONS =
+            "There are no archived reservations. Listed all reservations.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        try {
+            model.updateFilteredReservationListIncludingArchive(PREDICATE_SHOW_ALL_RESERVATIONS);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(Messages.MESSAGE_ARCHIVE_LOADING_FAILED, e.getMessage()), e);
+        }
+
+        if (!model.isShowingArchivedReservations()) {
+            return new CommandResult(MESSAGE_NO_ARCHIVED_RESERVATIONS);
+        }
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        return other instanceof ArchiveCommand;
+    }
+}
@@ -74,6 +74,9 @@ public class DeleteCommand extends Command {
         }
 
         Reservation reservationToDelete = lastShownList.get(targetIndex.getZeroBased());
+        if (!model.hasReservation(reservationToDelete)) {
+            throw new CommandException(Messages.MESSAGE_ARCHIVED_RESERVATION);
+        }
 
         if (!isConfirmed) {
             throw new CommandException(String.format(MESSAGE_CONFIRM_DELETE, this.targetIndex.getOneBased()));
@@ -85,7 +85,7 @@ public class EditCommand extends Command {
      */
     private boolean isDateTimeBeforeCurrentTime(DateTime dateTime) {
         LocalDateTime currentDateTime = LocalDateTime.now();
-        return dateTime.value.isBefore(currentDateTime);
+        return dateTime.toLocalDateTime().isBefore(currentDateTime);
     }
     private boolean isDuplicateReservation(Model model, int selfIndex, Reservation edited) {
         List<Reservation> reservations = model.getFilteredReservationList();
@@ -108,15 +108,18 @@ public class EditCommand extends Command {
         }
 
         Reservation reservationToEdit = lastShownList.get(index.getZeroBased());
+        if (!model.hasReservation(reservationToEdit)) {
+            throw new CommandException(Messages.MESSAGE_ARCHIVED_RESERVATION);
+        }
         Reservation editedReservation = createEditedReservation(reservationToEdit, editReservationDescriptor);
 
         if (isDateTimeBeforeCurrentTime(reservationToEdit.getDateTime())) {
             out = MESSAGE_EDIT_RESERVATION_WARNING;
         } else {
-            if (!DateTime.isValidDateTime(editedReservation.getDateTime().toString())
+            if (!editedReservation.getDateTime().isBookable()
                     && isDateTimeBeforeCurrentTime(editedReservation.getDateTime())) {
                 throw new CommandException(MESSAGE_CANNOT_CHANGE_FUTURE_TO_PAST + DateTime.MESSAGE_CONSTRAINTS);
-            } else if (!DateTime.isValidDateTime(editedReservation.getDateTime().toString())) {
+            } else if (!editedReservation.getDateTime().isBookable()) {
                 throw new CommandException(DateTime.MESSAGE_CONSTRAINTS);
             }
         }
@@ -4,7 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_END_DATE;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_START_DATE;
 
+import java.time.LocalDateTime;
+
+import seedu.reserve.commons.exceptions.DataLoadingException;
 import seedu.reserve.commons.util.ToStringBuilder;
+import seedu.reserve.logic.Messages;
 import seedu.reserve.logic.commands.exceptions.CommandException;
 import seedu.reserve.model.Model;
 import seedu.reserve.model.reservation.DateTime;
@@ -12,6 +16,7 @@ import seedu.reserve.model.reservation.ReservationBetweenDatePredicate;
 
 /**
  * Filters all reservations which are between a {@code startDate} and {@code endDate} provided by the user.
+ * Archived reservations are included if the range starts in the past.
  */
 public class FilterCommand extends Command {
 
@@ -37,7 +42,15 @@ public class FilterCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredReservationList(predicate);
+        if (predicate.getStartDate().toLocalDateTime().isBefore(LocalDateTime.now())) {
+            try {
+                model.updateFilteredReservationListIncludingArchive(predicate);
+            } catch (DataLoadingException e) {
+                throw new CommandException(String.format(Messages.MESSAGE_ARCHIVE_LOADING_FAILED, e.getMessage()), e);
+            }
+        } else {
+            model.updateFilteredReservationList(predicate);
+        }
         if (model.getFilteredReservationList().isEmpty()) {
             return new CommandResult(MESSAGE_NO_RESERVATIONS_FILTER);
         }
@@ -2,15 +2,24 @@ package seedu.reserve.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.reserve.logic.Messages.MESSAGE_NO_RESERVATIONS;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.Objects;
 
 import seedu.reserve.commons.util.ToStringBuilder;
 import seedu.reserve.logic.Messages;
 import seedu.reserve.model.Model;
 import seedu.reserve.model.reservation.NameContainsKeywordsPredicate;
+import seedu.reserve.model.reservation.ReservationQuery;
+import seedu.reserve.model.reservation.ReservationSearchResult;
 
 /**
  * Finds and lists all reservations in reservation book whose name contains any of the argument keywords.
  * Keyword matching is case-insensitive.
+ * Alternatively, searches reservations by name, phone and email with a {@code ReservationQuery}, listing the
+ * closest matches first.
  */
 public class FindCommand extends Command {
 
@@ -19,19 +28,44 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all reservations whose names contain any of "
             + "the specified keywords (case-insensitive).\n\n"
             + "Parameters: NAME [MORE_NAMES]...\n\n"
-            + "Example: " + COMMAND_WORD + " alice Bob Charlie";
-
+            + "Example: " + COMMAND_WORD + " alice Bob Charlie\n\n"
+            + "Search mode: finds reservations whose names start with or nearly match any of the given words, "
+            + "whose phone numbers contain the given digits and whose emails start with the given text, "
+            + "listing the closest matches first.\n\n"
+            + "Parameters: [" + PREFIX_NAME + "NAME [MORE_NAMES]...] [" + PREFIX_PHONE + "DIGITS] ["
+            + PREFIX_EMAIL + "EMAIL_START]\n\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "alce " + PREFIX_PHONE + "9435";
 
     private final NameContainsKeywordsPredicate predicate;
+    private final ReservationQuery query;
 
+    /**
+     * Creates a FindCommand that lists the reservations whose names contain any of the keywords of {@code predicate}.
+     */
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
         this.predicate = predicate;
+        this.query = null;
+    }
+
+    /**
+     * Creates a FindCommand that lists the reservations matching {@code query}, closest matches first.
+     */
+    public FindCommand(ReservationQuery query) {
+        requireNonNull(query);
+        this.predicate = null;
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredReservationList(predicate);
+        if (query != null) {
+            ReservationSearchResult result = model.searchReservations(query);
+            model.updateFilteredReservationList(result, result.getComparator());
+        } else {
+            model.updateFilteredReservationList(model.getNameContainsAnyPredicate(predicate.getLowerCaseKeywords()));
+        }
         if (model.getFilteredReservationList().isEmpty()) {
             return new CommandResult(MESSAGE_NO_RESERVATIONS);
         }
@@ -52,13 +86,16 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return Objects.equals(predicate, otherFindCommand.predicate)
+                && Objects.equals(query, otherFindCommand.query);
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this)
-                .add("predicate", predicate)
-                .toString();
+        ToStringBuilder toStringBuilder = new ToStringBuilder(this);
+        if (query != null) {
+            return toStringBuilder.add("query", query).toString();
+        }
+        return toStringBuilder.add("predicate", predicate).toString();
     }
 }
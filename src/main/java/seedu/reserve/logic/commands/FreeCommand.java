@@ -2,9 +2,9 @@ package seedu.reserve.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_DATE_TIME;
-import static seedu.reserve.model.Model.PREDICATE_SHOW_ALL_RESERVATIONS;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_END_DATE;
 
-import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -12,11 +12,10 @@ import java.util.List;
 import java.util.logging.Logger;
 
 import seedu.reserve.commons.core.LogsCenter;
+import seedu.reserve.commons.util.ToStringBuilder;
 import seedu.reserve.logic.commands.exceptions.CommandException;
 import seedu.reserve.model.Model;
 import seedu.reserve.model.reservation.DateTime;
-import seedu.reserve.model.reservation.Reservation;
-import seedu.reserve.model.reservation.ReservationBetweenDatePredicate;
 
 /**
  * Display all free time slots to the user.
@@ -25,19 +24,18 @@ public class FreeCommand extends Command {
 
     public static final String COMMAND_WORD = "free";
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Find all free time slots in a given day\n\n"
-            + "Parameters: " + PREFIX_DATE_TIME + "DATE\n\n"
-            + "Example: " + COMMAND_WORD + " d/2025-05-01";
+            + ": Find all free time slots in a given day, or in every day of a given date range\n\n"
+            + "Parameters: " + PREFIX_DATE_TIME + "DATE [" + PREFIX_END_DATE + "END DATE]\n\n"
+            + "Example: " + COMMAND_WORD + " d/2025-05-01 or " + COMMAND_WORD + " d/2025-05-01 ed/2025-05-03";
     public static final String MESSAGE_NO_FREE_SLOTS = "No available free time slots found.";
     public static final String MESSAGE_ALL_FREE_SLOTS = "All timings are available on this date.";
+    public static final String MESSAGE_ALL_FREE_SLOTS_IN_RANGE = "All timings are available in this date range.";
     private static final Logger logger = LogsCenter.getLogger(FreeCommand.class);
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
-    private static final int MIN_SLOT_DURATION_HOURS = 1;
-    private static final int DAYS_TO_ADD = 1;
+    private static final int HOURS_PER_DAY = 24;
 
-    private final ReservationBetweenDatePredicate predicate;
-    private final LocalDateTime searchStart;
-    private final LocalDateTime searchEnd;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
 
     /**
      * Constructs a FreeCommand for the specified date/time.
@@ -45,79 +43,62 @@ public class FreeCommand extends Command {
      * @param date The starting date/time to search for free slots
      */
     public FreeCommand(DateTime date) {
-        requireNonNull(date);
-        this.searchStart = date.value;
-        this.searchEnd = date.value.plusDays(DAYS_TO_ADD);
-        this.predicate = new ReservationBetweenDatePredicate(date,
-                new DateTime(this.searchEnd.format(FORMATTER)));
-        logger.fine("Created FreeCommand for date: " + date);
+        this(date, date);
+    }
+
+    /**
+     * Constructs a FreeCommand that searches every day from {@code startDate} to {@code endDate}, inclusive.
+     *
+     * @param startDate The first day to search for free slots
+     * @param endDate The last day to search for free slots, not before {@code startDate}
+     */
+    public FreeCommand(DateTime startDate, DateTime endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        this.startDate = startDate.toLocalDate();
+        this.endDate = endDate.toLocalDate();
+        assert !this.endDate.isBefore(this.startDate);
+        logger.fine("Created FreeCommand for dates: " + startDate + " to " + endDate);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredReservationList(predicate);
 
-        List<Reservation> reservations = new ArrayList<>(model.getFilteredReservationList());
-        if (reservations.isEmpty()) {
-            model.updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
-            return new CommandResult(MESSAGE_ALL_FREE_SLOTS);
+        List<TimeSlot> freeSlots = new ArrayList<>();
+        boolean hasReservations = false;
+        LocalDateTime freeSlotStart = null;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            int occupiedHours = model.getOccupiedHours(date);
+            hasReservations |= occupiedHours != 0;
+            for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+                boolean isOccupied = (occupiedHours & (1 << hour)) != 0;
+                if (isOccupied && freeSlotStart != null) {
+                    freeSlots.add(new TimeSlot(freeSlotStart, date.atTime(hour, 0)));
+                    freeSlotStart = null;
+                } else if (!isOccupied && freeSlotStart == null) {
+                    freeSlotStart = date.atTime(hour, 0);
+                }
+            }
+        }
+        if (freeSlotStart != null) {
+            freeSlots.add(new TimeSlot(freeSlotStart, endDate.plusDays(1).atStartOfDay()));
+        }
+
+        if (!hasReservations) {
+            return new CommandResult(startDate.equals(endDate) ? MESSAGE_ALL_FREE_SLOTS
+                    : MESSAGE_ALL_FREE_SLOTS_IN_RANGE);
         }
 
-        List<TimeSlot> freeSlots = getAllFreeSlots(reservations);
         if (freeSlots.isEmpty()) {
             logger.info("No free time slots available");
-            model.updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
             return new CommandResult(MESSAGE_NO_FREE_SLOTS);
         }
 
-        model.updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
         logger.info("Found free time slots: " + freeSlots.size());
-
         return new CommandResult(formatFreeSlots(freeSlots));
     }
 
-    /**
-     * Calculates all available free time slots between reservations.
-     *
-     * @param reservations The list of reservations to check against
-     * @return List of available time slots (each at least 1 hour long)
-     */
-    private List<TimeSlot> getAllFreeSlots(List<Reservation> reservations) {
-        requireNonNull(reservations);
-        List<TimeSlot> freeSlots = new ArrayList<>();
-
-        // Check slot before first reservation
-        LocalDateTime firstReservationStart = reservations.get(0).getDateTime().value;
-        addSlotIfValid(freeSlots, searchStart, firstReservationStart);
-
-        // Check slots between reservations
-        LocalDateTime previousEnd = firstReservationStart.plusHours(MIN_SLOT_DURATION_HOURS);
-        for (int i = 1; i < reservations.size(); i++) {
-            LocalDateTime currentStart = reservations.get(i).getDateTime().value;
-            addSlotIfValid(freeSlots, previousEnd, currentStart);
-            previousEnd = currentStart.plusHours(1);
-        }
-
-        // Check slot after last reservation
-        addSlotIfValid(freeSlots, previousEnd, searchEnd);
-
-        return freeSlots;
-    }
-
-    /**
-     * Adds a time slot to the list if it meets minimum duration requirements.
-     *
-     * @param slots The list to add valid slots to
-     * @param start The proposed start time
-     * @param end The proposed end time
-     */
-    private void addSlotIfValid(List<TimeSlot> slots, LocalDateTime start, LocalDateTime end) {
-        if (start.isBefore(end) && Duration.between(start, end).toHours() >= 1) {
-            slots.add(new TimeSlot(start, end));
-        }
-    }
-
     /**
      * Formats the list of free slots into a user-friendly message.
      *
@@ -158,6 +139,15 @@ public class FreeCommand extends Command {
         }
 
         FreeCommand otherFreeCommand = (FreeCommand) other;
-        return this.predicate.equals(otherFreeCommand.predicate);
+        return startDate.equals(otherFreeCommand.startDate)
+                && endDate.equals(otherFreeCommand.endDate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("startDate", startDate)
+                .add("endDate", endDate)
+                .toString();
     }
 }
@@ -25,7 +25,10 @@ public class HelpCommand extends Command {
         + "10. free - Display all free time slots to the user \n"
         + "11. filter - Filters all reservations which are between the two dates provided by the user \n"
         + "12. clear - Deletes all reservations \n"
-        + "13. exit - Exit the program";
+        + "13. undo - Undo the last change to the reservations \n"
+        + "14. redo - Redo the last undone change \n"
+        + "15. archive - Display all reservations, including archived past reservations \n"
+        + "16. exit - Exit the program";
 
     @Override
     public CommandResult execute(Model model) {
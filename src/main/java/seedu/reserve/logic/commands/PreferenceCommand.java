@@ -52,6 +52,9 @@ public class PreferenceCommand extends Command {
 
         Reservation reservationToEdit = lastShownList.get(index.getZeroBased());
         assert reservationToEdit != null : MESSAGE_INVALID_INDEX;
+        if (!model.hasReservation(reservationToEdit)) {
+            throw new CommandException(Messages.MESSAGE_ARCHIVED_RESERVATION);
+        }
 
         return executeSavePreference(model, reservationToEdit);
     }
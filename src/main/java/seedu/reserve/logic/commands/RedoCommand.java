@@ -0,0 +1,44 @@
+package seedu.reserve.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.reserve.model.Model.PREDICATE_SHOW_ALL_RESERVATIONS;
+
+import seedu.reserve.logic.commands.exceptions.CommandException;
+import seedu.reserve.model.Model;
+
+/**
+ * Restores the reservation book to its state before the last undo.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Restores the reservation book to its state before the last undo.\n\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Redid the last undone change to the reservation book.";
+    public static final String MESSAGE_FAILURE = "There is nothing to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoReserveMate()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoReserveMate();
+        model.updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        return other instanceof RedoCommand;
+    }
+}
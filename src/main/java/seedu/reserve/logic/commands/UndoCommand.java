@@ -0,0 +1,44 @@
+package seedu.reserve.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.reserve.model.Model.PREDICATE_SHOW_ALL_RESERVATIONS;
+
+import seedu.reserve.logic.commands.exceptions.CommandException;
+import seedu.reserve.model.Model;
+
+/**
+ * Reverts the reservation book to its state before the last command that changed it.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Reverts the reservation book to its state before the last command that changed it.\n\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Undid the last change to the reservation book.";
+    public static final String MESSAGE_FAILURE = "There is nothing to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoReserveMate()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoReserveMate();
+        model.updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        return other instanceof UndoCommand;
+    }
+}
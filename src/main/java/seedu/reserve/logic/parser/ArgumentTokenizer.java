@@ -1,9 +1,6 @@
 package seedu.reserve.logic.parser;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,9 +9,24 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * 4. Prefixes are matched case-insensitively, and only where they follow a space.<br>
+ * A parser that tokenizes with the same prefixes every time should keep an {@code ArgumentTokenizer} for them,
+ * so that the trie of the prefixes is built once.
  */
 public class ArgumentTokenizer {
 
+    /** Key under which the preamble is stored in an {@code ArgumentMultimap}. */
+    static final Prefix PREAMBLE = new Prefix("");
+
+    private final PrefixTrie prefixTrie;
+
+    /**
+     * Creates an {@code ArgumentTokenizer} that recognizes only the given prefixes.
+     */
+    public ArgumentTokenizer(Prefix... prefixes) {
+        prefixTrie = new PrefixTrie(prefixes);
+    }
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -22,128 +34,116 @@ public class ArgumentTokenizer {
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
+     * @see #tokenize(String)
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
+        return new ArgumentTokenizer(prefixes).tokenize(argsString);
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
+     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps the prefixes of this
+     * tokenizer to their respective argument values.
+     * The arguments string is scanned once, and each value is added to the map as soon as its end is found.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-        }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        String lowerCaseArgsString = argsString.toLowerCase();
-        String lowerCasePrefix = prefix.toLowerCase();
-        int prefixIndex = lowerCaseArgsString.indexOf(" " + lowerCasePrefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    public ArgumentMultimap tokenize(String argsString) {
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+
+        Prefix currentPrefix = PREAMBLE;
+        int valueStartPosition = 0;
+        int position = 1;
+        while (position < argsString.length()) {
+            Prefix prefix = argsString.charAt(position - 1) == ' '
+                    ? prefixTrie.findPrefixAt(argsString, position)
+                    : null;
+            if (prefix == null) {
+                position++;
+                continue;
+            }
+
+            argMultimap.put(currentPrefix, argsString.substring(valueStartPosition, position).trim());
+            currentPrefix = prefix;
+            position += prefix.getPrefix().length();
+            valueStartPosition = position;
         }
+        argMultimap.put(currentPrefix, argsString.substring(Math.min(valueStartPosition, argsString.length())).trim());
 
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
-     */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
-    }
-
-    /**
-     * Represents a prefix's position in an arguments string.
+     * A trie of the lower-cased characters of a set of prefixes, used to find which prefix, if any,
+     * starts at a given position of an arguments string without building any substrings.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+    private static class PrefixTrie {
+        private final Node root = new Node();
+
+        PrefixTrie(Prefix... prefixes) {
+            for (Prefix prefix : prefixes) {
+                String prefixString = prefix.getPrefix();
+                if (prefixString.isEmpty()) {
+                    continue;
+                }
+                Node node = root;
+                for (int i = 0; i < prefixString.length(); i++) {
+                    node = node.getOrAddChild(Character.toLowerCase(prefixString.charAt(i)));
+                }
+                node.prefix = prefix;
+            }
         }
 
-        int getStartPosition() {
-            return startPosition;
+        /**
+         * Returns the longest prefix that starts at {@code position} of {@code argsString}, ignoring case,
+         * or null if there is none.
+         */
+        Prefix findPrefixAt(String argsString, int position) {
+            Prefix longestMatch = null;
+            Node node = root;
+            for (int i = position; i < argsString.length(); i++) {
+                node = node.getChild(Character.toLowerCase(argsString.charAt(i)));
+                if (node == null) {
+                    break;
+                }
+                if (node.prefix != null) {
+                    longestMatch = node.prefix;
+                }
+            }
+            return longestMatch;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        /**
+         * A node of the trie. Children are kept in small parallel arrays as only a handful of prefixes
+         * are recognised at a time.
+         */
+        private static class Node {
+            private char[] keys = new char[0];
+            private Node[] children = new Node[0];
+            private Prefix prefix;
+
+            Node getChild(char key) {
+                for (int i = 0; i < keys.length; i++) {
+                    if (keys[i] == key) {
+                        return children[i];
+                    }
+                }
+                return null;
+            }
+
+            Node getOrAddChild(char key) {
+                Node child = getChild(key);
+                if (child != null) {
+                    return child;
+                }
+
+                int size = keys.length;
+                keys = Arrays.copyOf(keys, size + 1);
+                children = Arrays.copyOf(children, size + 1);
+                keys[size] = key;
+                children[size] = new Node();
+                return children[size];
+            }
         }
     }
 
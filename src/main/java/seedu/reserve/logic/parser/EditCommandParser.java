@@ -26,6 +26,9 @@ import seedu.reserve.model.occasion.Occasion;
  */
 public class EditCommandParser implements Parser<EditCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_DATE_TIME, PREFIX_NUMBER_OF_DINERS, PREFIX_OCCASION);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
      * and returns an EditCommand object for execution.
@@ -33,9 +36,7 @@ public class EditCommandParser implements Parser<EditCommand> {
      */
     public EditCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_DATE_TIME,
-                        PREFIX_NUMBER_OF_DINERS, PREFIX_OCCASION);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
 
         Index index;
 
@@ -16,6 +16,8 @@ public class FilterCommandParser implements Parser<FilterCommand> {
 
     public static final String MESSAGE_INVALID_ORDER = "Start date must be before end date";
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_START_DATE, PREFIX_END_DATE);
+
     /**
      * Parses the given {@code String} of arguments in the context of the FilterCommand
      * and returns a FilterCommand object for execution.
@@ -24,8 +26,7 @@ public class FilterCommandParser implements Parser<FilterCommand> {
      */
     @Override
     public FilterCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_START_DATE, PREFIX_END_DATE);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_START_DATE, PREFIX_END_DATE)
                 || !argMultimap.getPreamble().isEmpty()) {
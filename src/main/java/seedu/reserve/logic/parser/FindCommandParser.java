@@ -1,13 +1,18 @@
 package seedu.reserve.logic.parser;
 
 import static seedu.reserve.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_PHONE;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import seedu.reserve.logic.commands.FindCommand;
 import seedu.reserve.logic.parser.exceptions.ParseException;
 import seedu.reserve.model.reservation.NameContainsKeywordsPredicate;
+import seedu.reserve.model.reservation.ReservationQuery;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -17,10 +22,25 @@ public class FindCommandParser implements Parser<FindCommand> {
     public static final String MESSAGE_INVALID_NAME = "Invalid name format. Name should contain only letters.";
     public static final String MESSAGE_SHORT_NAME = "Invalid name. The name must have at least 2 characters.";
     public static final String MESSAGE_LONG_NAME = "Invalid name. The name must be 50 characters or less.";
+    public static final String MESSAGE_INVALID_PHONE = "Invalid phone number. Search for "
+            + ReservationQuery.MIN_PHONE_DIGITS + " to 8 digits of a phone number.";
+    public static final String MESSAGE_INVALID_EMAIL = "Invalid email. Search for the start of an email address, "
+            + "without spaces.";
+
+    private static final String NAME_KEYWORD_REGEX = "[A-Za-z]+";
+    private static final String PHONE_DIGITS_REGEX = "\\d{" + ReservationQuery.MIN_PHONE_DIGITS + ",8}";
+    private static final String EMAIL_PREFIX_REGEX = "\\S+";
+    private static final Pattern NAME_KEYWORD_PATTERN = Pattern.compile(NAME_KEYWORD_REGEX);
+    private static final Pattern PHONE_DIGITS_PATTERN = Pattern.compile(PHONE_DIGITS_REGEX);
+    private static final Pattern EMAIL_PREFIX_PATTERN = Pattern.compile(EMAIL_PREFIX_REGEX);
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL);
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
+     * Arguments with any of the name, phone or email prefixes are parsed as a search, and other arguments as
+     * name keywords.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
@@ -31,13 +51,52 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
+        if (ParserUtil.isAnyPrefixPresent(argMultimap, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL)) {
+            return parseSearch(argMultimap);
+        }
+
+        return new FindCommand(new NameContainsKeywordsPredicate(parseNameKeywords(trimmedArgs)));
+    }
+
+    private static FindCommand parseSearch(ArgumentMultimap argMultimap) throws ParseException {
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL);
+
+        List<String> nameKeywords = argMultimap.getValue(PREFIX_NAME).isPresent()
+                ? parseNameKeywords(argMultimap.getValue(PREFIX_NAME).get().trim())
+                : List.of();
+
+        String phoneDigits = null;
+        if (argMultimap.getValue(PREFIX_PHONE).isPresent()) {
+            phoneDigits = argMultimap.getValue(PREFIX_PHONE).get().trim();
+            if (!PHONE_DIGITS_PATTERN.matcher(phoneDigits).matches()) {
+                throw new ParseException(MESSAGE_INVALID_PHONE);
+            }
+        }
+
+        String emailPrefix = null;
+        if (argMultimap.getValue(PREFIX_EMAIL).isPresent()) {
+            emailPrefix = argMultimap.getValue(PREFIX_EMAIL).get().trim();
+            if (!EMAIL_PREFIX_PATTERN.matcher(emailPrefix).matches()) {
+                throw new ParseException(MESSAGE_INVALID_EMAIL);
+            }
+        }
+
+        return new FindCommand(new ReservationQuery(nameKeywords, phoneDigits, emailPrefix));
+    }
+
+    private static List<String> parseNameKeywords(String trimmedArgs) throws ParseException {
         String[] nameKeywords = trimmedArgs.split("\\s+");
         List<String> validKeywords = new ArrayList<>();
 
         for (String keyword : nameKeywords) {
             String trimmedKeyword = keyword.trim();
 
-            if (!trimmedKeyword.matches("[A-Za-z]+")) {
+            if (!NAME_KEYWORD_PATTERN.matcher(trimmedKeyword).matches()) {
                 throw new ParseException(MESSAGE_INVALID_NAME);
             } else if (trimmedKeyword.length() < 2) {
                 throw new ParseException(MESSAGE_SHORT_NAME);
@@ -47,8 +106,7 @@ public class FindCommandParser implements Parser<FindCommand> {
 
             validKeywords.add(trimmedKeyword.toLowerCase());
         }
-
-        return new FindCommand(new NameContainsKeywordsPredicate(validKeywords));
+        return validKeywords;
     }
 
 }
@@ -2,6 +2,7 @@ package seedu.reserve.logic.parser;
 
 import static seedu.reserve.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_DATE_TIME;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_END_DATE;
 import static seedu.reserve.logic.parser.ParserUtil.arePrefixesPresent;
 
 import java.util.logging.Logger;
@@ -15,7 +16,10 @@ import seedu.reserve.model.reservation.DateTime;
  * Parses input arguments and creates a new FreeCommand object
  */
 public class FreeCommandParser implements Parser<FreeCommand> {
+    public static final String MESSAGE_INVALID_ORDER = "End date must not be before the date";
+
     private static final Logger logger = LogsCenter.getLogger(FreeCommandParser.class);
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_DATE_TIME, PREFIX_END_DATE);
 
     /**
      * Parses the given {@code String} of arguments in the context of the FreeCommand
@@ -25,8 +29,7 @@ public class FreeCommandParser implements Parser<FreeCommand> {
      */
     @Override
     public FreeCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_DATE_TIME);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_DATE_TIME)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -34,7 +37,7 @@ public class FreeCommandParser implements Parser<FreeCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE_TIME);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE_TIME, PREFIX_END_DATE);
 
         DateTime date = ParserUtil.parseDateTimeFree(argMultimap.getValue(PREFIX_DATE_TIME).get() + " 0000");
 
@@ -44,6 +47,15 @@ public class FreeCommandParser implements Parser<FreeCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
         }
 
-        return new FreeCommand(date);
+        if (argMultimap.getValue(PREFIX_END_DATE).isEmpty()) {
+            return new FreeCommand(date);
+        }
+
+        DateTime endDate = ParserUtil.parseDateTimeFree(argMultimap.getValue(PREFIX_END_DATE).get() + " 0000");
+        if (endDate.compareTo(date) < 0) {
+            throw new ParseException(MESSAGE_INVALID_ORDER);
+        }
+
+        return new FreeCommand(date, endDate);
     }
 }
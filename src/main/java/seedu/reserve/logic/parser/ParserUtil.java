@@ -2,7 +2,6 @@ package seedu.reserve.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
-import java.time.DateTimeException;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -172,10 +171,11 @@ public class ParserUtil {
     public static DateTime parseDateTime(String dateTime) throws ParseException {
         requireNonNull(dateTime);
         String trimmedDateTime = dateTime.trim();
-        if (!DateTime.isValidDateTime(trimmedDateTime)) {
+        try {
+            return DateTime.of(trimmedDateTime);
+        } catch (IllegalArgumentException e) {
             throw new ParseException(DateTime.MESSAGE_CONSTRAINTS);
         }
-        return new DateTime(trimmedDateTime);
     }
 
     /**
@@ -187,10 +187,11 @@ public class ParserUtil {
     public static DateTime parseEditedDateTime(String dateTime) throws ParseException {
         requireNonNull(dateTime);
         String trimmedDateTime = dateTime.trim();
-        if (!DateTime.isValidFileInputDateTime(trimmedDateTime)) {
+        try {
+            return DateTime.fromFileString(trimmedDateTime);
+        } catch (IllegalArgumentException e) {
             throw new ParseException(DateTime.MESSAGE_CONSTRAINTS);
         }
-        return DateTime.fromFileString(trimmedDateTime);
     }
 
     /**
@@ -202,10 +203,11 @@ public class ParserUtil {
     public static DateTime parseDateTimeFree(String dateTime) throws ParseException {
         requireNonNull(dateTime);
         String trimmedDateTime = dateTime.trim();
-        if (!DateTime.isValidDateTime(trimmedDateTime)) {
+        try {
+            return DateTime.of(trimmedDateTime);
+        } catch (IllegalArgumentException e) {
             throw new ParseException(DateTime.MESSAGE_CONSTRAINTS_FREE);
         }
-        return new DateTime(trimmedDateTime);
     }
 
     /**
@@ -219,20 +221,11 @@ public class ParserUtil {
     public static DateTime parseDateTimeFilter(String dateTimeFile) throws ParseException {
         requireNonNull(dateTimeFile);
         String trimmedDateTime = dateTimeFile.trim();
-
-        if (!DateTime.isValidFileInputDateTime(trimmedDateTime)) {
-            throw new ParseException(DateTime.MESSAGE_CONSTRAINTS_FILTER);
-        }
-
-        DateTime dateTime;
-
         try {
-            dateTime = DateTime.fromFileString(trimmedDateTime);
-        } catch (DateTimeException e) {
+            return DateTime.fromFileString(trimmedDateTime);
+        } catch (IllegalArgumentException e) {
             throw new ParseException(DateTime.MESSAGE_CONSTRAINTS_FILTER);
         }
-
-        return dateTime;
     }
 
     /**
@@ -243,6 +236,13 @@ public class ParserUtil {
         return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
     }
 
+    /**
+     * Returns true if any of the prefixes contains a value in the given {@code ArgumentMultimap}.
+     */
+    static boolean isAnyPrefixPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).anyMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+
     /**
      * Parses the given input string and determines if the clear command is confirmed.
      *
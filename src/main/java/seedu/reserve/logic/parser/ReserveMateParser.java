@@ -8,6 +8,7 @@ import java.util.regex.Pattern;
 
 import seedu.reserve.commons.core.LogsCenter;
 import seedu.reserve.logic.commands.AddCommand;
+import seedu.reserve.logic.commands.ArchiveCommand;
 import seedu.reserve.logic.commands.ClearCommand;
 import seedu.reserve.logic.commands.Command;
 import seedu.reserve.logic.commands.DeleteCommand;
@@ -19,8 +20,10 @@ import seedu.reserve.logic.commands.FreeCommand;
 import seedu.reserve.logic.commands.HelpCommand;
 import seedu.reserve.logic.commands.ListCommand;
 import seedu.reserve.logic.commands.PreferenceCommand;
+import seedu.reserve.logic.commands.RedoCommand;
 import seedu.reserve.logic.commands.ShowCommand;
 import seedu.reserve.logic.commands.StatisticsCommand;
+import seedu.reserve.logic.commands.UndoCommand;
 import seedu.reserve.logic.parser.exceptions.ParseException;
 
 /**
@@ -78,6 +81,12 @@ public class ReserveMateParser {
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         case HelpCommand.COMMAND_WORD:
             return new HelpCommandParser().parse(arguments);
 
@@ -96,6 +105,9 @@ public class ReserveMateParser {
         case PreferenceCommand.COMMAND_WORD:
             return new PreferenceParser().parse(arguments);
 
+        case ArchiveCommand.COMMAND_WORD:
+            return new ArchiveCommand();
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
@@ -0,0 +1,106 @@
+package seedu.reserve.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * A view of the reservations in the reservation book, preceded by archived reservations while they are shown.
+ * Archived reservations are older than every reservation in the book, so the view stays sorted by
+ * {@code DateTime} if the source is.
+ */
+class ArchiveTierView extends TransformationList<Reservation, Reservation> {
+    /** Archived reservations shown before the reservations in the source, from oldest to newest. */
+    private List<Reservation> archived = List.of();
+
+    /**
+     * Creates a view of {@code source} that shows no archived reservations.
+     */
+    ArchiveTierView(ObservableList<Reservation> source) {
+        super(source);
+    }
+
+    /**
+     * Shows {@code archived} before the reservations in the source, in place of the archived reservations
+     * shown so far. An empty list hides the archived reservations.
+     */
+    void setArchived(List<Reservation> archived) {
+        requireNonNull(archived);
+        if (archived == this.archived) {
+            return;
+        }
+
+        beginChange();
+        if (!this.archived.isEmpty()) {
+            nextRemove(0, new ArrayList<>(this.archived));
+        }
+        this.archived = archived;
+        if (!archived.isEmpty()) {
+            nextAdd(0, archived.size());
+        }
+        endChange();
+    }
+
+    /**
+     * Returns true if any archived reservations are shown.
+     */
+    boolean isShowingArchived() {
+        return !archived.isEmpty();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Reservation> c) {
+        int offset = archived.size();
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                int[] permutation = new int[c.getTo() - c.getFrom()];
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    permutation[i - c.getFrom()] = c.getPermutation(i) + offset;
+                }
+                nextPermutation(c.getFrom() + offset, c.getTo() + offset, permutation);
+            } else if (c.wasUpdated()) {
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    nextUpdate(i + offset);
+                }
+            } else {
+                if (c.wasRemoved()) {
+                    nextRemove(c.getFrom() + offset, new ArrayList<>(c.getRemoved()));
+                }
+                if (c.wasAdded()) {
+                    nextAdd(c.getFrom() + offset, c.getTo() + offset);
+                }
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size());
+        return index < archived.size() ? -1 : index - archived.size();
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return index + archived.size();
+    }
+
+    @Override
+    public Reservation get(int index) {
+        Objects.checkIndex(index, size());
+        return index < archived.size() ? archived.get(index) : getSource().get(index - archived.size());
+    }
+
+    @Override
+    public int size() {
+        return archived.size() + getSource().size();
+    }
+}
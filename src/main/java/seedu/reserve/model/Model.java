@@ -1,12 +1,17 @@
 package seedu.reserve.model;
 
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.reserve.commons.core.GuiSettings;
+import seedu.reserve.commons.exceptions.DataLoadingException;
 import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.ReservationQuery;
+import seedu.reserve.model.reservation.ReservationSearchResult;
 
 /**
  * The API of the Model component.
@@ -50,6 +55,18 @@ public interface Model {
      */
     void setReserveMate(ReadOnlyReserveMate reserveMate);
 
+    /**
+     * Replaces reservation book data with the data in {@code reserveMate} as loaded from storage.
+     * Unlike {@link #setReserveMate(ReadOnlyReserveMate)}, the replacement is not recorded, so it cannot be undone.
+     */
+    void loadReserveMate(ReadOnlyReserveMate reserveMate);
+
+    /**
+     * Sets where the past reservations that have been moved out of the reservation book are read from.
+     * They are not read until a filter that includes them is applied.
+     */
+    void setReservationArchive(ReservationArchive archive);
+
     /** Returns the ReserveMate */
     ReadOnlyReserveMate getReserveMate();
 
@@ -81,17 +98,99 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered reservation list */
     ObservableList<Reservation> getFilteredReservationList();
 
-    /** Returns a HashMap of the reservation statistics */
-    HashMap<String, Integer> getReservationStatistics();
+    /**
+     * Returns a bitmap of the hours on {@code date} that have at least one reservation.
+     * Bit {@code h} is set if a reservation starts at hour {@code h} of {@code date}.
+     */
+    int getOccupiedHours(LocalDate date);
+
+    /**
+     * Returns a predicate that is true for the reservations in the reservation book whose name contains any of
+     * the lower-case {@code words}. It looks reservations up in an index of name words, so testing a reservation
+     * does not depend on the length of its name.
+     */
+    Predicate<Reservation> getNameContainsAnyPredicate(Collection<String> words);
+
+    /**
+     * Returns the reservations in the reservation book that match {@code query}, ranked by how closely they match.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    ReservationSearchResult searchReservations(ReservationQuery query);
+
+    /** Returns a read-only view of the reservation statistics, kept up to date as reservations change */
+    ReadOnlyReservationStatistics getReservationStatistics();
 
     /**
      * Updates the filter of the filtered reservation list to filter by the given {@code predicate}.
+     * The list is put back in date and time order.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredReservationList(Predicate<Reservation> predicate);
 
     /**
-     * Updates the reservation statistics in ReserveMate.
+     * Updates the filter of the filtered reservation list to filter by the given {@code predicate}, and orders the
+     * list by {@code comparator} instead of by date and time.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredReservationList(Predicate<Reservation> predicate, Comparator<Reservation> comparator);
+
+    /**
+     * Updates the filter of the filtered reservation list to filter by the given {@code predicate}, like
+     * {@link #updateFilteredReservationList(Predicate)}, but filters the archived reservations too.
+     * The archived reservations are read the first time they are needed, and come before the reservations in
+     * the reservation book. They stay in the list until the filter is next updated.
+     * @throws NullPointerException if {@code predicate} is null.
+     * @throws DataLoadingException if the archived reservations could not be read.
+     */
+    void updateFilteredReservationListIncludingArchive(Predicate<Reservation> predicate)
+            throws DataLoadingException;
+
+    /** Returns true if archived reservations are shown in the filtered reservation list. */
+    boolean isShowingArchivedReservations();
+
+    /** Returns the filter currently applied to the filtered reservation list, or null if none has been set. */
+    Predicate<? super Reservation> getFilteredReservationListPredicate();
+
+    /** Returns the order applied to the filtered reservation list, or null if it is in date and time order. */
+    Comparator<? super Reservation> getFilteredReservationListComparator();
+
+    /**
+     * Returns a new model holding a copy of this model's reservation book, user prefs, filter and order, in which
+     * changes can be staged without affecting this model or notifying its listeners.
+     */
+    Model createStagingCopy();
+
+    /**
+     * Makes the changes staged in {@code stagedModel}, which must have been created by {@link #createStagingCopy()},
+     * to this model's reservation book as the same edits, and takes on the filter and order of {@code stagedModel}
+     * if they were changed. Listeners of the reservation list are notified of all staged changes at once, in a
+     * single change.
+     */
+    void commitStagingCopy(Model stagedModel);
+
+    /**
+     * Closes the changes made to the reservation book since the last commit into a single undoable step.
+     *
+     * @return false if the step holds more reservations than the undo history limit, in which case it can only
+     *     be undone until the next change is committed.
+     */
+    boolean commitReserveMate();
+
+    /** Returns true if there is a committed change to the reservation book that can be undone. */
+    boolean canUndoReserveMate();
+
+    /** Returns true if there is an undone change to the reservation book that can be redone. */
+    boolean canRedoReserveMate();
+
+    /**
+     * Reverts the reservation book to its state before the last committed change.
+     * {@code canUndoReserveMate()} must be true.
+     */
+    void undoReserveMate();
+
+    /**
+     * Restores the reservation book to its state before the last undo.
+     * {@code canRedoReserveMate()} must be true.
      */
-    void updateReservationStatistics();
+    void redoReserveMate();
 }
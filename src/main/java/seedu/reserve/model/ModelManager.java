@@ -4,15 +4,25 @@ import static java.util.Objects.requireNonNull;
 import static seedu.reserve.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.reserve.commons.core.GuiSettings;
 import seedu.reserve.commons.core.LogsCenter;
+import seedu.reserve.commons.exceptions.DataLoadingException;
 import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.ReservationBetweenDatePredicate;
+import seedu.reserve.model.reservation.ReservationQuery;
+import seedu.reserve.model.reservation.ReservationSearchResult;
 
 /**
  * Represents the in-memory model of the reservation book data.
@@ -22,8 +32,17 @@ public class ModelManager implements Model {
 
     private final ReserveMate reserveMate;
     private final UserPrefs userPrefs;
+    private final ArchiveTierView reservationsWithArchive;
+    private final ReservationRangeView reservationsInRange;
     private final FilteredList<Reservation> filteredReservations;
-    private final HashMap<String, Integer> reservationStatistics;
+    private final SortedList<Reservation> sortedReservations;
+    private Predicate<? super Reservation> filter;
+    private final ReservationHistory history;
+    private LazyArchive archive = new LazyArchive(ReservationArchive.EMPTY);
+
+    /** The filter and order of a staging copy when it was created, to tell whether the staged commands changed them. */
+    private Predicate<? super Reservation> stagedFilter;
+    private Comparator<? super Reservation> stagedComparator;
 
     /**
      * Initializes a ModelManager with the given ReserveMate and userPrefs.
@@ -35,8 +54,11 @@ public class ModelManager implements Model {
 
         this.reserveMate = new ReserveMate(reserveMate);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredReservations = new FilteredList<>(this.reserveMate.getReservationList());
-        reservationStatistics = this.reserveMate.getSumOfReservationsPerDiner();
+        reservationsWithArchive = new ArchiveTierView(this.reserveMate.getReservationList());
+        reservationsInRange = new ReservationRangeView(reservationsWithArchive);
+        filteredReservations = new FilteredList<>(reservationsInRange);
+        sortedReservations = new SortedList<>(filteredReservations);
+        history = new ReservationHistory(userPrefs.getUndoHistoryLimit());
     }
 
     public ModelManager() {
@@ -49,6 +71,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        history.setLimit(userPrefs.getUndoHistoryLimit());
     }
 
     @Override
@@ -82,8 +105,24 @@ public class ModelManager implements Model {
 
     @Override
     public void setReserveMate(ReadOnlyReserveMate reserveMate) {
+        requireNonNull(reserveMate);
+        history.recordReset(this.reserveMate.getReservationList(), reserveMate.getReservationList());
+        this.reserveMate.resetData(reserveMate);
+    }
+
+    @Override
+    public void loadReserveMate(ReadOnlyReserveMate reserveMate) {
+        requireNonNull(reserveMate);
         this.reserveMate.resetData(reserveMate);
-        updateReservationStatistics();
+    }
+
+    @Override
+    public void setReservationArchive(ReservationArchive archive) {
+        requireNonNull(archive);
+        this.archive = new LazyArchive(archive);
+        if (reservationsWithArchive.isShowingArchived()) {
+            setFilter(filter);
+        }
     }
 
     @Override
@@ -100,14 +139,14 @@ public class ModelManager implements Model {
     @Override
     public void deleteReservation(Reservation target) {
         reserveMate.removeReservation(target);
-        updateReservationStatistics();
+        history.recordRemove(target);
     }
 
     @Override
     public void addReservation(Reservation reservation) {
         reserveMate.addReservation(reservation);
+        history.recordAdd(reservation);
         updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
-        updateReservationStatistics();
     }
 
     @Override
@@ -115,6 +154,25 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedReservation);
 
         reserveMate.setReservation(target, editedReservation);
+        history.recordSet(target, editedReservation);
+    }
+
+    @Override
+    public int getOccupiedHours(LocalDate date) {
+        requireNonNull(date);
+        return reserveMate.getOccupiedHours(date);
+    }
+
+    @Override
+    public Predicate<Reservation> getNameContainsAnyPredicate(Collection<String> words) {
+        requireNonNull(words);
+        return reserveMate.getNameContainsAnyPredicate(words);
+    }
+
+    @Override
+    public ReservationSearchResult searchReservations(ReservationQuery query) {
+        requireNonNull(query);
+        return reserveMate.searchReservations(query);
     }
 
     //=========== Filtered Reservation List Accessors =============================================================
@@ -125,38 +183,153 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Reservation> getFilteredReservationList() {
-        return filteredReservations;
+        return sortedReservations;
     }
 
     @Override
     public void updateFilteredReservationList(Predicate<Reservation> predicate) {
         requireNonNull(predicate);
-        filteredReservations.setPredicate(predicate);
+        setFilter(predicate);
+        sortedReservations.setComparator(null);
     }
 
-    //=========== Reservation Statistics Accessors =============================================================
+    @Override
+    public void updateFilteredReservationList(Predicate<Reservation> predicate, Comparator<Reservation> comparator) {
+        requireAllNonNull(predicate, comparator);
+        setFilter(predicate);
+        sortedReservations.setComparator(comparator);
+    }
+
+    @Override
+    public void updateFilteredReservationListIncludingArchive(Predicate<Reservation> predicate)
+            throws DataLoadingException {
+        requireNonNull(predicate);
+        List<Reservation> archived = predicate instanceof ReservationBetweenDatePredicate rangePredicate
+                ? archive.get(YearMonth.from(rangePredicate.getStartDate().toLocalDate()),
+                        YearMonth.from(rangePredicate.getEndDate().toLocalDate()))
+                : archive.get();
+        setFilter(predicate, archived);
+        sortedReservations.setComparator(null);
+    }
+
+    @Override
+    public boolean isShowingArchivedReservations() {
+        return reservationsWithArchive.isShowingArchived();
+    }
+
+    @Override
+    public Predicate<? super Reservation> getFilteredReservationListPredicate() {
+        return filter;
+    }
+
+    /**
+     * Filters the reservations in the reservation book by {@code predicate}.
+     */
+    private void setFilter(Predicate<? super Reservation> predicate) {
+        setFilter(predicate, List.of());
+    }
 
     /**
-     * Returns a HashMap of reservation statistics.
+     * Filters the reservations in the reservation book, preceded by the {@code archived} reservations,
+     * by {@code predicate}. A {@code ReservationBetweenDatePredicate} is applied by narrowing the date-sorted
+     * reservations down to its range instead of testing every reservation.
      */
+    private void setFilter(Predicate<? super Reservation> predicate, List<Reservation> archived) {
+        filter = predicate;
+        reservationsWithArchive.setArchived(archived);
+        if (predicate instanceof ReservationBetweenDatePredicate rangePredicate) {
+            // Narrow the range first, so that only the reservations in range are filtered again
+            reservationsInRange.setRange(rangePredicate.getStartDate(), rangePredicate.getEndDate());
+            filteredReservations.setPredicate(null);
+        } else {
+            filteredReservations.setPredicate(predicate);
+            reservationsInRange.clearRange();
+        }
+    }
+
     @Override
-    public HashMap<String, Integer> getReservationStatistics() {
-        updateReservationStatistics();
-        return reservationStatistics;
+    public Comparator<? super Reservation> getFilteredReservationListComparator() {
+        return sortedReservations.getComparator();
     }
 
+    //=========== Staging ====================================================================================
+
     @Override
-    public void updateReservationStatistics() {
-        HashMap<String, Integer> newReservationStatistics = reserveMate.getSumOfReservationsPerDiner();
-        clearReservationStatistics();
-        reservationStatistics.putAll(newReservationStatistics);
+    public Model createStagingCopy() {
+        ModelManager stagingCopy = new ModelManager(reserveMate, userPrefs);
+        // The staging history only collects the staged changes until they are replayed on this model
+        stagingCopy.history.setLimit(Integer.MAX_VALUE);
+        stagingCopy.archive = archive;
+        stagingCopy.copyViewOf(this);
+        stagingCopy.stagedFilter = stagingCopy.filter;
+        stagingCopy.stagedComparator = stagingCopy.sortedReservations.getComparator();
+        return stagingCopy;
+    }
+
+    @Override
+    public void commitStagingCopy(Model stagedModel) {
+        requireNonNull(stagedModel);
+        if (!(stagedModel instanceof ModelManager stagingCopy)) {
+            throw new IllegalArgumentException("Only a staging copy of this model can be committed");
+        }
+
+        reserveMate.applyInSingleChange(() -> history.replay(stagingCopy.history, reserveMate));
+        if (stagingCopy.filter != stagingCopy.stagedFilter
+                || stagingCopy.sortedReservations.getComparator() != stagingCopy.stagedComparator
+                || stagingCopy.isShowingArchivedReservations() != isShowingArchivedReservations()) {
+            copyViewOf(stagingCopy);
+        }
     }
 
     /**
-     * Clears all data in reservationStatistics.
-    */
-    public void clearReservationStatistics() {
-        reservationStatistics.clear();
+     * Filters and orders the displayed reservations like {@code other}, which must share this model's archive.
+     * Predicates and comparators that look reservations up in the indexes of the reservation book of {@code other}
+     * are remade for this model's reservation book.
+     */
+    private void copyViewOf(ModelManager other) {
+        Predicate<? super Reservation> predicate = reserveMate.rebindPredicate(other.filter);
+        Comparator<? super Reservation> comparator = other.sortedReservations.getComparator();
+        if (other.filter instanceof ReservationSearchResult result && comparator == result.getComparator()
+                && predicate instanceof ReservationSearchResult reboundResult) {
+            comparator = reboundResult.getComparator();
+        }
+        // The archive is shared, so it is already loaded if other shows it
+        setFilter(predicate, other.isShowingArchivedReservations() ? archive.getLoaded() : List.of());
+        sortedReservations.setComparator(comparator);
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public boolean commitReserveMate() {
+        return !history.commit() || !history.isNewestStepOverLimit();
+    }
+
+    @Override
+    public boolean canUndoReserveMate() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoReserveMate() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoReserveMate() {
+        history.undo(reserveMate);
+    }
+
+    @Override
+    public void redoReserveMate() {
+        history.redo(reserveMate);
+    }
+
+    //=========== Reservation Statistics Accessors =============================================================
+
+    @Override
+    public ReadOnlyReservationStatistics getReservationStatistics() {
+        return reserveMate.getReservationStatistics();
     }
 
     @Override
@@ -177,7 +350,77 @@ public class ModelManager implements Model {
             && userPrefs.equals(otherModelManager.userPrefs)
             // Compare the content of filtered lists instead of the list objects themselves
             && getFilteredReservationList().size() == otherModelManager.getFilteredReservationList().size()
-            && getFilteredReservationList().containsAll(otherModelManager.getFilteredReservationList())
-            && reservationStatistics.equals(otherModelManager.reservationStatistics);
+            && getFilteredReservationList().containsAll(otherModelManager.getFilteredReservationList());
+    }
+
+    /**
+     * Reads archived reservations from a {@code ReservationArchive} the first time they are needed, only for the
+     * months asked for if possible, and keeps them from then on.
+     */
+    private static class LazyArchive {
+        private final ReservationArchive source;
+        private boolean isFullyRead;
+        /** First and last months read so far, or null if none have been read. */
+        private YearMonth readFrom;
+        private YearMonth readTo;
+        /** Archived reservations read so far, from oldest to newest. */
+        private List<Reservation> reservations = List.of();
+
+        LazyArchive(ReservationArchive source) {
+            this.source = source;
+        }
+
+        /**
+         * Returns all archived reservations.
+         */
+        synchronized List<Reservation> get() throws DataLoadingException {
+            if (!isFullyRead) {
+                reservations = List.copyOf(source.readArchivedReservations());
+                isFullyRead = true;
+                logger.info("Loaded " + reservations.size() + " archived reservations");
+            }
+            return reservations;
+        }
+
+        /**
+         * Returns the archived reservations read so far, which include those in the months from {@code from} to
+         * {@code to}. Months between those already read and the ones asked for are read too, so that the months
+         * read always form a single range.
+         */
+        synchronized List<Reservation> get(YearMonth from, YearMonth to) throws DataLoadingException {
+            if (isFullyRead || (readFrom != null && !from.isBefore(readFrom) && !to.isAfter(readTo))) {
+                return reservations;
+            }
+
+            List<Reservation> read = new ArrayList<>(reservations);
+            YearMonth newReadFrom = from;
+            YearMonth newReadTo = to;
+            if (readFrom == null) {
+                read.addAll(source.readArchivedReservations(from, to));
+            } else {
+                newReadFrom = from.isBefore(readFrom) ? from : readFrom;
+                newReadTo = to.isAfter(readTo) ? to : readTo;
+                if (newReadFrom.isBefore(readFrom)) {
+                    read.addAll(source.readArchivedReservations(newReadFrom, readFrom.minusMonths(1)));
+                }
+                if (newReadTo.isAfter(readTo)) {
+                    read.addAll(source.readArchivedReservations(readTo.plusMonths(1), newReadTo));
+                }
+            }
+            read.sort(Comparator.comparing(Reservation::getDateTime));
+
+            reservations = List.copyOf(read);
+            readFrom = newReadFrom;
+            readTo = newReadTo;
+            logger.info("Loaded archived reservations from " + readFrom + " to " + readTo);
+            return reservations;
+        }
+
+        /**
+         * Returns the archived reservations read so far.
+         */
+        synchronized List<Reservation> getLoaded() {
+            return reservations;
+        }
     }
 }
@@ -0,0 +1,18 @@
+package seedu.reserve.model;
+
+/**
+ * Unmodifiable view of the statistics of the reservations in a reservation book.
+ */
+public interface ReadOnlyReservationStatistics {
+
+    /**
+     * Returns the number of reservations made for {@code numberOfDiners} diners.
+     */
+    int getNumberOfReservations(int numberOfDiners);
+
+    /**
+     * Returns the total number of reservations.
+     */
+    int getTotalNumberOfReservations();
+
+}
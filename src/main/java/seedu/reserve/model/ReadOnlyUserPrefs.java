@@ -13,4 +13,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getReserveMateFilePath();
 
+    /** Returns the maximum number of reservations kept in the undo history. */
+    int getUndoHistoryLimit();
+
+    /** Returns the number of days after which past reservations are moved to the archive. */
+    int getArchiveAfterDays();
+
 }
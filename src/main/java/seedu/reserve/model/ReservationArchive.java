@@ -0,0 +1,42 @@
+package seedu.reserve.model;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * A source of the past reservations that have been moved out of the reservation book.
+ */
+@FunctionalInterface
+public interface ReservationArchive {
+    /** {@code ReservationArchive} that holds no reservations */
+    ReservationArchive EMPTY = List::of;
+
+    /**
+     * Returns the archived reservations, from oldest to newest.
+     *
+     * @throws DataLoadingException if the archived reservations could not be read.
+     */
+    List<Reservation> readArchivedReservations() throws DataLoadingException;
+
+    /**
+     * Returns the archived reservations in the months from {@code from} to {@code to}, both inclusive,
+     * from oldest to newest.
+     * An archive that is split by month should override this to read only those months.
+     *
+     * @throws DataLoadingException if the archived reservations could not be read.
+     */
+    default List<Reservation> readArchivedReservations(YearMonth from, YearMonth to) throws DataLoadingException {
+        List<Reservation> reservations = new ArrayList<>();
+        for (Reservation reservation : readArchivedReservations()) {
+            YearMonth month = YearMonth.from(reservation.getDateTime().toLocalDate());
+            if (!month.isBefore(from) && !month.isAfter(to)) {
+                reservations.add(reservation);
+            }
+        }
+        return reservations;
+    }
+}
@@ -0,0 +1,279 @@
+package seedu.reserve.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.reserve.commons.util.ToStringBuilder;
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * Records the changes made to a {@code ReserveMate} so that they can be undone and redone.
+ * Changes are recorded as they happen and grouped into steps by {@link #commit()}, usually one step per command.
+ * Only the reservations that changed are kept, so a step that adds, deletes or edits a reservation costs
+ * one entry regardless of the size of the reservation book. Replacing the whole book (e.g. {@code clear})
+ * keeps both the old and the new reservations.
+ * The oldest steps are forgotten once the steps hold more than {@code limit} reservations in total, but the newest
+ * step is always kept so that the last change can be undone. A newest step that alone holds more than
+ * {@code limit} reservations is only kept until the next step is committed.
+ */
+public class ReservationHistory {
+
+    /** Default maximum number of reservations held by the history. */
+    public static final int DEFAULT_LIMIT = 10_000;
+
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private List<Change> pendingChanges = new ArrayList<>();
+    private int size;
+    private int limit;
+
+    /**
+     * Creates an empty {@code ReservationHistory} that holds at most {@code limit} reservations.
+     */
+    public ReservationHistory(int limit) {
+        setLimit(limit);
+    }
+
+    public ReservationHistory() {
+        this(DEFAULT_LIMIT);
+    }
+
+    /**
+     * Sets the maximum number of reservations held by the history, forgetting the oldest steps if needed.
+     * A limit of zero disables undo.
+     */
+    public void setLimit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("History limit must not be negative");
+        }
+        this.limit = limit;
+        trimToLimit();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /** Returns the number of reservations held by the history. */
+    public int size() {
+        return size;
+    }
+
+    /** Records that {@code reservation} was added. */
+    public void recordAdd(Reservation reservation) {
+        requireNonNull(reservation);
+        pendingChanges.add(new Edit(null, reservation));
+    }
+
+    /** Records that {@code reservation} was removed. */
+    public void recordRemove(Reservation reservation) {
+        requireNonNull(reservation);
+        pendingChanges.add(new Edit(reservation, null));
+    }
+
+    /** Records that {@code target} was replaced by {@code editedReservation}. */
+    public void recordSet(Reservation target, Reservation editedReservation) {
+        requireNonNull(target);
+        requireNonNull(editedReservation);
+        pendingChanges.add(new Edit(target, editedReservation));
+    }
+
+    /** Records that all of {@code previousReservations} were replaced by {@code newReservations}. */
+    public void recordReset(List<Reservation> previousReservations, List<Reservation> newReservations) {
+        pendingChanges.add(new Reset(List.copyOf(previousReservations), List.copyOf(newReservations)));
+    }
+
+    /**
+     * Closes the changes recorded since the last commit into a single undoable step.
+     * Any undone steps can no longer be redone once a new step is committed.
+     *
+     * @return true if there were changes to commit.
+     */
+    public boolean commit() {
+        if (pendingChanges.isEmpty()) {
+            return false;
+        }
+
+        Step step = new Step(pendingChanges);
+        pendingChanges = new ArrayList<>();
+        redoSteps.forEach(redoStep -> size -= redoStep.size());
+        redoSteps.clear();
+        undoSteps.push(step);
+        size += step.size();
+        trimToLimit();
+        return true;
+    }
+
+    /**
+     * Returns true if the newest step alone holds more than {@code limit} reservations, so that it will be
+     * forgotten once the next step is committed.
+     */
+    public boolean isNewestStepOverLimit() {
+        return !undoSteps.isEmpty() && undoSteps.peek().size() > limit;
+    }
+
+    /**
+     * Reapplies on {@code reserveMate} the changes that {@code other} can undo, oldest first, including those it has
+     * not committed yet, and records them as changes of this history. This carries the changes made to a staging
+     * copy of {@code reserveMate} over to it as the same edits, rather than as a replacement of the whole book.
+     */
+    public void replay(ReservationHistory other, ReserveMate reserveMate) {
+        requireNonNull(other);
+        requireNonNull(reserveMate);
+        other.commit();
+        other.undoSteps.descendingIterator().forEachRemaining(step -> step.changes().forEach(change -> {
+            change.redo(reserveMate);
+            pendingChanges.add(change);
+        }));
+    }
+
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Reverts the most recently committed step on {@code reserveMate}.
+     * Changes that have not been committed yet are committed first.
+     */
+    public void undo(ReserveMate reserveMate) {
+        requireNonNull(reserveMate);
+        commit();
+        if (!canUndo()) {
+            throw new IllegalStateException("No changes to undo");
+        }
+
+        Step step = undoSteps.pop();
+        step.undo(reserveMate);
+        redoSteps.push(step);
+    }
+
+    /**
+     * Reapplies the most recently undone step on {@code reserveMate}.
+     */
+    public void redo(ReserveMate reserveMate) {
+        requireNonNull(reserveMate);
+        if (!canRedo()) {
+            throw new IllegalStateException("No changes to redo");
+        }
+
+        Step step = redoSteps.pop();
+        step.redo(reserveMate);
+        undoSteps.push(step);
+    }
+
+    private void trimToLimit() {
+        if (limit == 0) {
+            undoSteps.clear();
+            redoSteps.clear();
+            size = 0;
+            return;
+        }
+
+        while (size > limit && !redoSteps.isEmpty()) {
+            size -= redoSteps.removeLast().size();
+        }
+        while (size > limit && undoSteps.size() > 1) {
+            size -= undoSteps.removeLast().size();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("undoSteps", undoSteps.size())
+                .add("redoSteps", redoSteps.size())
+                .add("size", size)
+                .add("limit", limit)
+                .toString();
+    }
+
+    /**
+     * A change to the reservation book that knows how to revert and reapply itself.
+     */
+    private interface Change {
+        void undo(ReserveMate reserveMate);
+
+        void redo(ReserveMate reserveMate);
+
+        /** Returns the number of reservations held by this change. */
+        int size();
+    }
+
+    /**
+     * Adds, removes or replaces a single reservation. {@code before} is null for an addition
+     * and {@code after} is null for a removal.
+     */
+    private record Edit(Reservation before, Reservation after) implements Change {
+        @Override
+        public void undo(ReserveMate reserveMate) {
+            apply(reserveMate, after, before);
+        }
+
+        @Override
+        public void redo(ReserveMate reserveMate) {
+            apply(reserveMate, before, after);
+        }
+
+        private static void apply(ReserveMate reserveMate, Reservation from, Reservation to) {
+            if (from == null) {
+                reserveMate.addReservation(to);
+            } else if (to == null) {
+                reserveMate.removeReservation(from);
+            } else {
+                reserveMate.setReservation(from, to);
+            }
+        }
+
+        @Override
+        public int size() {
+            return 1;
+        }
+    }
+
+    /**
+     * Replaces every reservation in the reservation book.
+     */
+    private record Reset(List<Reservation> before, List<Reservation> after) implements Change {
+        @Override
+        public void undo(ReserveMate reserveMate) {
+            reserveMate.setReservations(before);
+        }
+
+        @Override
+        public void redo(ReserveMate reserveMate) {
+            reserveMate.setReservations(after);
+        }
+
+        @Override
+        public int size() {
+            return Math.max(1, before.size() + after.size());
+        }
+    }
+
+    /**
+     * The changes made by one command, reverted in reverse order.
+     */
+    private record Step(List<Change> changes) {
+        void undo(ReserveMate reserveMate) {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).undo(reserveMate);
+            }
+        }
+
+        void redo(ReserveMate reserveMate) {
+            changes.forEach(change -> change.redo(reserveMate));
+        }
+
+        int size() {
+            return changes.stream().mapToInt(Change::size).sum();
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package seedu.reserve.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.reserve.model.reservation.DateTime;
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * A view of the reservations in a list sorted by {@code DateTime} whose date and time fall between a start and an
+ * end, both inclusive. As the reservations in range are next to each other in the sorted list, the view is the
+ * sublist between two indexes that are found by binary search, so setting the range costs O(log n) plus the number
+ * of reservations entering or leaving the view, instead of testing every reservation like a {@code FilteredList}.
+ */
+class ReservationRangeView extends TransformationList<Reservation, Reservation> {
+    /** Start of the range, or null if the range has no start. */
+    private DateTime start;
+    /** End of the range, or null if the range has no end. */
+    private DateTime end;
+    /** Index in the source of the first reservation in range. */
+    private int from;
+    /** Index in the source after the last reservation in range. */
+    private int to;
+
+    /**
+     * Creates a view of {@code source}, which must be sorted by {@code DateTime}, that shows every reservation.
+     */
+    ReservationRangeView(ObservableList<Reservation> source) {
+        super(source);
+        to = source.size();
+    }
+
+    /**
+     * Shows only the reservations between {@code start} and {@code end}, both inclusive.
+     * A null {@code start} or {@code end} leaves that side of the range open.
+     */
+    void setRange(DateTime start, DateTime end) {
+        this.start = start;
+        this.end = end;
+        int newFrom = start == null ? 0 : indexOfFirstNotBefore(start);
+        int newTo = end == null ? getSource().size() : Math.max(newFrom, indexOfFirstAfter(end));
+        if (newFrom == from && newTo == to) {
+            return;
+        }
+
+        beginChange();
+        int overlapFrom = Math.max(from, newFrom);
+        int overlapTo = Math.min(to, newTo);
+        if (overlapFrom >= overlapTo) {
+            if (from < to) {
+                nextRemove(0, copySourceRange(from, to));
+            }
+            from = newFrom;
+            to = newTo;
+            if (from < to) {
+                nextAdd(0, to - from);
+            }
+        } else {
+            if (overlapTo < to) {
+                nextRemove(overlapTo - from, copySourceRange(overlapTo, to));
+            }
+            if (from < overlapFrom) {
+                nextRemove(0, copySourceRange(from, overlapFrom));
+            }
+            from = newFrom;
+            to = newTo;
+            if (from < overlapFrom) {
+                nextAdd(0, overlapFrom - from);
+            }
+            if (overlapTo < to) {
+                nextAdd(overlapTo - from, to - from);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Shows every reservation again.
+     */
+    void clearRange() {
+        setRange(null, null);
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Reservation> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                permute(c);
+            } else if (c.wasUpdated()) {
+                for (int i = Math.max(c.getFrom(), from); i < Math.min(c.getTo(), to); i++) {
+                    nextUpdate(i - from);
+                }
+            } else {
+                if (c.wasRemoved()) {
+                    remove(c.getFrom(), c.getRemoved());
+                }
+                if (c.wasAdded()) {
+                    add(c.getFrom(), c.getAddedSubList());
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Passes on a permutation of the source. Reordering a sorted list only reorders reservations with the same
+     * {@code DateTime}, so reservations in range stay in range.
+     */
+    private void permute(Change<? extends Reservation> c) {
+        int permutedFrom = Math.max(c.getFrom(), from);
+        int permutedTo = Math.min(c.getTo(), to);
+        if (permutedFrom >= permutedTo) {
+            return;
+        }
+
+        int[] permutation = new int[permutedTo - permutedFrom];
+        for (int i = permutedFrom; i < permutedTo; i++) {
+            permutation[i - permutedFrom] = c.getPermutation(i) - from;
+        }
+        nextPermutation(permutedFrom - from, permutedTo - from, permutation);
+    }
+
+    /**
+     * Handles the removal of {@code removed} from index {@code index} of the source.
+     */
+    private void remove(int index, List<? extends Reservation> removed) {
+        int removedFrom = Math.max(index, from);
+        int removedTo = Math.min(index + removed.size(), to);
+        if (removedFrom < removedTo) {
+            nextRemove(removedFrom - from, new ArrayList<>(removed.subList(removedFrom - index, removedTo - index)));
+        }
+        from -= Math.min(removed.size(), Math.max(0, from - index));
+        to -= Math.min(removed.size(), Math.max(0, to - index));
+    }
+
+    /**
+     * Handles the addition of {@code added} at index {@code index} of the source. Since the source is sorted,
+     * the added reservations before the range come first, followed by those in range and then those after it.
+     */
+    private void add(int index, List<? extends Reservation> added) {
+        int firstInRange = 0;
+        while (firstInRange < added.size() && isBeforeRange(added.get(firstInRange))) {
+            firstInRange++;
+        }
+        int firstAfterRange = firstInRange;
+        while (firstAfterRange < added.size() && !isAfterRange(added.get(firstAfterRange))) {
+            firstAfterRange++;
+        }
+
+        from += firstInRange;
+        to += firstInRange;
+        if (firstInRange < firstAfterRange) {
+            assert index + firstInRange >= from && index + firstInRange <= to : "Source must be sorted";
+            nextAdd(index + firstInRange - from, index + firstAfterRange - from);
+            to += firstAfterRange - firstInRange;
+        }
+    }
+
+    private boolean isBeforeRange(Reservation reservation) {
+        return start != null && reservation.getDateTime().compareTo(start) < 0;
+    }
+
+    private boolean isAfterRange(Reservation reservation) {
+        return end != null && reservation.getDateTime().compareTo(end) > 0;
+    }
+
+    /**
+     * Returns the index of the first reservation in the source that is not before {@code dateTime}.
+     */
+    private int indexOfFirstNotBefore(DateTime dateTime) {
+        int low = 0;
+        int high = getSource().size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getSource().get(mid).getDateTime().compareTo(dateTime) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first reservation in the source that is after {@code dateTime}.
+     */
+    private int indexOfFirstAfter(DateTime dateTime) {
+        int low = 0;
+        int high = getSource().size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getSource().get(mid).getDateTime().compareTo(dateTime) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private List<Reservation> copySourceRange(int fromIndex, int toIndex) {
+        return new ArrayList<>(getSource().subList(fromIndex, toIndex));
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size());
+        return from + index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return index >= from && index < to ? index - from : -1;
+    }
+
+    @Override
+    public Reservation get(int index) {
+        Objects.checkIndex(index, size());
+        return getSource().get(from + index);
+    }
+
+    @Override
+    public int size() {
+        return to - from;
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.reserve.model;
+
+import java.util.Arrays;
+
+import seedu.reserve.commons.util.ToStringBuilder;
+import seedu.reserve.model.reservation.Diners;
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * Keeps count of the reservations in a reservation book by their number of diners.
+ * Counts are updated in constant time as reservations are added and removed, instead of being recomputed.
+ */
+public class ReservationStatistics implements ReadOnlyReservationStatistics {
+
+    private final int[] reservationsPerDiners = new int[Diners.MAX_DINERS + 1];
+    private int totalNumberOfReservations;
+
+    /**
+     * Counts {@code reservation} in the statistics.
+     */
+    public void add(Reservation reservation) {
+        reservationsPerDiners[reservation.getDiners().getNumberOfDiners()]++;
+        totalNumberOfReservations++;
+    }
+
+    /**
+     * Stops counting {@code reservation} in the statistics.
+     * {@code reservation} must have been counted before.
+     */
+    public void remove(Reservation reservation) {
+        reservationsPerDiners[reservation.getDiners().getNumberOfDiners()]--;
+        totalNumberOfReservations--;
+    }
+
+    /**
+     * Replaces the counts with those of {@code reservations}.
+     */
+    public void setReservations(Iterable<Reservation> reservations) {
+        Arrays.fill(reservationsPerDiners, 0);
+        totalNumberOfReservations = 0;
+        reservations.forEach(this::add);
+    }
+
+    @Override
+    public int getNumberOfReservations(int numberOfDiners) {
+        if (numberOfDiners < Diners.MIN_DINERS || numberOfDiners > Diners.MAX_DINERS) {
+            return 0;
+        }
+        return reservationsPerDiners[numberOfDiners];
+    }
+
+    @Override
+    public int getTotalNumberOfReservations() {
+        return totalNumberOfReservations;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ReservationStatistics)) {
+            return false;
+        }
+
+        ReservationStatistics otherStatistics = (ReservationStatistics) other;
+        return Arrays.equals(reservationsPerDiners, otherStatistics.reservationsPerDiners);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(reservationsPerDiners);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("reservationsPerDiners", Arrays.toString(reservationsPerDiners))
+                .toString();
+    }
+
+}
@@ -2,12 +2,18 @@ package seedu.reserve.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.reserve.commons.util.ToStringBuilder;
+import seedu.reserve.model.reservation.Diners;
 import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.ReservationQuery;
+import seedu.reserve.model.reservation.ReservationSearchResult;
 import seedu.reserve.model.reservation.UniqueReservationList;
 
 /**
@@ -17,6 +23,7 @@ import seedu.reserve.model.reservation.UniqueReservationList;
 public class ReserveMate implements ReadOnlyReserveMate {
 
     private final UniqueReservationList reservations;
+    private final ReservationStatistics statistics;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -27,6 +34,7 @@ public class ReserveMate implements ReadOnlyReserveMate {
      */
     {
         reservations = new UniqueReservationList();
+        statistics = new ReservationStatistics();
     }
 
     public ReserveMate() {}
@@ -47,6 +55,7 @@ public class ReserveMate implements ReadOnlyReserveMate {
      */
     public void setReservations(List<Reservation> reservations) {
         this.reservations.setReservations(reservations);
+        statistics.setReservations(reservations);
     }
 
     /**
@@ -74,6 +83,7 @@ public class ReserveMate implements ReadOnlyReserveMate {
      */
     public void addReservation(Reservation p) {
         reservations.add(p);
+        statistics.add(p);
     }
 
     /**
@@ -86,6 +96,8 @@ public class ReserveMate implements ReadOnlyReserveMate {
         requireNonNull(editedReservation);
 
         reservations.setReservation(target, editedReservation);
+        statistics.remove(target);
+        statistics.add(editedReservation);
     }
 
     /**
@@ -94,6 +106,47 @@ public class ReserveMate implements ReadOnlyReserveMate {
      */
     public void removeReservation(Reservation key) {
         reservations.remove(key);
+        statistics.remove(key);
+    }
+
+    /**
+     * Returns a bitmap of the hours on {@code date} that have at least one reservation.
+     * Bit {@code h} is set if a reservation starts at hour {@code h} of {@code date}.
+     */
+    public int getOccupiedHours(LocalDate date) {
+        return reservations.getOccupiedHours(date);
+    }
+
+    /**
+     * Returns a predicate that is true for the reservations in this book whose name contains any of the
+     * lower-case {@code words}, using an index of name words that is kept up to date as reservations change.
+     */
+    public Predicate<Reservation> getNameContainsAnyPredicate(Collection<String> words) {
+        return reservations.getNameContainsAnyPredicate(words);
+    }
+
+    /**
+     * Returns the reservations in this book that match {@code query}, ranked by how closely they match.
+     */
+    public ReservationSearchResult searchReservations(ReservationQuery query) {
+        return reservations.search(query);
+    }
+
+    /**
+     * Returns {@code predicate} remade to look reservations up in the indexes of this book, if it was made by
+     * {@link #getNameContainsAnyPredicate(Collection)} or {@link #searchReservations(ReservationQuery)} of
+     * another book. Other predicates are returned as they are.
+     */
+    public Predicate<? super Reservation> rebindPredicate(Predicate<? super Reservation> predicate) {
+        return reservations.rebind(predicate);
+    }
+
+    /**
+     * Makes the changes in {@code edits} to this book, notifying the listeners of the reservation list of all of
+     * them in a single change.
+     */
+    public void applyInSingleChange(Runnable edits) {
+        reservations.applyInSingleChange(edits);
     }
 
     //// util methods
@@ -110,19 +163,22 @@ public class ReserveMate implements ReadOnlyReserveMate {
         return reservations.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns a read-only view of the statistics of the reservations in the reservation book.
+     * The view is kept up to date as reservations change.
+     */
+    public ReadOnlyReservationStatistics getReservationStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Returns the number of reservations for each number of diners, keyed by the number of diners.
+     */
     public HashMap<String, Integer> getSumOfReservationsPerDiner() {
         HashMap<String, Integer> sumOfReservationsPerDiner = new HashMap<>();
 
-        for (int i = 1; i <= 10; i++) {
-            sumOfReservationsPerDiner.put(String.valueOf(i), 0);
-        }
-
-        ObservableList<Reservation> reservationList = getReservationList();
-        for (Reservation r : reservationList) {
-            int numOfDiners = Integer.parseInt(r.getDiners().value);
-
-            String key = String.valueOf(numOfDiners);
-            sumOfReservationsPerDiner.put(key, sumOfReservationsPerDiner.get(key) + 1);
+        for (int i = Diners.MIN_DINERS; i <= Diners.MAX_DINERS; i++) {
+            sumOfReservationsPerDiner.put(String.valueOf(i), statistics.getNumberOfReservations(i));
         }
 
         return sumOfReservationsPerDiner;
@@ -13,8 +13,12 @@ import seedu.reserve.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_ARCHIVE_AFTER_DAYS = 30;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path reserveMateFilePath = Paths.get("data" , "reservemate.json");
+    private int undoHistoryLimit = ReservationHistory.DEFAULT_LIMIT;
+    private int archiveAfterDays = DEFAULT_ARCHIVE_AFTER_DAYS;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +40,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setReserveMateFilePath(newUserPrefs.getReserveMateFilePath());
+        setUndoHistoryLimit(newUserPrefs.getUndoHistoryLimit());
+        setArchiveAfterDays(newUserPrefs.getArchiveAfterDays());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +62,34 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.reserveMateFilePath = reserveMateFilePath;
     }
 
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    /**
+     * Sets the maximum number of reservations kept in the undo history. Zero disables undo.
+     */
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        if (undoHistoryLimit < 0) {
+            throw new IllegalArgumentException("Undo history limit must not be negative");
+        }
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    public int getArchiveAfterDays() {
+        return archiveAfterDays;
+    }
+
+    /**
+     * Sets the number of days after which past reservations are moved to the archive.
+     */
+    public void setArchiveAfterDays(int archiveAfterDays) {
+        if (archiveAfterDays < 0) {
+            throw new IllegalArgumentException("Archive age must not be negative");
+        }
+        this.archiveAfterDays = archiveAfterDays;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +103,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && reserveMateFilePath.equals(otherUserPrefs.reserveMateFilePath);
+                && reserveMateFilePath.equals(otherUserPrefs.reserveMateFilePath)
+                && undoHistoryLimit == otherUserPrefs.undoHistoryLimit
+                && archiveAfterDays == otherUserPrefs.archiveAfterDays;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, reserveMateFilePath);
+        return Objects.hash(guiSettings, reserveMateFilePath, undoHistoryLimit, archiveAfterDays);
     }
 
     @Override
@@ -82,6 +118,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + reserveMateFilePath);
+        sb.append("\nUndo history limit : " + undoHistoryLimit);
+        sb.append("\nArchive after days : " + archiveAfterDays);
         return sb.toString();
     }
 
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.reserve.commons.util.AppUtil.checkArgument;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_OCCASION;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an Occasion in the reservation book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidOccasionName(String)}
@@ -16,6 +18,7 @@ public class Occasion {
         + "Occasion name must not be empty and can contain alphabets, numbers, spaces, and the following characters: "
         + "- ' . , & ! ( ) /.";
     private static final String VALIDATION_REGEX = "^[a-zA-Z0-9 \\-'.,&!()/]*$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String occasionName;
 
@@ -34,7 +37,7 @@ public class Occasion {
      * Returns true if a given string is a valid occasion name.
      */
     public static boolean isValidOccasionName(String test) {
-        return test.matches(VALIDATION_REGEX) && (test.length() >= 2 && test.length() <= 50);
+        return test.length() >= 2 && test.length() <= 50 && VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
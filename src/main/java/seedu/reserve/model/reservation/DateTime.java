@@ -3,16 +3,18 @@ package seedu.reserve.model.reservation;
 import static java.util.Objects.requireNonNull;
 import static seedu.reserve.commons.util.AppUtil.checkArgument;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.temporal.ChronoUnit;
 
-import seedu.reserve.logic.parser.exceptions.ParseException;
-
 /**
  * Represents a Date and Time for a reservation.
+ * As reservations are made on the hour, it is stored as the number of hours since 1970-01-01 0000.
+ * The {@code DateTime}s of the hours around the booking window are created once and shared, so that reservations
+ * at the same hour share one instance and usually compare equal by reference.
  * Guarantees: immutable; is valid as declared in {@link #isValidDateTime(String)}
  */
 public class DateTime implements Comparable<DateTime> {
@@ -28,26 +30,54 @@ public class DateTime implements Comparable<DateTime> {
             + "2. The date must be after the current date but within 60 days from now.";
     public static final String MESSAGE_CONSTRAINTS_FILTER = "DateTime must be in the format YYYY-MM-DD HHmm, "
             + "must be a valid calendar date and the time must be in hourly increments. \n";
-    public static final String VALIDATION_REGEX = "^\\d{4}-\\d{2}-\\d{2} \\d{4}$";
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd HHmm")
-            .withResolverStyle(ResolverStyle.STRICT);
-    private static final LocalDateTime currentDateTime = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
 
-    public final LocalDateTime value;
+    /** Number of days from now within which reservations can be made. */
+    private static final int MAX_BOOKING_DAYS = 60;
+    private static final int HOURS_PER_DAY = 24;
+    private static final int MAX_BOOKING_HOURS = MAX_BOOKING_DAYS * HOURS_PER_DAY;
+    /** Length of a date-time string in the format YYYY-MM-DD HHmm. */
+    private static final int STRING_LENGTH = 15;
+    /** Stands for a string that is not a date-time on the hour, as every int is a valid epoch hour otherwise. */
+    private static final int INVALID_EPOCH_HOUR = Integer.MIN_VALUE;
+
+    private static final int currentEpochHour = toEpochHour(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS));
+
+    /** Epoch hour of {@code slots[0]}, the first hour of the day {@code MAX_BOOKING_DAYS} days ago. */
+    private static final int firstSlot = Math.floorDiv(currentEpochHour, HOURS_PER_DAY) * HOURS_PER_DAY
+            - MAX_BOOKING_HOURS;
+    /** Shared instances for every hour from {@code MAX_BOOKING_DAYS} days ago to the end of the booking window. */
+    private static final DateTime[] slots = createSlots(2 * MAX_BOOKING_HOURS + 2 * HOURS_PER_DAY);
+
+    /** Hours since 1970-01-01 0000. */
+    private final int epochHour;
 
     /**
      * Constructs a {@code DateTime}.
+     * {@link #of(String)} should be preferred, as it returns the shared instance for the hour.
      *
      * @param dateTime A valid date-time string.
      */
     public DateTime(String dateTime) {
-        requireNonNull(dateTime);
-        checkArgument(isValidDateTime(dateTime), MESSAGE_CONSTRAINTS);
-        this.value = LocalDateTime.parse(dateTime, FORMATTER);
+        this(parseBookableEpochHour(dateTime));
+    }
+
+    private DateTime(int epochHour) {
+        this.epochHour = epochHour;
     }
 
-    private DateTime(LocalDateTime dateTime) {
-        this.value = dateTime;
+    private static DateTime[] createSlots(int count) {
+        DateTime[] slots = new DateTime[count];
+        for (int i = 0; i < count; i++) {
+            slots[i] = new DateTime(firstSlot + i);
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the {@code DateTime} of a valid date-time string, as declared in {@link #isValidDateTime(String)}.
+     */
+    public static DateTime of(String dateTime) {
+        return ofEpochHour(parseBookableEpochHour(dateTime));
     }
 
     /**
@@ -58,76 +88,133 @@ public class DateTime implements Comparable<DateTime> {
      */
     public static DateTime fromFileString(String dateTime) {
         requireNonNull(dateTime);
-        checkArgument(isValidFileInputDateTime(dateTime), MESSAGE_CONSTRAINTS);
-        return new DateTime(LocalDateTime.parse(dateTime, FORMATTER));
+        int epochHour = parseEpochHour(dateTime);
+        checkArgument(epochHour != INVALID_EPOCH_HOUR, MESSAGE_CONSTRAINTS);
+        return ofEpochHour(epochHour);
     }
 
     /**
-     * Returns true if a given string is a valid date-time in the format YYYY-MM-DD HHmm and after current date-time.
+     * Returns the shared instance for {@code epochHour} if it is around the booking window, or a new one otherwise.
      */
-    public static boolean isValidDateTime(String test) {
-        if (!test.matches(VALIDATION_REGEX)) {
-            return false;
-        }
-        try {
-            if (!isHourlyTiming(test)) {
-                return false;
-            }
+    private static DateTime ofEpochHour(int epochHour) {
+        int slot = epochHour - firstSlot;
+        return slot >= 0 && slot < slots.length ? slots[slot] : new DateTime(epochHour);
+    }
 
-            LocalDateTime parsedDateTime = LocalDateTime.parse(test, FORMATTER);
-            return isAfterCurrentTime(parsedDateTime) && isBeforeMaxBookingTime(parsedDateTime);
-        } catch (DateTimeParseException | ParseException e) {
-            return false;
-        }
+    /**
+     * Returns the epoch hour of a valid date-time string, as declared in {@link #isValidDateTime(String)}.
+     */
+    private static int parseBookableEpochHour(String dateTime) {
+        requireNonNull(dateTime);
+        int epochHour = parseEpochHour(dateTime);
+        checkArgument(epochHour != INVALID_EPOCH_HOUR && isBookable(epochHour), MESSAGE_CONSTRAINTS);
+        return epochHour;
     }
 
     /**
-     * Returns true if the time of the date-time string ends with "00".
-     *
-     * @param time The date-time string in format YYYY-MM-DD HHmm
-     * @return true if minutes are 00, false otherwise
+     * Returns the number of hours between 1970-01-01 0000 and {@code dateTime}, which must be on the hour.
      */
-    private static boolean isHourlyTiming(String time) {
-        int minutesIndex = time.length() - 2;
-        String minutes = time.substring(minutesIndex);
-        return minutes.endsWith("00");
+    private static int toEpochHour(LocalDateTime dateTime) {
+        assert dateTime.getMinute() == 0 && dateTime.getSecond() == 0 && dateTime.getNano() == 0;
+        return Math.toIntExact(dateTime.toLocalDate().toEpochDay() * HOURS_PER_DAY + dateTime.getHour());
     }
 
     /**
-     * Returns true if a given string from an input file a valid date-time in the format YYYY-MM-DD HHmm.
+     * Returns the epoch hour of a date-time string in the format YYYY-MM-DD HHmm that is a valid calendar date
+     * on the hour, or {@code INVALID_EPOCH_HOUR} if the string is not one.
+     * The fixed-width fields are read in place, without a regex or a {@code DateTimeFormatter}.
      */
-    public static boolean isValidFileInputDateTime(String test) {
-        if (!test.matches(VALIDATION_REGEX) || !isHourlyTiming(test)) {
-            return false;
+    private static int parseEpochHour(String dateTime) {
+        if (dateTime.length() != STRING_LENGTH || dateTime.charAt(4) != '-' || dateTime.charAt(7) != '-'
+                || dateTime.charAt(10) != ' ') {
+            return INVALID_EPOCH_HOUR;
         }
 
-        try {
-            LocalDateTime parsedDateTime = LocalDateTime.parse(test, FORMATTER);
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
+        int year = parseDigits(dateTime, 0, 4);
+        int month = parseDigits(dateTime, 5, 7);
+        int day = parseDigits(dateTime, 8, 10);
+        int hour = parseDigits(dateTime, 11, 13);
+        int minute = parseDigits(dateTime, 13, 15);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || hour < 0 || hour >= HOURS_PER_DAY || minute != 0
+                || day > Month.of(month).length(Year.isLeap(year))) {
+            return INVALID_EPOCH_HOUR;
         }
+        return Math.toIntExact(LocalDate.of(year, month, day).toEpochDay() * HOURS_PER_DAY + hour);
     }
 
     /**
-     * Returns true if the given DateTime is after the current time.
+     * Returns the number written in decimal digits from index {@code from} to {@code to} of {@code s},
+     * or -1 if any of the characters is not a digit.
      */
-    public static boolean isAfterCurrentTime(LocalDateTime dateTime) throws ParseException {
-        return dateTime.isAfter(currentDateTime);
+    private static int parseDigits(String s, int from, int to) {
+        int number = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+
+    /**
+     * Returns true if a given string is a valid date-time in the format YYYY-MM-DD HHmm and after current date-time.
+     */
+    public static boolean isValidDateTime(String test) {
+        int epochHour = parseEpochHour(test);
+        return epochHour != INVALID_EPOCH_HOUR && isBookable(epochHour);
+    }
+
+    /**
+     * Returns true if a given string from an input file a valid date-time in the format YYYY-MM-DD HHmm.
+     */
+    public static boolean isValidFileInputDateTime(String test) {
+        return parseEpochHour(test) != INVALID_EPOCH_HOUR;
     }
 
     /**
-     * Returns true if the given DateTime is before 60 days from the current time.
+     * Returns true if this date-time is after the current time but within 60 days from now.
      */
-    public static boolean isBeforeMaxBookingTime(LocalDateTime dateTime) throws ParseException {
-        LocalDateTime maxBookingDateTime = currentDateTime.plusDays(60);
-        assert(maxBookingDateTime.isBefore(currentDateTime.plusDays(61)));
-        return dateTime.isBefore(maxBookingDateTime) || dateTime.isEqual(maxBookingDateTime);
+    public boolean isBookable() {
+        return isBookable(epochHour);
+    }
+
+    private static boolean isBookable(int epochHour) {
+        return epochHour > currentEpochHour && epochHour <= currentEpochHour + MAX_BOOKING_HOURS;
+    }
+
+    public LocalDateTime toLocalDateTime() {
+        return LocalDateTime.of(toLocalDate(), LocalTime.of(getHour(), 0));
+    }
+
+    public LocalDate toLocalDate() {
+        return LocalDate.ofEpochDay(Math.floorDiv(epochHour, HOURS_PER_DAY));
+    }
+
+    public int getHour() {
+        return Math.floorMod(epochHour, HOURS_PER_DAY);
     }
 
     @Override
     public String toString() {
-        return value.format(FORMATTER);
+        LocalDate date = toLocalDate();
+        StringBuilder builder = new StringBuilder(STRING_LENGTH);
+        appendDigits(builder, date.getYear(), 4).append('-');
+        appendDigits(builder, date.getMonthValue(), 2).append('-');
+        appendDigits(builder, date.getDayOfMonth(), 2).append(' ');
+        return appendDigits(builder, getHour(), 2).append("00").toString();
+    }
+
+    /**
+     * Appends the non-negative {@code number} to {@code builder}, padded with leading zeros to {@code width} digits.
+     */
+    private static StringBuilder appendDigits(StringBuilder builder, int number, int width) {
+        String digits = Integer.toString(number);
+        for (int i = digits.length(); i < width; i++) {
+            builder.append('0');
+        }
+        return builder.append(digits);
     }
 
     @Override
@@ -141,17 +228,20 @@ public class DateTime implements Comparable<DateTime> {
         }
 
         DateTime otherDateTime = (DateTime) other;
-        return value.equals(otherDateTime.value);
+        return epochHour == otherDateTime.epochHour;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(epochHour);
     }
 
     @Override
     public int compareTo(DateTime dateTime) {
-        return this.value.compareTo(dateTime.value);
+        if (dateTime == this) {
+            return 0;
+        }
+        return Integer.compare(epochHour, dateTime.epochHour);
     }
 
     /**
@@ -13,7 +13,7 @@ public class Diners {
     public static final int MIN_DINERS = 1;
     public static final int MAX_DINERS = 10;
 
-    public final String value;
+    private final int numberOfDiners;
 
     /**
      * Constructs a {@code Diners}.
@@ -23,15 +23,14 @@ public class Diners {
     public Diners(String numberOfDiners) {
         requireNonNull(numberOfDiners);
         checkArgument(isValidDiners(numberOfDiners), MESSAGE_CONSTRAINTS);
-        value = formatDiners(numberOfDiners);
+        this.numberOfDiners = Integer.parseInt(numberOfDiners);
     }
 
-
     /**
-     * Format the diners string by removing leading zeros.
+     * Returns the number of diners as an {@code int}.
      */
-    private static String formatDiners(String diners) {
-        return String.valueOf(Integer.parseInt(diners));
+    public int getNumberOfDiners() {
+        return numberOfDiners;
     }
 
     /**
@@ -48,7 +47,7 @@ public class Diners {
 
     @Override
     public String toString() {
-        return String.valueOf(value);
+        return String.valueOf(numberOfDiners);
     }
 
     @Override
@@ -62,11 +61,11 @@ public class Diners {
         }
 
         Diners otherDiners = (Diners) other;
-        return value.equals(otherDiners.value);
+        return numberOfDiners == otherDiners.numberOfDiners;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(numberOfDiners);
     }
 }
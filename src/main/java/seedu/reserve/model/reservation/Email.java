@@ -3,6 +3,7 @@ package seedu.reserve.model.reservation;
 import static java.util.Objects.requireNonNull;
 import static seedu.reserve.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
 
 /**
  * Represents a Reservation's email in the reservation book.
@@ -32,6 +33,7 @@ public class Email {
     private static final String DOMAIN_LABEL_REGEX = ALPHANUMERIC + "(-" + ALPHANUMERIC + ")*";
     private static final String DOMAIN_REGEX = "(" + DOMAIN_LABEL_REGEX + "\\.)+" + "[a-zA-Z]{2,}$"; // TLD min 2 chars
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -50,7 +52,7 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        if (!test.matches(VALIDATION_REGEX)) {
+        if (!VALIDATION_PATTERN.matcher(test).matches()) {
             return false;
         }
 
@@ -3,6 +3,9 @@ package seedu.reserve.model.reservation;
 import static java.util.Objects.requireNonNull;
 import static seedu.reserve.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Reservation's name in the reservation book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,7 +21,10 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alpha}][\\p{Alpha} ]*";
     public static final String WORDS_REGEX = "\\s+";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Pattern WORDS_PATTERN = Pattern.compile(WORDS_REGEX);
     public final String fullName;
+    private final List<String> lowerCaseWords;
 
     /**
      * Constructs a {@code Name}.
@@ -29,6 +35,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = formatName(name);
+        lowerCaseWords = List.of(fullName.toLowerCase().split(" "));
     }
 
     /**
@@ -40,7 +47,7 @@ public class Name {
      */
     private String formatName(String name) {
         StringBuilder formattedName = new StringBuilder();
-        String[] nameLowerCase = name.toLowerCase().split(WORDS_REGEX);
+        String[] nameLowerCase = WORDS_PATTERN.split(name.toLowerCase());
 
         for (String word : nameLowerCase) {
             formattedName.append(word.toUpperCase().charAt(0));
@@ -56,7 +63,7 @@ public class Name {
     public static boolean isValidName(String test) {
 
         if (isValidNameLength(test)) {
-            return test.matches(VALIDATION_REGEX);
+            return VALIDATION_PATTERN.matcher(test).matches();
         }
         return false;
     }
@@ -68,6 +75,13 @@ public class Name {
         return test.length() <= MAX_NAME_LENGTH;
     }
 
+    /**
+     * Returns the words of this name in lower case, in order.
+     */
+    public List<String> getLowerCaseWords() {
+        return lowerCaseWords;
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -1,9 +1,10 @@
 package seedu.reserve.model.reservation;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
-import seedu.reserve.commons.util.StringUtil;
 import seedu.reserve.commons.util.ToStringBuilder;
 
 /**
@@ -11,15 +12,32 @@ import seedu.reserve.commons.util.ToStringBuilder;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Reservation> {
     private final List<String> keywords;
+    private final Set<String> lowerCaseKeywords;
 
+    /**
+     * Constructs a {@code NameContainsKeywordsPredicate} that matches names containing any of {@code keywords}
+     * as a whole word, ignoring case.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        lowerCaseKeywords = keywords.stream().map(String::toLowerCase).collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Returns the keywords in lower case.
+     */
+    public Set<String> getLowerCaseKeywords() {
+        return lowerCaseKeywords;
     }
 
     @Override
     public boolean test(Reservation reservation) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(reservation.getName().fullName, keyword));
+        for (String word : reservation.getName().getLowerCaseWords()) {
+            if (lowerCaseKeywords.contains(word)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
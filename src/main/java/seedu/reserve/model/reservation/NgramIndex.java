@@ -0,0 +1,96 @@
+package seedu.reserve.model.reservation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * An index from every substring of {@code GRAM_LENGTH} characters of a reservation's key, e.g. its phone number,
+ * to the reservations with that key. Reservations whose key contains a fragment are found by scanning the
+ * reservations of the fragment's rarest n-gram only.
+ */
+class NgramIndex {
+    /** Length of the substrings that are indexed. Fragments must be at least this long. */
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<String, List<Reservation>> reservationsByGram = new HashMap<>();
+    private final Function<Reservation, String> keyOf;
+
+    /**
+     * Creates an empty index of the keys returned by {@code keyOf}.
+     */
+    NgramIndex(Function<Reservation, String> keyOf) {
+        this.keyOf = keyOf;
+    }
+
+    void add(Reservation reservation) {
+        for (String gram : gramsOf(keyOf.apply(reservation))) {
+            reservationsByGram.computeIfAbsent(gram, unused -> new ArrayList<>()).add(reservation);
+        }
+    }
+
+    /**
+     * Removes {@code reservation}, which must be the same instance that was added.
+     */
+    void remove(Reservation reservation) {
+        for (String gram : gramsOf(keyOf.apply(reservation))) {
+            List<Reservation> reservations = reservationsByGram.get(gram);
+            for (int i = reservations.size() - 1; i >= 0; i--) {
+                if (reservations.get(i) == reservation) {
+                    reservations.set(i, reservations.get(reservations.size() - 1));
+                    reservations.remove(reservations.size() - 1);
+                    break;
+                }
+            }
+            if (reservations.isEmpty()) {
+                reservationsByGram.remove(gram);
+            }
+        }
+    }
+
+    void clear() {
+        reservationsByGram.clear();
+    }
+
+    /**
+     * Passes every reservation whose key contains {@code fragment}, with its key, to {@code action}.
+     *
+     * @throws IllegalArgumentException if {@code fragment} is shorter than {@code GRAM_LENGTH}.
+     */
+    void forEachContaining(String fragment, BiConsumer<Reservation, String> action) {
+        if (fragment.length() < GRAM_LENGTH) {
+            throw new IllegalArgumentException("Fragment must have at least " + GRAM_LENGTH + " characters");
+        }
+
+        List<Reservation> rarest = null;
+        for (String gram : gramsOf(fragment)) {
+            List<Reservation> reservations = reservationsByGram.get(gram);
+            if (reservations == null) {
+                return;
+            }
+            if (rarest == null || reservations.size() < rarest.size()) {
+                rarest = reservations;
+            }
+        }
+
+        for (Reservation reservation : rarest) {
+            String key = keyOf.apply(reservation);
+            if (key.contains(fragment)) {
+                action.accept(reservation, key);
+            }
+        }
+    }
+
+    private static Set<String> gramsOf(String key) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            grams.add(key.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
@@ -3,6 +3,8 @@ package seedu.reserve.model.reservation;
 import static java.util.Objects.requireNonNull;
 import static seedu.reserve.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Reservation's phone number in the reservation book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -12,7 +14,8 @@ public class Phone {
         "Phone numbers should only contain numbers,"
                 + " it should begins with either 8 or 9 and it must be exactly 8 digits long";
     public static final String VALIDATION_REGEX = "[89]\\d{7}";
-    private static String concatPhoneNumber;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Pattern NON_DIGIT_PATTERN = Pattern.compile("[^0-9]");
     public final String value;
 
 
@@ -24,15 +27,21 @@ public class Phone {
     public Phone(String phone) {
         requireNonNull(phone);
         checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
-        value = concatPhoneNumber;
+        value = removeNonDigits(phone);
     }
 
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        concatPhoneNumber = test.replaceAll("[^0-9]", "");
-        return concatPhoneNumber.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(removeNonDigits(test)).matches();
+    }
+
+    /**
+     * Returns {@code phone} with every character other than a digit removed.
+     */
+    private static String removeNonDigits(String phone) {
+        return NON_DIGIT_PATTERN.matcher(phone).replaceAll("");
     }
 
     @Override
@@ -7,15 +7,25 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.reserve.commons.util.Interner;
 import seedu.reserve.commons.util.ToStringBuilder;
 import seedu.reserve.model.occasion.Occasion;
 
 /**
  * Represents a reservation in the reservation book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * The numbers of diners, occasions and preferences that many reservations have in common are shared between
+ * them instead of being copied into each reservation, as are equal sets of occasions.
  */
 public class Reservation {
 
+    private static final Preference DEFAULT_PREFERENCE = new Preference("None");
+
+    private static final Interner<Diners> dinersInstances = new Interner<>();
+    private static final Interner<Occasion> occasionInstances = new Interner<>();
+    private static final Interner<Set<Occasion>> occasionSetInstances = new Interner<>();
+    private static final Interner<Preference> preferenceInstances = new Interner<>();
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -24,22 +34,18 @@ public class Reservation {
     // Data fields
     private final Diners diners;
     private final DateTime dateTime;
-    private final Set<Occasion> occasions = new HashSet<>();
+    private final Set<Occasion> occasions;
     private final Preference preference; // New field for customer preferences
 
+    /** Cached hash code, or 0 if it has not been computed yet. */
+    private int hashCode;
+
     /**
      * Every field must be present and not null.
      */
     public Reservation(Name name, Phone phone, Email email, Diners diners,
                     DateTime dateTime, Set<Occasion> occasions) {
-        requireAllNonNull(name, phone, email, diners, occasions);
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.diners = diners;
-        this.dateTime = dateTime;
-        this.occasions.addAll(occasions);
-        this.preference = new Preference("None"); // Initialize with empty preference
+        this(name, phone, email, diners, dateTime, occasions, DEFAULT_PREFERENCE);
     }
 
     /**
@@ -48,14 +54,25 @@ public class Reservation {
      */
     public Reservation(Name name, Phone phone, Email email, Diners diners,
                        DateTime dateTime, Set<Occasion> occasions, Preference preference) {
-        requireAllNonNull(name, phone, email, diners, occasions);
+        requireAllNonNull(name, phone, email, diners, occasions, preference);
         this.name = name;
         this.phone = phone;
         this.email = email;
-        this.diners = diners;
+        this.diners = dinersInstances.intern(diners);
         this.dateTime = dateTime;
-        this.occasions.addAll(occasions);
-        this.preference = preference;
+        this.occasions = internOccasions(occasions);
+        this.preference = preferenceInstances.intern(preference);
+    }
+
+    /**
+     * Returns the shared unmodifiable set equal to {@code occasions}.
+     */
+    private static Set<Occasion> internOccasions(Set<Occasion> occasions) {
+        Set<Occasion> internedOccasions = new HashSet<>();
+        for (Occasion occasion : occasions) {
+            internedOccasions.add(occasionInstances.intern(occasion));
+        }
+        return occasionSetInstances.intern(Collections.unmodifiableSet(internedOccasions));
     }
 
     public Name getName() {
@@ -84,7 +101,7 @@ public class Reservation {
      * if modification is attempted.
      */
     public Set<Occasion> getOccasions() {
-        return Collections.unmodifiableSet(occasions);
+        return occasions;
     }
 
     public Preference getPreference() {
@@ -133,8 +150,13 @@ public class Reservation {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, diners, dateTime, occasions, preference);
+        int hash = hashCode;
+        if (hash == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            hash = Objects.hash(name, phone, email, diners, dateTime, occasions, preference);
+            hashCode = hash;
+        }
+        return hash;
     }
 
     @Override
@@ -19,6 +19,14 @@ public class ReservationBetweenDatePredicate implements Predicate<Reservation> {
         this.endDate = endDate;
     }
 
+    public DateTime getStartDate() {
+        return startDate;
+    }
+
+    public DateTime getEndDate() {
+        return endDate;
+    }
+
     @Override
     public boolean test(Reservation reservation) {
         DateTime reservationDateTime = reservation.getDateTime();
@@ -0,0 +1,86 @@
+package seedu.reserve.model.reservation;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.reserve.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.reserve.commons.util.ToStringBuilder;
+
+/**
+ * A ranked search for reservations by name, phone and email.
+ * A reservation matches if its name matches any of the name words (exactly, as a prefix of a word or within a few
+ * typos), its phone number contains the phone digits and its email starts with the email prefix. Parts of the query
+ * that are not given match every reservation.
+ */
+public class ReservationQuery {
+
+    /** Minimum number of digits in a phone number fragment. */
+    public static final int MIN_PHONE_DIGITS = NgramIndex.GRAM_LENGTH;
+
+    private final List<String> nameWords;
+    private final String phoneDigits;
+    private final String emailPrefix;
+
+    /**
+     * Constructs a {@code ReservationQuery}. {@code phoneDigits} and {@code emailPrefix} may be null if the
+     * reservations are not to be searched by phone or email, but at least one part of the query must be given.
+     */
+    public ReservationQuery(List<String> nameWords, String phoneDigits, String emailPrefix) {
+        requireNonNull(nameWords);
+        checkArgument(!nameWords.isEmpty() || phoneDigits != null || emailPrefix != null,
+                "A query must search at least one field");
+        checkArgument(phoneDigits == null || phoneDigits.length() >= MIN_PHONE_DIGITS,
+                "Phone fragment must have at least " + MIN_PHONE_DIGITS + " digits");
+        this.nameWords = nameWords.stream().map(String::toLowerCase).toList();
+        this.phoneDigits = phoneDigits;
+        this.emailPrefix = emailPrefix == null ? null : emailPrefix.toLowerCase();
+    }
+
+    /** Returns the lower-case name words, which are empty if the query does not search by name. */
+    public List<String> getNameWords() {
+        return nameWords;
+    }
+
+    public Optional<String> getPhoneDigits() {
+        return Optional.ofNullable(phoneDigits);
+    }
+
+    /** Returns the lower-case email prefix, if the query searches by email. */
+    public Optional<String> getEmailPrefix() {
+        return Optional.ofNullable(emailPrefix);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ReservationQuery)) {
+            return false;
+        }
+
+        ReservationQuery otherQuery = (ReservationQuery) other;
+        return nameWords.equals(otherQuery.nameWords)
+                && Objects.equals(phoneDigits, otherQuery.phoneDigits)
+                && Objects.equals(emailPrefix, otherQuery.emailPrefix);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nameWords, phoneDigits, emailPrefix);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("nameWords", nameWords)
+                .add("phoneDigits", phoneDigits)
+                .add("emailPrefix", emailPrefix)
+                .toString();
+    }
+}
@@ -0,0 +1,222 @@
+package seedu.reserve.model.reservation;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes the names, phone numbers and emails of reservations for {@link ReservationQuery} searches.
+ * Name words and emails are kept in sorted word indexes, for exact, prefix and typo-tolerant matches, and phone
+ * numbers in an n-gram index, for matches anywhere in the number. A search only looks at the reservations that
+ * match, never at the whole reservation book.
+ */
+class ReservationSearchIndex {
+    static final int EXACT_WORD_SCORE = 100;
+    static final int WORD_PREFIX_SCORE = 60;
+    static final int TYPO_SCORE = 40;
+    static final int SCORE_PER_TYPO = 10;
+    static final int PHONE_PREFIX_SCORE = 100;
+    static final int PHONE_SUFFIX_SCORE = 80;
+    static final int PHONE_INFIX_SCORE = 60;
+    static final int EXACT_EMAIL_SCORE = 100;
+    static final int EMAIL_PREFIX_SCORE = 60;
+
+    private final WordIndex nameIndex = new WordIndex(reservation -> reservation.getName().getLowerCaseWords());
+    private final WordIndex emailIndex = new WordIndex(reservation ->
+            List.of(reservation.getEmail().value.toLowerCase()));
+    private final NgramIndex phoneIndex = new NgramIndex(reservation -> reservation.getPhone().value);
+
+    /** Number of times the indexed reservations have changed, so that search results know when to search again. */
+    private long version;
+
+    void add(Reservation reservation) {
+        version++;
+        nameIndex.add(reservation);
+        emailIndex.add(reservation);
+        phoneIndex.add(reservation);
+    }
+
+    /**
+     * Removes {@code reservation}, which must be the same instance that was added.
+     */
+    void remove(Reservation reservation) {
+        version++;
+        nameIndex.remove(reservation);
+        emailIndex.remove(reservation);
+        phoneIndex.remove(reservation);
+    }
+
+    void clear() {
+        version++;
+        nameIndex.clear();
+        emailIndex.clear();
+        phoneIndex.clear();
+    }
+
+    /**
+     * Returns true if the name of {@code reservation} contains any of the lower-case {@code words}.
+     */
+    boolean nameContainsAny(Reservation reservation, Collection<String> words) {
+        return nameIndex.containsAny(reservation, words);
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the result of searching for {@code query}, which follows later changes to the indexed reservations.
+     */
+    ReservationSearchResult search(ReservationQuery query) {
+        return new ReservationSearchResult(this, query);
+    }
+
+    /**
+     * Returns the reservations that match every part of {@code query}, scored by how closely they match.
+     * The score of a reservation is the sum of the scores of its name words, phone number and email.
+     * Phone numbers and emails are searched first as they narrow the results the most, so that only the
+     * reservations they match need their names checked.
+     */
+    IdentityHashMap<Reservation, Integer> score(ReservationQuery query) {
+        IdentityHashMap<Reservation, Integer> scores = null;
+        if (query.getPhoneDigits().isPresent()) {
+            scores = scorePhones(query.getPhoneDigits().get());
+        }
+        if (query.getEmailPrefix().isPresent()) {
+            scores = intersect(scores, scoreEmails(query.getEmailPrefix().get()));
+        }
+        if (!query.getNameWords().isEmpty()) {
+            List<Map<String, WordMatch>> matchesByQueryWord = query.getNameWords().stream()
+                    .map(this::findNameWords)
+                    .toList();
+            scores = scores == null ? scoreNames(matchesByQueryWord) : addNameScores(scores, matchesByQueryWord);
+        }
+        assert scores != null : "A query searches at least one field";
+        return scores;
+    }
+
+    /**
+     * Returns the number of typos tolerated in a query word, which grows with the length of the word so that
+     * short words do not match almost everything.
+     */
+    static int getMaxTypos(String word) {
+        if (word.length() <= 3) {
+            return 0;
+        } else if (word.length() <= 6) {
+            return 1;
+        }
+        return 2;
+    }
+
+    /**
+     * Returns the indexed name words that match the lower-case {@code queryWord}, keyed by word.
+     */
+    private Map<String, WordMatch> findNameWords(String queryWord) {
+        Map<String, WordMatch> matches = new HashMap<>();
+        nameIndex.forEachWordStartingWith(queryWord, (word, reservations) -> matches.put(word,
+                new WordMatch(reservations, word.equals(queryWord) ? EXACT_WORD_SCORE : WORD_PREFIX_SCORE)));
+
+        int maxTypos = getMaxTypos(queryWord);
+        if (maxTypos > 0) {
+            nameIndex.forEachWordWithin(queryWord, maxTypos, (word, reservations, typos) ->
+                    matches.putIfAbsent(word, new WordMatch(reservations, TYPO_SCORE - SCORE_PER_TYPO * typos)));
+        }
+        return matches;
+    }
+
+    /**
+     * Scores the reservations whose names contain any of the matched words. Each query word contributes the score
+     * of its best match in the name.
+     */
+    private static IdentityHashMap<Reservation, Integer> scoreNames(List<Map<String, WordMatch>> matchesByQueryWord) {
+        IdentityHashMap<Reservation, Integer> scores = new IdentityHashMap<>();
+        for (Map<String, WordMatch> matches : matchesByQueryWord) {
+            Map<Reservation, Integer> wordScores = new IdentityHashMap<>();
+            matches.values().forEach(match -> addScore(wordScores, match.reservations(), match.score()));
+            wordScores.forEach((reservation, score) -> scores.merge(reservation, score, Integer::sum));
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the reservations in {@code scores} whose names contain any of the matched words, with the scores of
+     * their names added. Each name is checked against the matched words instead of expanding every matched word
+     * into all of its reservations.
+     */
+    private static IdentityHashMap<Reservation, Integer> addNameScores(IdentityHashMap<Reservation, Integer> scores,
+            List<Map<String, WordMatch>> matchesByQueryWord) {
+        IdentityHashMap<Reservation, Integer> combinedScores = new IdentityHashMap<>();
+        scores.forEach((reservation, score) -> {
+            List<String> nameWords = reservation.getName().getLowerCaseWords();
+            int nameScore = 0;
+            for (Map<String, WordMatch> matches : matchesByQueryWord) {
+                int bestScore = 0;
+                for (String nameWord : nameWords) {
+                    WordMatch match = matches.get(nameWord);
+                    if (match != null) {
+                        bestScore = Math.max(bestScore, match.score());
+                    }
+                }
+                nameScore += bestScore;
+            }
+            if (nameScore > 0) {
+                combinedScores.put(reservation, score + nameScore);
+            }
+        });
+        return combinedScores;
+    }
+
+    private static void addScore(Map<Reservation, Integer> scores, Set<Reservation> reservations, int score) {
+        for (Reservation reservation : reservations) {
+            scores.merge(reservation, score, Math::max);
+        }
+    }
+
+    private IdentityHashMap<Reservation, Integer> scorePhones(String digits) {
+        IdentityHashMap<Reservation, Integer> scores = new IdentityHashMap<>();
+        phoneIndex.forEachContaining(digits, (reservation, phone) -> {
+            int score = phone.startsWith(digits) ? PHONE_PREFIX_SCORE
+                    : phone.endsWith(digits) ? PHONE_SUFFIX_SCORE
+                    : PHONE_INFIX_SCORE;
+            scores.put(reservation, score);
+        });
+        return scores;
+    }
+
+    private IdentityHashMap<Reservation, Integer> scoreEmails(String prefix) {
+        IdentityHashMap<Reservation, Integer> scores = new IdentityHashMap<>();
+        emailIndex.forEachWordStartingWith(prefix, (email, reservations) ->
+                addScore(scores, reservations, email.equals(prefix) ? EXACT_EMAIL_SCORE : EMAIL_PREFIX_SCORE));
+        return scores;
+    }
+
+    /**
+     * Returns the reservations in both {@code scores} and {@code fieldScores} with their scores added up.
+     * A null {@code scores} stands for no fields searched yet, in which case {@code fieldScores} is returned.
+     */
+    private static IdentityHashMap<Reservation, Integer> intersect(IdentityHashMap<Reservation, Integer> scores,
+            IdentityHashMap<Reservation, Integer> fieldScores) {
+        if (scores == null) {
+            return fieldScores;
+        }
+
+        IdentityHashMap<Reservation, Integer> smaller = scores.size() <= fieldScores.size() ? scores : fieldScores;
+        IdentityHashMap<Reservation, Integer> larger = smaller == scores ? fieldScores : scores;
+        IdentityHashMap<Reservation, Integer> intersection = new IdentityHashMap<>();
+        smaller.forEach((reservation, score) -> {
+            Integer otherScore = larger.get(reservation);
+            if (otherScore != null) {
+                intersection.put(reservation, score + otherScore);
+            }
+        });
+        return intersection;
+    }
+
+    /**
+     * An indexed word that matched a query word, with its reservations and score.
+     */
+    private record WordMatch(Set<Reservation> reservations, int score) {}
+}
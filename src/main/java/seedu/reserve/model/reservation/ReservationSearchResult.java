@@ -0,0 +1,81 @@
+package seedu.reserve.model.reservation;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.function.Predicate;
+
+import seedu.reserve.commons.util.ToStringBuilder;
+
+/**
+ * The reservations that match a {@code ReservationQuery}, each with its score. As a predicate it holds for the
+ * matching reservations only, and {@link #getComparator()} orders them from the best match to the worst.
+ * The result follows the reservation book it was searched in: once the reservations in the book change, the query
+ * is searched again the next time the result is used, so that added and edited reservations are matched too.
+ */
+public class ReservationSearchResult implements Predicate<Reservation> {
+    private final ReservationSearchIndex searchIndex;
+    private final ReservationQuery query;
+    private final Comparator<Reservation> comparator;
+    private IdentityHashMap<Reservation, Integer> scores;
+    private long searchedVersion;
+
+    /**
+     * Constructs a {@code ReservationSearchResult} by searching {@code searchIndex} for {@code query}.
+     */
+    ReservationSearchResult(ReservationSearchIndex searchIndex, ReservationQuery query) {
+        this.searchIndex = searchIndex;
+        this.query = query;
+        this.comparator = Comparator.<Reservation>comparingInt(this::getScore).reversed()
+                .thenComparing(Reservation::getDateTime);
+        search();
+    }
+
+    public ReservationQuery getQuery() {
+        return query;
+    }
+
+    /** Returns true if this result was searched in {@code searchIndex}. */
+    boolean isSearchedIn(ReservationSearchIndex searchIndex) {
+        return this.searchIndex == searchIndex;
+    }
+
+    /** Returns the number of matching reservations. */
+    public int size() {
+        return getScores().size();
+    }
+
+    /** Returns the score of {@code reservation}, or 0 if it did not match. */
+    public int getScore(Reservation reservation) {
+        return getScores().getOrDefault(reservation, 0);
+    }
+
+    @Override
+    public boolean test(Reservation reservation) {
+        return getScores().containsKey(reservation);
+    }
+
+    /**
+     * Returns a comparator that orders reservations by descending score, and reservations with the same score
+     * by date and time.
+     */
+    public Comparator<Reservation> getComparator() {
+        return comparator;
+    }
+
+    private IdentityHashMap<Reservation, Integer> getScores() {
+        if (searchedVersion != searchIndex.getVersion()) {
+            search();
+        }
+        return scores;
+    }
+
+    private void search() {
+        scores = searchIndex.score(query);
+        searchedVersion = searchIndex.getVersion();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).add("size", size()).toString();
+    }
+}
@@ -3,12 +3,22 @@ package seedu.reserve.model.reservation;
 import static java.util.Objects.requireNonNull;
 import static seedu.reserve.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.TreeMap;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.reserve.model.reservation.exceptions.DuplicateReservationException;
 import seedu.reserve.model.reservation.exceptions.ReservationNotFoundException;
@@ -27,24 +37,37 @@ import seedu.reserve.model.reservation.exceptions.ReservationNotFoundException;
  */
 public class UniqueReservationList implements Iterable<Reservation> {
 
-    private final Set<Reservation> internalSet = new TreeSet<>((r1, r2) -> {
-        int compareResult = r1.getDateTime().compareTo(r2.getDateTime());
-        if (compareResult == 0) {
-            return 0; // Consider duplicate if same date and time
-        }
-        return compareResult;
-    });
-
-    private final ObservableList<Reservation> internalList = FXCollections.observableArrayList();
+    private final ReservationArrayList internalList = new ReservationArrayList();
     private final ObservableList<Reservation> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /**
+     * Secondary index of the reservations in {@code internalList}, keyed by their {@code DateTime}.
+     * Each time slot keeps its reservations bucketed by phone and email so that identity checks
+     * (see {@link Reservation#isSameReservation(Reservation)}) do not need to scan the whole list.
+     */
+    private final NavigableMap<DateTime, ReservationSlot> slotIndex = new TreeMap<>();
+
+    /**
+     * Hours of each day that have at least one reservation, as a bitmap in which bit {@code h} is set
+     * if a reservation starts at hour {@code h}. Days without reservations have no entry.
+     */
+    private final Map<LocalDate, Integer> occupiedHoursByDate = new HashMap<>();
+
+    /**
+     * Search indexes of the names, phone numbers and emails of the reservations in {@code internalList}.
+     * Like the other indexes, they are updated before {@code internalList} changes, so that listeners of the list,
+     * such as a filtered view using {@link #getNameContainsAnyPredicate(Collection)}, see up to date indexes.
+     */
+    private final ReservationSearchIndex searchIndex = new ReservationSearchIndex();
+
     /**
      * Returns true if the list contains an equivalent reservation as the given argument.
      */
     public boolean contains(Reservation toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameReservation);
+        ReservationSlot slot = slotIndex.get(toCheck.getDateTime());
+        return slot != null && slot.hasSameReservation(toCheck);
     }
 
     /**
@@ -56,7 +79,8 @@ public class UniqueReservationList implements Iterable<Reservation> {
         if (contains(toAdd)) {
             throw new DuplicateReservationException();
         }
-        int idx = findInsertIndex(toAdd);
+        int idx = findInsertIndex(toAdd.getDateTime());
+        addToIndex(toAdd);
         internalList.add(idx, toAdd);
     }
 
@@ -64,25 +88,44 @@ public class UniqueReservationList implements Iterable<Reservation> {
      * Find index of the list for the reservation to insert into based on the DateTime.
      * Ensure list is remains sorted in ascending order.
      *
-     * @param toInsert The reservation to be inserted into the list.
-     * @return The index of the location the reservation will be inserted.
+     * @param dateTime The DateTime of the reservation to be inserted into the list.
+     * @return The index of the first reservation in the list that is not earlier than {@code dateTime}.
      * */
-    private int findInsertIndex(Reservation toInsert) {
-        int idx = 0;
-        while (idx < internalList.size() && compareDateTime(internalList.get(idx), toInsert)) {
-            idx++;
+    private int findInsertIndex(DateTime dateTime) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalList.get(mid).getDateTime().compareTo(dateTime) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
         }
-        return idx;
+        return low;
     }
 
     /**
-     * Compare DateTime of two reservation.
-     * @param reservation The current reservation in the list.
-     * @param toInsert The new reservation to be inserted.
-     * @retun {@code true} if {@code reservation} has earlier DateTime than {@code toInsert}, otherwise {@code false}.
-     * */
-    private boolean compareDateTime(Reservation reservation, Reservation toInsert) {
-        return reservation.getDateTime().compareTo(toInsert.getDateTime()) < 0;
+     * Returns the index of the reservation in the list that is equal to {@code reservation},
+     * or -1 if there is no such reservation.
+     */
+    private int indexOf(Reservation reservation) {
+        DateTime dateTime = reservation.getDateTime();
+        ReservationSlot slot = slotIndex.get(dateTime);
+        if (slot == null || !slot.hasEqualReservation(reservation)) {
+            return -1;
+        }
+
+        for (int idx = findInsertIndex(dateTime); idx < internalList.size(); idx++) {
+            Reservation current = internalList.get(idx);
+            if (!current.getDateTime().equals(dateTime)) {
+                break;
+            }
+            if (current.equals(reservation)) {
+                return idx;
+            }
+        }
+        return -1;
     }
 
     /**
@@ -94,16 +137,20 @@ public class UniqueReservationList implements Iterable<Reservation> {
     public void setReservation(Reservation target, Reservation editedReservation) {
         requireAllNonNull(target, editedReservation);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ReservationNotFoundException();
         }
 
-        if (!target.isSameReservation(editedReservation) && contains(editedReservation)) {
+        Reservation storedTarget = internalList.get(index);
+        removeFromIndex(storedTarget);
+        if (contains(editedReservation)) {
+            addToIndex(storedTarget);
             throw new DuplicateReservationException();
         }
+        addToIndex(editedReservation);
         internalList.remove(index);
-        int idx = findInsertIndex(editedReservation);
+        int idx = findInsertIndex(editedReservation.getDateTime());
         internalList.add(idx, editedReservation);
     }
 
@@ -113,19 +160,24 @@ public class UniqueReservationList implements Iterable<Reservation> {
      */
     public void remove(Reservation toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ReservationNotFoundException();
         }
+        removeFromIndex(internalList.get(index));
+        internalList.remove(index);
     }
 
     public void setReservations(UniqueReservationList replacement) {
         requireNonNull(replacement);
+        rebuildIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code reservations}.
      * {@code reservations} must not contain duplicate reservations.
+     * The reservations are sorted by their {@code DateTime} before they are added.
      */
     public void setReservations(List<Reservation> reservations) {
         requireAllNonNull(reservations);
@@ -133,7 +185,61 @@ public class UniqueReservationList implements Iterable<Reservation> {
             throw new DuplicateReservationException();
         }
 
-        internalList.setAll(reservations);
+        List<Reservation> sortedReservations = new ArrayList<>(reservations);
+        sortedReservations.sort(Comparator.comparing(Reservation::getDateTime));
+        rebuildIndex(sortedReservations);
+        internalList.setAll(sortedReservations);
+    }
+
+    /**
+     * Makes the changes in {@code edits} to this list, notifying the listeners of the list of all of them in a
+     * single change instead of one change each.
+     */
+    public void applyInSingleChange(Runnable edits) {
+        requireNonNull(edits);
+        internalList.applyInSingleChange(edits);
+    }
+
+    /**
+     * Returns a bitmap of the hours on {@code date} that have at least one reservation.
+     * Bit {@code h} is set if a reservation starts at hour {@code h} of {@code date}.
+     */
+    public int getOccupiedHours(LocalDate date) {
+        requireNonNull(date);
+        return occupiedHoursByDate.getOrDefault(date, 0);
+    }
+
+    /**
+     * Returns a predicate that is true for the reservations in this list whose name contains any of the
+     * lower-case {@code words}. The predicate looks reservations up in the live name index instead of
+     * reading their names, so it only holds for reservations that are in this list.
+     */
+    public Predicate<Reservation> getNameContainsAnyPredicate(Collection<String> words) {
+        requireAllNonNull(words);
+        return new NameContainsAnyPredicate(searchIndex, Set.copyOf(words));
+    }
+
+    /**
+     * Returns the reservations in this list that match {@code query}, ranked by how closely they match.
+     */
+    public ReservationSearchResult search(ReservationQuery query) {
+        requireNonNull(query);
+        return searchIndex.search(query);
+    }
+
+    /**
+     * Returns {@code predicate} remade to look reservations up in the indexes of this list, if it is a predicate
+     * from {@link #getNameContainsAnyPredicate(Collection)} or {@link #search(ReservationQuery)} of another list.
+     * Other predicates, including null, do not depend on the list they are used with, and are returned as they are.
+     */
+    public Predicate<? super Reservation> rebind(Predicate<? super Reservation> predicate) {
+        if (predicate instanceof NameContainsAnyPredicate namePredicate && namePredicate.searchIndex() != searchIndex) {
+            return getNameContainsAnyPredicate(namePredicate.words());
+        }
+        if (predicate instanceof ReservationSearchResult result && !result.isSearchedIn(searchIndex)) {
+            return search(result.getQuery());
+        }
+        return predicate;
     }
 
     /**
@@ -175,15 +281,183 @@ public class UniqueReservationList implements Iterable<Reservation> {
 
     /**
      * Returns true if {@code reservations} contains only unique reservations.
+     * Two reservations are the same if they share a {@code DateTime} and either a phone or an email,
+     * so each reservation is checked against the (DateTime, phone) and (DateTime, email) pairs seen so far.
      */
     private boolean reservationsAreUnique(List<Reservation> reservations) {
-        for (int i = 0; i < reservations.size() - 1; i++) {
-            for (int j = i + 1; j < reservations.size(); j++) {
-                if (reservations.get(i).isSameReservation(reservations.get(j))) {
-                    return false;
-                }
+        Set<IdentityKey> seenKeys = new HashSet<>(reservations.size() * 4);
+        for (Reservation reservation : reservations) {
+            DateTime dateTime = reservation.getDateTime();
+            if (!seenKeys.add(new IdentityKey(dateTime, reservation.getPhone()))
+                    || !seenKeys.add(new IdentityKey(dateTime, reservation.getEmail()))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * A (DateTime, phone) or (DateTime, email) pair that identifies at most one reservation in the list.
+     */
+    private record IdentityKey(DateTime dateTime, Object contact) {}
+
+    /**
+     * Records {@code reservation} in the time slot and search indexes.
+     */
+    private void addToIndex(Reservation reservation) {
+        DateTime dateTime = reservation.getDateTime();
+        ReservationSlot slot = slotIndex.get(dateTime);
+        if (slot == null) {
+            slot = new ReservationSlot();
+            slotIndex.put(dateTime, slot);
+            occupiedHoursByDate.merge(dateTime.toLocalDate(), hourBit(dateTime), (bits, bit) -> bits | bit);
+        }
+        slot.add(reservation);
+        searchIndex.add(reservation);
+    }
+
+    /**
+     * Removes {@code reservation}, the instance stored in the list, from the time slot and search indexes.
+     */
+    private void removeFromIndex(Reservation reservation) {
+        ReservationSlot slot = slotIndex.get(reservation.getDateTime());
+        assert slot != null;
+        slot.remove(reservation);
+        searchIndex.remove(reservation);
+        if (slot.isEmpty()) {
+            DateTime dateTime = reservation.getDateTime();
+            slotIndex.remove(dateTime);
+            occupiedHoursByDate.computeIfPresent(dateTime.toLocalDate(), (date, bits) -> {
+                int remainingBits = bits & ~hourBit(dateTime);
+                return remainingBits == 0 ? null : remainingBits;
+            });
+        }
+    }
+
+    private static int hourBit(DateTime dateTime) {
+        return 1 << dateTime.getHour();
+    }
+
+    /**
+     * Rebuilds the indexes from {@code reservations}, which are about to become the contents of {@code internalList}.
+     */
+    private void rebuildIndex(List<Reservation> reservations) {
+        slotIndex.clear();
+        occupiedHoursByDate.clear();
+        searchIndex.clear();
+        reservations.forEach(this::addToIndex);
+    }
+
+    /**
+     * Holds for the reservations whose name contains any of the lower-case {@code words}, according to the name
+     * index of {@code searchIndex}.
+     */
+    private record NameContainsAnyPredicate(ReservationSearchIndex searchIndex, Set<String> words)
+            implements Predicate<Reservation> {
+        @Override
+        public boolean test(Reservation reservation) {
+            return searchIndex.nameContainsAny(reservation, words);
+        }
+    }
+
+    /**
+     * An observable array list whose changes can be grouped into a single change for its listeners.
+     */
+    private static class ReservationArrayList extends ModifiableObservableListBase<Reservation> {
+        private final List<Reservation> reservations = new ArrayList<>();
+
+        void applyInSingleChange(Runnable edits) {
+            beginChange();
+            try {
+                edits.run();
+            } finally {
+                endChange();
+            }
+        }
+
+        /**
+         * Replaces the contents of this list in one step, instead of removing the old reservations one at a time.
+         */
+        @Override
+        public boolean setAll(Collection<? extends Reservation> newReservations) {
+            beginChange();
+            try {
+                if (!reservations.isEmpty()) {
+                    nextRemove(0, new ArrayList<>(reservations));
+                    reservations.clear();
+                }
+                reservations.addAll(newReservations);
+                if (!reservations.isEmpty()) {
+                    nextAdd(0, reservations.size());
+                }
+                modCount++;
+            } finally {
+                endChange();
+            }
+            return true;
+        }
+
+        @Override
+        public Reservation get(int index) {
+            return reservations.get(index);
+        }
+
+        @Override
+        public int size() {
+            return reservations.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Reservation reservation) {
+            reservations.add(index, reservation);
+        }
+
+        @Override
+        protected Reservation doSet(int index, Reservation reservation) {
+            return reservations.set(index, reservation);
+        }
+
+        @Override
+        protected Reservation doRemove(int index) {
+            return reservations.remove(index);
+        }
+    }
+
+    /**
+     * Reservations that share the same {@code DateTime}, bucketed by phone and email.
+     * Within a slot, no two reservations share a phone or an email, as they would otherwise be the same reservation.
+     */
+    private static class ReservationSlot {
+        private final Map<Phone, Reservation> reservationsByPhone = new HashMap<>();
+        private final Map<Email, Reservation> reservationsByEmail = new HashMap<>();
+
+        /**
+         * Returns true if a reservation in this slot has the same phone or email as {@code reservation}.
+         */
+        boolean hasSameReservation(Reservation reservation) {
+            return reservationsByPhone.containsKey(reservation.getPhone())
+                    || reservationsByEmail.containsKey(reservation.getEmail());
+        }
+
+        /**
+         * Returns true if a reservation in this slot is equal to {@code reservation}.
+         */
+        boolean hasEqualReservation(Reservation reservation) {
+            return reservation.equals(reservationsByPhone.get(reservation.getPhone()));
+        }
+
+        void add(Reservation reservation) {
+            reservationsByPhone.put(reservation.getPhone(), reservation);
+            reservationsByEmail.put(reservation.getEmail(), reservation);
+        }
+
+        void remove(Reservation reservation) {
+            reservationsByPhone.remove(reservation.getPhone());
+            reservationsByEmail.remove(reservation.getEmail());
+        }
+
+        boolean isEmpty() {
+            return reservationsByPhone.isEmpty();
+        }
+    }
 }
@@ -0,0 +1,160 @@
+package seedu.reserve.model.reservation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * An inverted index from lower-case words to the reservations they were taken from, e.g. the words of
+ * reservation names. Reservations are held by identity, so looking one up does not hash or compare any of its fields.
+ * Words are kept in sorted order, so that all the words starting with a prefix, or all the words within a few edits
+ * of a query, can be found without looking at every word.
+ */
+class WordIndex {
+    private final NavigableMap<String, Set<Reservation>> reservationsByWord = new TreeMap<>();
+    private final Function<Reservation, Collection<String>> wordsOf;
+
+    /**
+     * Creates an empty index that files each reservation under the lower-case words returned by {@code wordsOf}.
+     */
+    WordIndex(Function<Reservation, Collection<String>> wordsOf) {
+        this.wordsOf = wordsOf;
+    }
+
+    void add(Reservation reservation) {
+        for (String word : wordsOf.apply(reservation)) {
+            reservationsByWord.computeIfAbsent(word, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(reservation);
+        }
+    }
+
+    /**
+     * Removes {@code reservation}, which must be the same instance that was added.
+     */
+    void remove(Reservation reservation) {
+        for (String word : wordsOf.apply(reservation)) {
+            Set<Reservation> reservations = reservationsByWord.get(word);
+            reservations.remove(reservation);
+            if (reservations.isEmpty()) {
+                reservationsByWord.remove(word);
+            }
+        }
+    }
+
+    void clear() {
+        reservationsByWord.clear();
+    }
+
+    /**
+     * Returns true if {@code reservation} is indexed under any of the lower-case {@code words}.
+     */
+    boolean containsAny(Reservation reservation, Collection<String> words) {
+        for (String word : words) {
+            Set<Reservation> reservations = reservationsByWord.get(word);
+            if (reservations != null && reservations.contains(reservation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Passes every indexed word that starts with the lower-case {@code prefix}, with its reservations, to
+     * {@code action}.
+     */
+    void forEachWordStartingWith(String prefix, BiConsumer<String, Set<Reservation>> action) {
+        reservationsByWord.subMap(prefix, true, prefix + Character.MAX_VALUE, false).forEach(action);
+    }
+
+    /**
+     * Passes every indexed word that is at most {@code maxEdits} insertions, deletions or substitutions away from
+     * the lower-case {@code query}, with its reservations and that edit distance, to {@code action}.
+     * Words are visited in sorted order, so consecutive words reuse the rows of the edit distance table computed
+     * for their common prefix, and every word under a prefix that is already too far from {@code query} is skipped.
+     */
+    void forEachWordWithin(String query, int maxEdits, DistanceConsumer action) {
+        List<int[]> rows = new ArrayList<>();
+        int[] firstRow = new int[query.length() + 1];
+        for (int i = 0; i < firstRow.length; i++) {
+            firstRow[i] = i;
+        }
+        rows.add(firstRow);
+
+        String previousWord = "";
+        Map.Entry<String, Set<Reservation>> entry = reservationsByWord.firstEntry();
+        while (entry != null) {
+            String word = entry.getKey();
+            int commonLength = Math.min(commonPrefixLength(previousWord, word), rows.size() - 1);
+            rows.subList(commonLength + 1, rows.size()).clear();
+
+            int prunedLength = -1;
+            for (int i = commonLength; i < word.length(); i++) {
+                int[] row = nextRow(rows.get(i), query, word.charAt(i));
+                rows.add(row);
+                if (min(row) > maxEdits) {
+                    prunedLength = i + 1;
+                    break;
+                }
+            }
+
+            if (prunedLength >= 0) {
+                previousWord = word.substring(0, prunedLength);
+                entry = reservationsByWord.higherEntry(previousWord + Character.MAX_VALUE);
+                continue;
+            }
+
+            int distance = rows.get(word.length())[query.length()];
+            if (distance <= maxEdits) {
+                action.accept(word, entry.getValue(), distance);
+            }
+            previousWord = word;
+            entry = reservationsByWord.higherEntry(word);
+        }
+    }
+
+    /**
+     * Returns the row of the edit distance table for one more character {@code c} of the indexed word.
+     */
+    private static int[] nextRow(int[] previousRow, String query, char c) {
+        int[] row = new int[previousRow.length];
+        row[0] = previousRow[0] + 1;
+        for (int j = 1; j < row.length; j++) {
+            int substitution = previousRow[j - 1] + (query.charAt(j - 1) == c ? 0 : 1);
+            row[j] = Math.min(substitution, Math.min(previousRow[j], row[j - 1]) + 1);
+        }
+        return row;
+    }
+
+    private static int min(int[] row) {
+        int min = row[0];
+        for (int value : row) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    private static int commonPrefixLength(String first, String second) {
+        int length = Math.min(first.length(), second.length());
+        int i = 0;
+        while (i < length && first.charAt(i) == second.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Receives a word found by {@link #forEachWordWithin} with its reservations and edit distance.
+     */
+    @FunctionalInterface
+    interface DistanceConsumer {
+        void accept(String word, Set<Reservation> reservations, int distance);
+    }
+}
@@ -0,0 +1,167 @@
+package seedu.reserve.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.reserve.commons.core.LogsCenter;
+import seedu.reserve.commons.util.StringUtil;
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * Saves the changes made to a reservation book to a {@link ReserveMateStorage} on a single background thread.
+ * The saver keeps its own copy of the reservations and brings it up to date with the changes on the background
+ * thread, so that the reservation book is never copied on the thread that changes it.
+ * Changes scheduled while an earlier save is still queued are coalesced into a single save.
+ * Changes must not be modified after they are scheduled.
+ */
+public class BackgroundReserveMateSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundReserveMateSaver.class);
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 5;
+
+    private final ReserveMateStorage storage;
+    private final ThreadPoolExecutor executor;
+    private final AtomicReference<IOException> saveError = new AtomicReference<>();
+
+    /** The reservations as of the latest save, only used on the background thread. */
+    private final Set<Reservation> savedReservations;
+
+    /** Changes scheduled since the latest save was started, or null if there are none. */
+    private ReserveMateChanges pendingChanges;
+
+    /**
+     * Creates a {@code BackgroundReserveMateSaver} that writes to the given {@code storage} the changes made to
+     * a reservation book that currently holds {@code reservations}.
+     */
+    public BackgroundReserveMateSaver(ReserveMateStorage storage, Collection<Reservation> reservations) {
+        requireNonNull(storage);
+        requireNonNull(reservations);
+        this.storage = storage;
+        this.savedReservations = new LinkedHashSet<>(reservations);
+        executor = new ThreadPoolExecutor(1, 1, IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "ReserveMate-saver");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Schedules {@code changes} to be saved in the background.
+     * If previously scheduled changes have not been saved yet, they are saved together with {@code changes}.
+     */
+    public void scheduleSave(ReserveMateChanges changes) {
+        requireNonNull(changes);
+        boolean isSaveQueued;
+        synchronized (this) {
+            isSaveQueued = pendingChanges != null;
+            if (isSaveQueued) {
+                pendingChanges.addAll(changes);
+            } else {
+                pendingChanges = changes;
+            }
+        }
+        if (!isSaveQueued) {
+            executor.execute(this::savePendingChanges);
+        }
+    }
+
+    /**
+     * Saves the changes scheduled since the latest save.
+     */
+    private void savePendingChanges() {
+        ReserveMateChanges changes;
+        synchronized (this) {
+            changes = pendingChanges;
+            pendingChanges = null;
+        }
+        if (changes == null) {
+            return;
+        }
+
+        changes.applyTo(savedReservations);
+        try {
+            storage.saveReserveMate(this::getSavedReservationList, changes);
+            saveError.set(null);
+        } catch (IOException e) {
+            logger.warning("Failed to save data file in the background: " + StringUtil.getDetails(e));
+            saveError.set(e);
+        }
+    }
+
+    /**
+     * Returns the saved reservations in date and time order, as the reservation book keeps them.
+     * Storages that save only the changes never ask for them, so the copy is made only for full saves.
+     */
+    private ObservableList<Reservation> getSavedReservationList() {
+        List<Reservation> reservations = new ArrayList<>(savedReservations);
+        reservations.sort(Comparator.comparing(Reservation::getDateTime));
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(reservations));
+    }
+
+    /**
+     * Throws the error of the latest background save if it failed.
+     * The error is cleared once it has been thrown.
+     *
+     * @throws IOException if the latest background save failed.
+     */
+    public void checkSaveError() throws IOException {
+        IOException error = saveError.getAndSet(null);
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Blocks until all scheduled changes have been saved.
+     *
+     * @throws IOException if the latest background save failed.
+     */
+    public void flush() throws IOException {
+        runAfterScheduledSaves(() -> { });
+        checkSaveError();
+    }
+
+    /**
+     * Makes {@code reservations} the saved reservations that later changes are made to, for a reservation book
+     * that was replaced with data the storage already holds. Blocks until the changes scheduled before have been
+     * saved.
+     */
+    public void resetSavedReservations(Collection<Reservation> reservations) {
+        requireNonNull(reservations);
+        List<Reservation> newSavedReservations = new ArrayList<>(reservations);
+        runAfterScheduledSaves(() -> {
+            savedReservations.clear();
+            savedReservations.addAll(newSavedReservations);
+        });
+    }
+
+    /**
+     * Runs {@code task} on the background thread once the scheduled saves are done, and waits for it to finish.
+     */
+    private void runAfterScheduledSaves(Runnable task) {
+        try {
+            executor.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package seedu.reserve.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.reserve.commons.core.LogsCenter;
+import seedu.reserve.commons.util.FileUtil;
+import seedu.reserve.model.occasion.Occasion;
+import seedu.reserve.model.reservation.DateTime;
+import seedu.reserve.model.reservation.Diners;
+import seedu.reserve.model.reservation.Email;
+import seedu.reserve.model.reservation.Name;
+import seedu.reserve.model.reservation.Phone;
+import seedu.reserve.model.reservation.Preference;
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * A binary copy of the reservations in the json data files, kept next to them so that startup can skip parsing
+ * json. It is only a cache: the json files stay the source of truth, and the copy is ignored unless its checksum
+ * matches and the json files it was written from have not changed since.
+ * <p>
+ * The file holds the names, sizes and modification times of those json files, a pool of the distinct strings in
+ * the reservations, a pool of the distinct sets of occasions, and a table of fixed-size records that refer to
+ * the pools by index, followed by a CRC32 of everything before it. It is read into memory with a single channel
+ * read rather than mapped, so that no mapping is left holding the file open and stopping it from being replaced
+ * on Windows. Each distinct value in the pools is turned into a model object once and shared by the records that
+ * use it.
+ */
+class BinaryReserveMateSnapshot {
+
+    public static final String SNAPSHOT_FILE_SUFFIX = ".bin";
+
+    private static final int MAGIC = 0x524D5342;
+    private static final int VERSION = 1;
+    private static final int CHECKSUM_BYTES = Long.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryReserveMateSnapshot.class);
+
+    private final Path filePath;
+
+    BinaryReserveMateSnapshot(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the location of the binary snapshot kept alongside the data file at {@code filePath}.
+     */
+    public static Path getSnapshotFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SNAPSHOT_FILE_SUFFIX);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the reservations in the snapshot, in the order they were saved.
+     * Returns {@code Optional.empty()} if there is no snapshot, it is damaged, or any of the json files it was
+     * written from has changed since, in which case those files should be read instead.
+     */
+    public Optional<List<Reservation>> read() {
+        if (!Files.isRegularFile(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer buffer = readFile();
+            if (!hasValidChecksum(buffer)) {
+                logger.warning("Ignoring binary snapshot " + filePath + " as its checksum does not match");
+                return Optional.empty();
+            }
+            buffer.limit(buffer.limit() - CHECKSUM_BYTES);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                logger.info("Ignoring binary snapshot " + filePath + " written in another format");
+                return Optional.empty();
+            }
+            if (!areSourcesUnchanged(buffer)) {
+                logger.info("Ignoring binary snapshot " + filePath + " as the data files have changed since");
+                return Optional.empty();
+            }
+            return Optional.of(readReservations(buffer));
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                | ArithmeticException e) {
+            logger.warning("Error reading binary snapshot " + filePath + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    private ByteBuffer readFile() throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the whole file is in the buffer
+            }
+            return buffer.flip();
+        }
+    }
+
+    private static boolean hasValidChecksum(ByteBuffer buffer) {
+        int checksumPosition = buffer.limit() - CHECKSUM_BYTES;
+        if (checksumPosition < 0) {
+            return false;
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.duplicate().limit(checksumPosition));
+        return checksum.getValue() == buffer.getLong(checksumPosition);
+    }
+
+    private boolean areSourcesUnchanged(ByteBuffer buffer) throws IOException {
+        int sourceCount = buffer.getInt();
+        boolean isUnchanged = true;
+        for (int i = 0; i < sourceCount; i++) {
+            Path sourceFilePath = filePath.resolveSibling(readString(buffer));
+            long size = buffer.getLong();
+            long lastModified = buffer.getLong();
+            isUnchanged = isUnchanged && Files.isRegularFile(sourceFilePath)
+                    && Files.size(sourceFilePath) == size
+                    && Files.getLastModifiedTime(sourceFilePath).toMillis() == lastModified;
+        }
+        return isUnchanged;
+    }
+
+    private static List<Reservation> readReservations(ByteBuffer buffer) {
+        String[] strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readString(buffer);
+        }
+        Pool<Occasion> occasions = new Pool<>(strings, Occasion::new);
+        List<Set<Occasion>> occasionSets = new ArrayList<>();
+        int occasionSetCount = buffer.getInt();
+        for (int i = 0; i < occasionSetCount; i++) {
+            Set<Occasion> occasionSet = new HashSet<>();
+            int size = buffer.getInt();
+            for (int j = 0; j < size; j++) {
+                occasionSet.add(occasions.get(buffer.getInt()));
+            }
+            occasionSets.add(occasionSet);
+        }
+
+        Pool<Name> names = new Pool<>(strings, Name::new);
+        Pool<Phone> phones = new Pool<>(strings, Phone::new);
+        Pool<Email> emails = new Pool<>(strings, Email::new);
+        Pool<Diners> diners = new Pool<>(strings, Diners::new);
+        Pool<DateTime> dateTimes = new Pool<>(strings, DateTime::fromFileString);
+        Pool<Preference> preferences = new Pool<>(strings, Preference::new);
+        int reservationCount = buffer.getInt();
+        List<Reservation> reservations = new ArrayList<>(reservationCount);
+        for (int i = 0; i < reservationCount; i++) {
+            reservations.add(new Reservation(names.get(buffer.getInt()), phones.get(buffer.getInt()),
+                    emails.get(buffer.getInt()), diners.get(buffer.getInt()), dateTimes.get(buffer.getInt()),
+                    occasionSets.get(buffer.getInt()), preferences.get(buffer.getInt())));
+        }
+        return reservations;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Saves {@code reservations} as the snapshot of the json files at {@code sourceFilePaths}, which must be in
+     * the same directory as the snapshot and must have been written already.
+     */
+    public void save(List<Reservation> reservations, List<Path> sourceFilePaths) throws IOException {
+        requireNonNull(reservations);
+        requireNonNull(sourceFilePaths);
+
+        Map<String, Integer> strings = new HashMap<>();
+        Map<Set<Occasion>, Integer> occasionSets = new HashMap<>();
+        int[] records = new int[reservations.size() * 7];
+        int recordIndex = 0;
+        for (Reservation reservation : reservations) {
+            records[recordIndex++] = indexOf(strings, reservation.getName().fullName);
+            records[recordIndex++] = indexOf(strings, reservation.getPhone().value);
+            records[recordIndex++] = indexOf(strings, reservation.getEmail().value);
+            records[recordIndex++] = indexOf(strings, reservation.getDiners().toString());
+            records[recordIndex++] = indexOf(strings, reservation.getDateTime().toString());
+            records[recordIndex++] = indexOf(occasionSets, reservation.getOccasions());
+            records[recordIndex++] = indexOf(strings, reservation.getPreference().toString());
+        }
+        List<int[]> occasionSetRecords = new ArrayList<>();
+        for (Set<Occasion> occasionSet : inIndexOrder(occasionSets)) {
+            occasionSetRecords.add(occasionSet.stream()
+                    .mapToInt(occasion -> indexOf(strings, occasion.occasionName)).toArray());
+        }
+
+        FileUtil.writeToFile(filePath, out -> {
+            CRC32 checksum = new CRC32();
+            DataOutputStream data = new DataOutputStream(
+                    new CheckedOutputStream(new BufferedOutputStream(out), checksum));
+            data.writeInt(MAGIC);
+            data.writeInt(VERSION);
+            data.writeInt(sourceFilePaths.size());
+            for (Path sourceFilePath : sourceFilePaths) {
+                writeString(data, sourceFilePath.getFileName().toString());
+                data.writeLong(Files.size(sourceFilePath));
+                data.writeLong(Files.getLastModifiedTime(sourceFilePath).toMillis());
+            }
+
+            data.writeInt(strings.size());
+            for (String string : inIndexOrder(strings)) {
+                writeString(data, string);
+            }
+            data.writeInt(occasionSets.size());
+            for (int[] occasionIndexes : occasionSetRecords) {
+                data.writeInt(occasionIndexes.length);
+                for (int occasionIndex : occasionIndexes) {
+                    data.writeInt(occasionIndex);
+                }
+            }
+            data.writeInt(reservations.size());
+            for (int field : records) {
+                data.writeInt(field);
+            }
+
+            data.flush();
+            new DataOutputStream(out).writeLong(checksum.getValue());
+        });
+    }
+
+    private static <T> int indexOf(Map<T, Integer> pool, T value) {
+        return pool.computeIfAbsent(value, unused -> pool.size());
+    }
+
+    private static <T> List<T> inIndexOrder(Map<T, Integer> pool) {
+        List<T> values = new ArrayList<>(pool.size());
+        pool.keySet().forEach(unused -> values.add(null));
+        pool.forEach((value, index) -> values.set(index, value));
+        return values;
+    }
+
+    private static void writeString(DataOutputStream data, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    /**
+     * Turns the strings in the string pool into model objects of one type as they are first used.
+     */
+    private static class Pool<T> {
+        private final String[] strings;
+        private final Function<String, T> factory;
+        private final Object[] values;
+
+        Pool(String[] strings, Function<String, T> factory) {
+            this.strings = strings;
+            this.factory = factory;
+            this.values = new Object[strings.length];
+        }
+
+        @SuppressWarnings("unchecked")
+        T get(int index) {
+            if (values[index] == null) {
+                values[index] = factory.apply(strings[index]);
+            }
+            return (T) values[index];
+        }
+    }
+}
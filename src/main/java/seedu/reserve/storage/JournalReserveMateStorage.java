@@ -0,0 +1,294 @@
+package seedu.reserve.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.reserve.commons.core.LogsCenter;
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.commons.exceptions.IllegalValueException;
+import seedu.reserve.commons.util.FileUtil;
+import seedu.reserve.commons.util.JsonUtil;
+import seedu.reserve.model.ReadOnlyReserveMate;
+import seedu.reserve.model.ReserveMate;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.exceptions.DuplicateReservationException;
+
+/**
+ * A class to access ReserveMate data stored as a json snapshot plus an append-only journal on the hard disk.
+ * Each save of {@link ReserveMateChanges} appends only the reservations added, edited or deleted since the
+ * previous save, one compact json record per line, to a journal file next to the snapshot, and forces them to the
+ * disk. The journal is folded into the snapshot once it grows past a size threshold.
+ */
+public class JournalReserveMateStorage implements ReserveMateStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String SKIPPED_JOURNAL_FILE_SUFFIX = ".skipped";
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalReserveMateStorage.class);
+
+    private final Path filePath;
+    private final long compactionThresholdBytes;
+    private final ShardedReserveMateStorage snapshotStorage;
+
+    /** Location whose snapshot and journal together hold the reservations last read or saved, null if unknown. */
+    private Path persistedFilePath;
+
+    public JournalReserveMateStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * Creates a {@code JournalReserveMateStorage} that compacts its journal into a fresh snapshot
+     * once the journal is larger than {@code compactionThresholdBytes}.
+     */
+    public JournalReserveMateStorage(Path filePath, long compactionThresholdBytes) {
+        this.filePath = filePath;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+        this.snapshotStorage = new ShardedReserveMateStorage(filePath);
+    }
+
+    @Override
+    public Path getReserveMateFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the journal kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the location a journal at {@code journalFilePath} is moved to when it is not replayed.
+     */
+    public static Path getSkippedJournalFilePath(Path journalFilePath) {
+        return journalFilePath.resolveSibling(journalFilePath.getFileName() + SKIPPED_JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyReserveMate> readReserveMate() throws DataLoadingException {
+        return readReserveMate(filePath);
+    }
+
+    /**
+     * Similar to {@link #readReserveMate()}.
+     * The journal is replayed over the snapshot, so the result reflects every save made before shutdown.
+     * If the snapshot could only be read from its backup, the journal is moved aside instead of being replayed,
+     * so the result is the older generation as a whole rather than a mix of two generations.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyReserveMate> readReserveMate(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        persistedFilePath = null;
+        Optional<ReadOnlyReserveMate> snapshot = snapshotStorage.readReserveMate(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (snapshotStorage.isLastReadFromBackup() && Files.exists(journalFilePath)) {
+            skipJournal(journalFilePath);
+            return snapshot;
+        }
+        if (!snapshot.isPresent() && !Files.exists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        Set<Reservation> reservations = new LinkedHashSet<>();
+        snapshot.ifPresent(reserveMate -> reservations.addAll(reserveMate.getReservationList()));
+        boolean isJournalAppendable = replayJournal(journalFilePath, reservations);
+
+        ReserveMate reserveMate = new ReserveMate();
+        try {
+            reserveMate.setReservations(new ArrayList<>(reservations));
+        } catch (DuplicateReservationException e) {
+            logger.info("Duplicate reservations found after replaying " + journalFilePath);
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableReserveMate.MESSAGE_DUPLICATE_RESERVATION));
+        }
+
+        persistedFilePath = isJournalAppendable ? filePath : null;
+        return Optional.of(reserveMate);
+    }
+
+    /**
+     * Moves the journal at {@code journalFilePath} aside without replaying it, as its entries were made to a newer
+     * snapshot than the backup that was read. The moved journal is kept for recovering those entries by hand.
+     */
+    private void skipJournal(Path journalFilePath) throws DataLoadingException {
+        Path skippedFilePath = getSkippedJournalFilePath(journalFilePath);
+        logger.warning("Snapshot was read from its backup, so journal " + journalFilePath
+                + " is not replayed and is moved to " + skippedFilePath);
+        try {
+            Files.move(journalFilePath, skippedFilePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warning("Error moving journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Applies every entry in the journal at {@code journalFilePath} to {@code reservations}, in order.
+     * A final line that cannot be parsed is treated as a write interrupted by a crash, skipped and cut off the
+     * journal, so that the next entry appended does not follow it on the same line.
+     *
+     * @return false if the final line could not be cut off, in which case nothing may be appended to the journal.
+     */
+    private boolean replayJournal(Path journalFilePath, Set<Reservation> reservations) throws DataLoadingException {
+        if (!Files.exists(journalFilePath)) {
+            return true;
+        }
+        logger.info("Replaying journal " + journalFilePath);
+
+        boolean isAppendable = true;
+        try {
+            if (FileUtil.repairLastLine(journalFilePath, JournalReserveMateStorage::isCompleteEntry)) {
+                logger.warning("Cut off incomplete last entry in journal " + journalFilePath);
+            }
+        } catch (IOException e) {
+            logger.warning("Error repairing the end of journal file " + journalFilePath + ": " + e);
+            isAppendable = false;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry in journal " + journalFilePath);
+                    return isAppendable;
+                }
+                logger.warning("Error reading entry " + (i + 1) + " of journal " + journalFilePath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+            try {
+                entry.applyTo(reservations);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in entry " + (i + 1) + " of " + journalFilePath + ": "
+                        + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        }
+        return isAppendable;
+    }
+
+    private static boolean isCompleteEntry(String line) {
+        if (line.isBlank()) {
+            return true;
+        }
+        try {
+            JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void saveReserveMate(ReadOnlyReserveMate reserveMate) throws IOException {
+        saveReserveMate(reserveMate, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveReserveMate(ReadOnlyReserveMate)}.
+     * Always writes a full snapshot, as nothing is known about how {@code reserveMate} differs from the saved data.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveReserveMate(ReadOnlyReserveMate reserveMate, Path filePath) throws IOException {
+        requireNonNull(reserveMate);
+        requireNonNull(filePath);
+
+        saveSnapshot(reserveMate, filePath);
+    }
+
+    /**
+     * Appends {@code changes} to the journal without reading {@code reserveMate}, unless the snapshot and journal
+     * are not known to hold the reservations the changes were made to or every reservation was removed, in which
+     * case a full snapshot is written instead.
+     * If the append fails, the next save writes a full snapshot, as the journal may then be missing changes.
+     */
+    @Override
+    public void saveReserveMate(ReadOnlyReserveMate reserveMate, ReserveMateChanges changes) throws IOException {
+        requireNonNull(reserveMate);
+        requireNonNull(changes);
+
+        if (changes.isCleared() || !filePath.equals(persistedFilePath) || !Files.exists(filePath)) {
+            saveSnapshot(reserveMate, filePath);
+            return;
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        persistedFilePath = null;
+        appendToJournal(journalFilePath, changes.toJournalEntries());
+        persistedFilePath = filePath;
+
+        if (Files.size(journalFilePath) > compactionThresholdBytes) {
+            logger.info("Compacting journal " + journalFilePath);
+            saveSnapshot(reserveMate, filePath);
+        }
+    }
+
+    /**
+     * Appends {@code entries} to the journal at {@code journalFilePath} and forces them to the disk before
+     * returning, so that a save is never reported as done while its entries are still only in the OS cache.
+     */
+    private void appendToJournal(Path journalFilePath, List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder records = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            records.append(JsonUtil.toCompactJsonString(entry)).append(System.lineSeparator());
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(records.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(journalFilePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Writes all of {@code reserveMate} to the snapshot at {@code filePath} and starts a new, empty journal.
+     * If this fails, the next save writes a full snapshot again rather than appending over the old one.
+     */
+    private void saveSnapshot(ReadOnlyReserveMate reserveMate, Path filePath) throws IOException {
+        persistedFilePath = null;
+        snapshotStorage.saveReserveMate(reserveMate, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        persistedFilePath = filePath;
+    }
+
+}
@@ -0,0 +1,108 @@
+package seedu.reserve.storage;
+
+import java.util.Collection;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.reserve.commons.exceptions.IllegalValueException;
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * Jackson-friendly version of a single change recorded in the ReserveMate journal.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String OP_ADD = "add";
+    public static final String OP_DELETE = "delete";
+    public static final String OP_EDIT = "edit";
+    public static final String OP_CLEAR = "clear";
+
+    public static final String MESSAGE_UNKNOWN_OP = "Unknown journal operation: %s";
+    public static final String MESSAGE_MISSING_RESERVATION = "Journal entry '%s' is missing its reservation!";
+
+    private final String op;
+    private final JsonAdaptedReservation reservation;
+    private final JsonAdaptedReservation edited;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("op") String op,
+                                   @JsonProperty("reservation") JsonAdaptedReservation reservation,
+                                   @JsonProperty("edited") JsonAdaptedReservation edited) {
+        this.op = op;
+        this.reservation = reservation;
+        this.edited = edited;
+    }
+
+    /**
+     * Returns an entry recording that {@code reservation} was added.
+     */
+    public static JsonAdaptedJournalEntry add(Reservation reservation) {
+        return new JsonAdaptedJournalEntry(OP_ADD, new JsonAdaptedReservation(reservation), null);
+    }
+
+    /**
+     * Returns an entry recording that {@code reservation} was deleted.
+     */
+    public static JsonAdaptedJournalEntry delete(Reservation reservation) {
+        return new JsonAdaptedJournalEntry(OP_DELETE, new JsonAdaptedReservation(reservation), null);
+    }
+
+    /**
+     * Returns an entry recording that {@code target} was replaced by {@code editedReservation}.
+     */
+    public static JsonAdaptedJournalEntry edit(Reservation target, Reservation editedReservation) {
+        return new JsonAdaptedJournalEntry(OP_EDIT, new JsonAdaptedReservation(target),
+                new JsonAdaptedReservation(editedReservation));
+    }
+
+    /**
+     * Returns an entry recording that all reservations were removed.
+     */
+    public static JsonAdaptedJournalEntry clear() {
+        return new JsonAdaptedJournalEntry(OP_CLEAR, null, null);
+    }
+
+    /**
+     * Applies the change recorded by this entry to {@code reservations}.
+     * Applying an entry twice leaves {@code reservations} as if it was applied once.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in this entry.
+     */
+    public void applyTo(Collection<Reservation> reservations) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OP, op));
+        }
+        if (OP_CLEAR.equals(op)) {
+            reservations.clear();
+            return;
+        }
+        if (reservation == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_RESERVATION, op));
+        }
+
+        switch (op) {
+        case OP_ADD:
+            reservations.add(reservation.toModelType());
+            break;
+        case OP_DELETE:
+            reservations.remove(reservation.toModelType());
+            break;
+        case OP_EDIT:
+            if (edited == null) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_RESERVATION, op));
+            }
+            reservations.remove(reservation.toModelType());
+            reservations.add(edited.toModelType());
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OP, op));
+        }
+    }
+
+}
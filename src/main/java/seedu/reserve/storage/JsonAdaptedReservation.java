@@ -118,10 +118,12 @@ class JsonAdaptedReservation {
                     DateTime.class.getSimpleName()));
         }
 
-        if (!DateTime.isValidFileInputDateTime(dateTime)) {
+        final DateTime modelDateTime;
+        try {
+            modelDateTime = DateTime.fromFileString(dateTime);
+        } catch (IllegalArgumentException e) {
             throw new IllegalValueException(DateTime.MESSAGE_CONSTRAINTS);
         }
-        final DateTime modelDateTime = DateTime.fromFileString(dateTime);
 
         final Set<Occasion> modelOccasions = new HashSet<>(reservationOccasions);
 
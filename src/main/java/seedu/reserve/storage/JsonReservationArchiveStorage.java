@@ -0,0 +1,206 @@
+package seedu.reserve.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import seedu.reserve.commons.core.LogsCenter;
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.commons.exceptions.IllegalValueException;
+import seedu.reserve.commons.util.FileUtil;
+import seedu.reserve.commons.util.JsonUtil;
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * A class to access archived reservations stored on the hard disk as one file per calendar month, next to the
+ * archive file path, e.g. {@code reservemate.json.archive.2025-05}. Each file holds one compact json record per
+ * line. Archiving only ever appends to the files, so reservations archived earlier are never rewritten, and
+ * reading a range of months only reads the files of those months.
+ * Reservations archived before the archive was split by month are kept in the file at the archive file path
+ * itself, which is read along with any months.
+ */
+public class JsonReservationArchiveStorage implements ReservationArchiveStorage {
+
+    public static final String ARCHIVE_FILE_SUFFIX = ".archive";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonReservationArchiveStorage.class);
+
+    private final Path filePath;
+
+    public JsonReservationArchiveStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the location of the archive kept alongside the reservation book data file at {@code filePath}.
+     */
+    public static Path getArchiveFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ARCHIVE_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getArchiveFilePath() {
+        return filePath;
+    }
+
+    /**
+     * {@inheritDoc}
+     * A reservation archived more than once, e.g. when the app stopped before the reservation book was saved
+     * after archiving, is returned once. A final line that cannot be parsed is treated as a write interrupted
+     * by a crash and skipped.
+     */
+    @Override
+    public List<Reservation> readArchivedReservations() throws DataLoadingException {
+        return readArchivedReservations(YearMonth.of(0, 1), YearMonth.of(9999, 12));
+    }
+
+    @Override
+    public List<Reservation> readArchivedReservations(YearMonth from, YearMonth to) throws DataLoadingException {
+        requireNonNull(from);
+        requireNonNull(to);
+
+        Set<Reservation> reservations = new LinkedHashSet<>();
+        for (YearMonth month : getArchivedMonths()) {
+            if (!month.isBefore(from) && !month.isAfter(to)) {
+                readArchiveFile(ShardedReserveMateStorage.getShardFilePath(filePath, month), reservations);
+            }
+        }
+        if (Files.exists(filePath)) {
+            Set<Reservation> unsplitReservations = new LinkedHashSet<>();
+            readArchiveFile(filePath, unsplitReservations);
+            unsplitReservations.removeIf(reservation -> {
+                YearMonth month = YearMonth.from(reservation.getDateTime().toLocalDate());
+                return month.isBefore(from) || month.isAfter(to);
+            });
+            reservations.addAll(unsplitReservations);
+        }
+
+        List<Reservation> archivedReservations = new ArrayList<>(reservations);
+        archivedReservations.sort(Comparator.comparing(Reservation::getDateTime));
+        return archivedReservations;
+    }
+
+    /**
+     * Returns the months that have an archive file, from earliest to latest.
+     */
+    private List<YearMonth> getArchivedMonths() throws DataLoadingException {
+        Path directory = filePath.toAbsolutePath().getParent();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        String prefix = filePath.getFileName() + ".";
+        List<YearMonth> months = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                file -> file.getFileName().toString().startsWith(prefix))) {
+            for (Path file : files) {
+                try {
+                    months.add(YearMonth.parse(file.getFileName().toString().substring(prefix.length())));
+                } catch (DateTimeParseException e) {
+                    // Not the archive file of a month
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error listing the archive files in " + directory + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        Collections.sort(months);
+        return months;
+    }
+
+    /**
+     * Adds the reservations in the archive file at {@code archiveFilePath} to {@code reservations}.
+     */
+    private void readArchiveFile(Path archiveFilePath, Set<Reservation> reservations) throws DataLoadingException {
+        logger.info("Reading archive " + archiveFilePath);
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(archiveFilePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from archive file " + archiveFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonAdaptedReservation reservation;
+            try {
+                reservation = JsonUtil.fromJsonString(line, JsonAdaptedReservation.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last reservation in archive " + archiveFilePath);
+                    return;
+                }
+                logger.warning("Error reading line " + (i + 1) + " of archive " + archiveFilePath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+            try {
+                reservations.add(reservation.toModelType());
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in line " + (i + 1) + " of " + archiveFilePath + ": "
+                        + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        }
+    }
+
+    private static boolean isCompleteRecord(String line) {
+        if (line.isBlank()) {
+            return true;
+        }
+        try {
+            JsonUtil.fromJsonString(line, JsonAdaptedReservation.class);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * An incomplete last line left in a month file by an interrupted append is cut off first, so that the
+     * reservations appended after it start on a line of their own.
+     */
+    @Override
+    public void appendToArchive(List<Reservation> reservations) throws IOException {
+        requireNonNull(reservations);
+
+        Map<YearMonth, StringBuilder> records = new TreeMap<>();
+        for (Reservation reservation : reservations) {
+            YearMonth month = YearMonth.from(reservation.getDateTime().toLocalDate());
+            records.computeIfAbsent(month, unused -> new StringBuilder())
+                    .append(JsonUtil.toCompactJsonString(new JsonAdaptedReservation(reservation)))
+                    .append(System.lineSeparator());
+        }
+        for (Map.Entry<YearMonth, StringBuilder> monthRecords : records.entrySet()) {
+            Path archiveFilePath = ShardedReserveMateStorage.getShardFilePath(filePath, monthRecords.getKey());
+            FileUtil.createParentDirsOfFile(archiveFilePath);
+            if (FileUtil.repairLastLine(archiveFilePath, JsonReservationArchiveStorage::isCompleteRecord)) {
+                logger.warning("Cut off incomplete last reservation in archive " + archiveFilePath);
+            }
+            Files.write(archiveFilePath, monthRecords.getValue().toString().getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+    }
+
+}
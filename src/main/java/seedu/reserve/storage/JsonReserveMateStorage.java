@@ -22,15 +22,32 @@ public class JsonReserveMateStorage implements ReserveMateStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonReserveMateStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private boolean isLastReadFromBackup;
 
     public JsonReserveMateStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonReserveMateStorage} that writes its file without indentation if {@code isCompact}.
+     */
+    public JsonReserveMateStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getReserveMateFilePath() {
         return filePath;
     }
 
+    /**
+     * Returns true if the data returned by the last read came from the backup rather than the data file.
+     */
+    public boolean isLastReadFromBackup() {
+        return isLastReadFromBackup;
+    }
+
     @Override
     public Optional<ReadOnlyReserveMate> readReserveMate() throws DataLoadingException {
         return readReserveMate(filePath);
@@ -38,6 +55,7 @@ public class JsonReserveMateStorage implements ReserveMateStorage {
 
     /**
      * Similar to {@link #readReserveMate()}.
+     * Falls back to the generation saved before the last one if the data at {@code filePath} cannot be loaded.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,6 +63,26 @@ public class JsonReserveMateStorage implements ReserveMateStorage {
     public Optional<ReadOnlyReserveMate> readReserveMate(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
+        isLastReadFromBackup = false;
+        try {
+            return readReserveMateFile(filePath);
+        } catch (DataLoadingException e) {
+            Path backupFilePath = FileUtil.getBackupFilePath(filePath);
+            if (!FileUtil.isFileExists(backupFilePath)) {
+                throw e;
+            }
+            logger.warning("Data file " + filePath + " could not be loaded. Falling back to " + backupFilePath);
+            try {
+                Optional<ReadOnlyReserveMate> backup = readReserveMateFile(backupFilePath);
+                isLastReadFromBackup = true;
+                return backup;
+            } catch (DataLoadingException backupException) {
+                throw e;
+            }
+        }
+    }
+
+    private Optional<ReadOnlyReserveMate> readReserveMateFile(Path filePath) throws DataLoadingException {
         Optional<JsonSerializableReserveMate> jsonReserveMate = JsonUtil.readJsonFile(
                 filePath, JsonSerializableReserveMate.class);
         if (!jsonReserveMate.isPresent()) {
@@ -66,6 +104,7 @@ public class JsonReserveMateStorage implements ReserveMateStorage {
 
     /**
      * Similar to {@link #saveReserveMate(ReadOnlyReserveMate)}.
+     * The data previously at {@code filePath} is kept as a backup for {@link #readReserveMate(Path)}.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +112,8 @@ public class JsonReserveMateStorage implements ReserveMateStorage {
         requireNonNull(reserveMate);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableReserveMate(reserveMate), filePath);
+        FileUtil.createBackup(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableReserveMate(reserveMate), filePath, isCompact);
     }
 
 }
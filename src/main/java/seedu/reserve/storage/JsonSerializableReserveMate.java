@@ -12,6 +12,7 @@ import seedu.reserve.commons.exceptions.IllegalValueException;
 import seedu.reserve.model.ReadOnlyReserveMate;
 import seedu.reserve.model.ReserveMate;
 import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.exceptions.DuplicateReservationException;
 
 /**
  * An Immutable ReserveMate that is serializable to JSON format.
@@ -47,13 +48,16 @@ class JsonSerializableReserveMate {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public ReserveMate toModelType() throws IllegalValueException {
-        ReserveMate reserveMate = new ReserveMate();
+        List<Reservation> modelReservations = new ArrayList<>(reservations.size());
         for (JsonAdaptedReservation jsonAdaptedReservation : reservations) {
-            Reservation reservation = jsonAdaptedReservation.toModelType();
-            if (reserveMate.hasReservation(reservation)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_RESERVATION);
-            }
-            reserveMate.addReservation(reservation);
+            modelReservations.add(jsonAdaptedReservation.toModelType());
+        }
+
+        ReserveMate reserveMate = new ReserveMate();
+        try {
+            reserveMate.setReservations(modelReservations);
+        } catch (DuplicateReservationException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_RESERVATION);
         }
         return reserveMate;
     }
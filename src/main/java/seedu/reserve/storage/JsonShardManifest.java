@@ -0,0 +1,64 @@
+package seedu.reserve.storage;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.reserve.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of the manifest that lists the monthly shards of a sharded ReserveMate data file.
+ */
+class JsonShardManifest {
+
+    public static final String MESSAGE_INVALID_MONTH = "Manifest lists an invalid shard month: %s";
+
+    private final List<String> months;
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given shard months, in the format YYYY-MM.
+     * {@code months} is null if the file read is not a manifest, such as a data file written before sharding.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("months") List<String> months) {
+        this.months = months;
+    }
+
+    /**
+     * Converts the given shard months into this class for Jackson use.
+     */
+    public JsonShardManifest(Collection<YearMonth> months) {
+        this.months = new ArrayList<>();
+        months.forEach(month -> this.months.add(month.toString()));
+    }
+
+    /**
+     * Returns true if this was read from a manifest, rather than from a data file written before sharding.
+     */
+    public boolean isManifest() {
+        return months != null;
+    }
+
+    /**
+     * Returns the months listed in this manifest.
+     *
+     * @throws IllegalValueException if a listed month is not in the format YYYY-MM.
+     */
+    public List<YearMonth> toModelType() throws IllegalValueException {
+        List<YearMonth> shardMonths = new ArrayList<>(months.size());
+        for (String month : months) {
+            try {
+                shardMonths.add(YearMonth.parse(month));
+            } catch (DateTimeParseException | NullPointerException e) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_MONTH, month));
+            }
+        }
+        return shardMonths;
+    }
+
+}
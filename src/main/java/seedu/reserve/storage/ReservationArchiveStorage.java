@@ -0,0 +1,44 @@
+package seedu.reserve.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
+
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.model.ReservationArchive;
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * Represents a storage for the past reservations that have been moved out of the reservation book.
+ */
+public interface ReservationArchiveStorage extends ReservationArchive {
+
+    /**
+     * Returns the file path of the archive file.
+     */
+    Path getArchiveFilePath();
+
+    /**
+     * Returns the archived reservations, from oldest to newest.
+     * Returns an empty list if there is no archive file.
+     *
+     * @throws DataLoadingException if loading the archive from storage failed.
+     */
+    @Override
+    List<Reservation> readArchivedReservations() throws DataLoadingException;
+
+    /**
+     * @see #readArchivedReservations()
+     */
+    @Override
+    List<Reservation> readArchivedReservations(YearMonth from, YearMonth to) throws DataLoadingException;
+
+    /**
+     * Adds {@code reservations} to the archive, leaving the reservations already in it untouched.
+     * @param reservations cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendToArchive(List<Reservation> reservations) throws IOException;
+
+}
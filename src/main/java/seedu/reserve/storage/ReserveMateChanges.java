@@ -0,0 +1,108 @@
+package seedu.reserve.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * The changes made to a reservation book since it was last saved, in the order they were made.
+ * Only the reservations that were added or removed are kept, so recording a change never copies the whole book.
+ */
+public class ReserveMateChanges {
+
+    private final List<Change> changes = new ArrayList<>();
+
+    /** Records that {@code reservation} was added. */
+    public void recordAdd(Reservation reservation) {
+        requireNonNull(reservation);
+        changes.add(new Change(Operation.ADD, reservation));
+    }
+
+    /** Records that {@code reservation} was removed. */
+    public void recordRemove(Reservation reservation) {
+        requireNonNull(reservation);
+        changes.add(new Change(Operation.REMOVE, reservation));
+    }
+
+    /** Records that every reservation was removed, which makes the changes recorded before it unnecessary. */
+    public void recordClear() {
+        changes.clear();
+        changes.add(new Change(Operation.CLEAR, null));
+    }
+
+    /** Records the changes in {@code later}, which were made after the changes recorded so far. */
+    public void addAll(ReserveMateChanges later) {
+        requireNonNull(later);
+        if (later.isCleared()) {
+            changes.clear();
+        }
+        changes.addAll(later.changes);
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /** Returns true if every reservation was removed before the other changes were made. */
+    public boolean isCleared() {
+        return !changes.isEmpty() && changes.get(0).operation() == Operation.CLEAR;
+    }
+
+    /**
+     * Makes the changes to {@code reservations}, which must hold the reservations the changes were made to.
+     */
+    public void applyTo(Collection<Reservation> reservations) {
+        requireNonNull(reservations);
+        for (Change change : changes) {
+            switch (change.operation()) {
+            case ADD:
+                reservations.add(change.reservation());
+                break;
+            case REMOVE:
+                reservations.remove(change.reservation());
+                break;
+            case CLEAR:
+                reservations.clear();
+                break;
+            default:
+                throw new AssertionError("Unknown operation " + change.operation());
+            }
+        }
+    }
+
+    /**
+     * Returns the changes as journal entries. A removal directly followed by an addition, as made by an edit,
+     * becomes a single edit entry.
+     */
+    List<JsonAdaptedJournalEntry> toJournalEntries() {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>(changes.size());
+        for (int i = 0; i < changes.size(); i++) {
+            Change change = changes.get(i);
+            Change next = i + 1 < changes.size() ? changes.get(i + 1) : null;
+            if (change.operation() == Operation.REMOVE && next != null && next.operation() == Operation.ADD) {
+                entries.add(JsonAdaptedJournalEntry.edit(change.reservation(), next.reservation()));
+                i++;
+            } else if (change.operation() == Operation.ADD) {
+                entries.add(JsonAdaptedJournalEntry.add(change.reservation()));
+            } else if (change.operation() == Operation.REMOVE) {
+                entries.add(JsonAdaptedJournalEntry.delete(change.reservation()));
+            } else {
+                entries.add(JsonAdaptedJournalEntry.clear());
+            }
+        }
+        return entries;
+    }
+
+    private enum Operation {
+        ADD, REMOVE, CLEAR
+    }
+
+    /**
+     * A single change, where {@code reservation} is null for {@code CLEAR}.
+     */
+    private record Change(Operation operation, Reservation reservation) {}
+}
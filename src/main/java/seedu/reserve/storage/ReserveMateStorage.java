@@ -42,4 +42,16 @@ public interface ReserveMateStorage {
      */
     void saveReserveMate(ReadOnlyReserveMate reserveMate, Path filePath) throws IOException;
 
+    /**
+     * Saves {@code reserveMate}, which is the reservation book last saved to the storage with {@code changes}
+     * made to it. Storages that can save only the changes do so without reading {@code reserveMate}; the others
+     * save the whole book.
+     * @param reserveMate cannot be null.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveReserveMate(ReadOnlyReserveMate reserveMate, ReserveMateChanges changes) throws IOException {
+        saveReserveMate(reserveMate);
+    }
+
 }
@@ -0,0 +1,252 @@
+package seedu.reserve.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.reserve.commons.core.LogsCenter;
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.commons.exceptions.IllegalValueException;
+import seedu.reserve.commons.util.FileUtil;
+import seedu.reserve.commons.util.JsonUtil;
+import seedu.reserve.model.ReadOnlyReserveMate;
+import seedu.reserve.model.ReserveMate;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.exceptions.DuplicateReservationException;
+
+/**
+ * A class to access ReserveMate data stored on the hard disk as one json file, or shard, per calendar month.
+ * The data file itself is a small manifest listing the months that have a shard, and each shard is kept next to
+ * it, e.g. {@code reservemate.json.2025-05}. Saving rewrites only the shards whose reservations changed since
+ * they were last read or saved.
+ * A data file written before sharding, which holds all reservations itself, is read as is and replaced by a
+ * manifest and shards at the next save.
+ * A {@link BinaryReserveMateSnapshot} of the shards is kept next to the manifest and read instead of the shards
+ * while they are unchanged.
+ */
+public class ShardedReserveMateStorage implements ReserveMateStorage {
+
+    public static final String MESSAGE_MISSING_SHARD = "Shard listed in the manifest is missing: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedReserveMateStorage.class);
+
+    private final Path filePath;
+
+    /** Location whose shards hold {@code persistedShards}, null if unknown. */
+    private Path persistedFilePath;
+    private Map<YearMonth, List<Reservation>> persistedShards = new HashMap<>();
+    private boolean isLastReadFromBackup;
+
+    public ShardedReserveMateStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getReserveMateFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the shard for {@code month} kept alongside the file at {@code filePath}.
+     */
+    public static Path getShardFilePath(Path filePath, YearMonth month) {
+        return filePath.resolveSibling(filePath.getFileName() + "." + month);
+    }
+
+    /**
+     * Returns true if any of the data returned by the last read came from a backup rather than the data files,
+     * in which case the binary snapshot was not saved from it.
+     */
+    public boolean isLastReadFromBackup() {
+        return isLastReadFromBackup;
+    }
+
+    @Override
+    public Optional<ReadOnlyReserveMate> readReserveMate() throws DataLoadingException {
+        return readReserveMate(filePath);
+    }
+
+    /**
+     * Similar to {@link #readReserveMate()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyReserveMate> readReserveMate(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        isLastReadFromBackup = false;
+        Optional<List<Reservation>> snapshotReservations =
+                new BinaryReserveMateSnapshot(BinaryReserveMateSnapshot.getSnapshotFilePath(filePath)).read();
+        if (snapshotReservations.isPresent()) {
+            logger.info("Reading " + filePath + " from its binary snapshot");
+            ReserveMate reserveMate = toReserveMate(snapshotReservations.get(), filePath);
+            persistedFilePath = filePath;
+            persistedShards = groupByMonth(snapshotReservations.get());
+            return Optional.of(reserveMate);
+        }
+
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(filePath, JsonShardManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+        if (!manifest.get().isManifest()) {
+            logger.info("Reading " + filePath + ", which was written before sharding");
+            persistedFilePath = null;
+            JsonReserveMateStorage legacyStorage = new JsonReserveMateStorage(filePath);
+            Optional<ReadOnlyReserveMate> reserveMate = legacyStorage.readReserveMate(filePath);
+            isLastReadFromBackup = legacyStorage.isLastReadFromBackup();
+            return reserveMate;
+        }
+
+        Map<YearMonth, List<Reservation>> shards = new HashMap<>();
+        List<Reservation> reservations = new ArrayList<>();
+        try {
+            for (YearMonth month : manifest.get().toModelType()) {
+                List<Reservation> shard = readShard(getShardFilePath(filePath, month));
+                shards.put(month, shard);
+                reservations.addAll(shard);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        ReserveMate reserveMate = toReserveMate(reservations, filePath);
+        persistedFilePath = filePath;
+        persistedShards = shards;
+        if (!isLastReadFromBackup) {
+            saveBinarySnapshot(filePath, reservations, shards.keySet());
+        }
+        return Optional.of(reserveMate);
+    }
+
+    private static ReserveMate toReserveMate(List<Reservation> reservations, Path filePath)
+            throws DataLoadingException {
+        ReserveMate reserveMate = new ReserveMate();
+        try {
+            reserveMate.setReservations(reservations);
+        } catch (DuplicateReservationException e) {
+            logger.info("Duplicate reservations found across the shards of " + filePath);
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableReserveMate.MESSAGE_DUPLICATE_RESERVATION));
+        }
+        return reserveMate;
+    }
+
+    private static Map<YearMonth, List<Reservation>> groupByMonth(List<Reservation> reservations) {
+        Map<YearMonth, List<Reservation>> shards = new TreeMap<>();
+        for (Reservation reservation : reservations) {
+            YearMonth month = YearMonth.from(reservation.getDateTime().toLocalDate());
+            shards.computeIfAbsent(month, unused -> new ArrayList<>()).add(reservation);
+        }
+        return shards;
+    }
+
+    private List<Reservation> readShard(Path shardFilePath) throws DataLoadingException, IllegalValueException {
+        JsonReserveMateStorage shardStorage = new JsonReserveMateStorage(shardFilePath);
+        Optional<ReadOnlyReserveMate> shard = shardStorage.readReserveMate();
+        isLastReadFromBackup = isLastReadFromBackup || shardStorage.isLastReadFromBackup();
+        if (!shard.isPresent()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_SHARD, shardFilePath));
+        }
+        return new ArrayList<>(shard.get().getReservationList());
+    }
+
+    @Override
+    public void saveReserveMate(ReadOnlyReserveMate reserveMate) throws IOException {
+        saveReserveMate(reserveMate, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveReserveMate(ReadOnlyReserveMate)}.
+     * The changed shards are written before the manifest, so the manifest never lists a shard that is not there.
+     * The binary snapshot is removed before any shard is written and saved again after the manifest.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveReserveMate(ReadOnlyReserveMate reserveMate, Path filePath) throws IOException {
+        requireNonNull(reserveMate);
+        requireNonNull(filePath);
+
+        Map<YearMonth, List<Reservation>> shards = groupByMonth(reserveMate.getReservationList());
+        deleteBinarySnapshot(filePath);
+
+        boolean isPersisted = filePath.equals(persistedFilePath) && Files.exists(filePath);
+        for (Map.Entry<YearMonth, List<Reservation>> shard : shards.entrySet()) {
+            if (!isPersisted || !shard.getValue().equals(persistedShards.get(shard.getKey()))) {
+                logger.fine("Writing shard " + shard.getKey() + " of " + filePath);
+                ObservableList<Reservation> shardReservations = FXCollections.observableList(shard.getValue());
+                new JsonReserveMateStorage(getShardFilePath(filePath, shard.getKey()))
+                        .saveReserveMate(() -> shardReservations);
+            }
+        }
+        if (!isPersisted || !shards.keySet().equals(persistedShards.keySet())) {
+            JsonUtil.saveJsonFile(new JsonShardManifest(shards.keySet()), filePath);
+        }
+        if (isPersisted) {
+            for (YearMonth month : persistedShards.keySet()) {
+                if (!shards.containsKey(month)) {
+                    deleteShard(getShardFilePath(filePath, month));
+                }
+            }
+        }
+
+        persistedFilePath = filePath;
+        persistedShards = shards;
+        List<Reservation> reservations = new ArrayList<>();
+        shards.values().forEach(reservations::addAll);
+        saveBinarySnapshot(filePath, reservations, shards.keySet());
+    }
+
+    /**
+     * Saves {@code reservations} as the binary snapshot of the manifest at {@code filePath} and the shards of
+     * {@code months}. Failing to do so only costs the next read its speed, so the failure is logged.
+     */
+    private void saveBinarySnapshot(Path filePath, List<Reservation> reservations, Collection<YearMonth> months) {
+        List<Path> sourceFilePaths = new ArrayList<>();
+        sourceFilePaths.add(filePath);
+        months.forEach(month -> sourceFilePaths.add(getShardFilePath(filePath, month)));
+        Path snapshotFilePath = BinaryReserveMateSnapshot.getSnapshotFilePath(filePath);
+        try {
+            new BinaryReserveMateSnapshot(snapshotFilePath).save(reservations, sourceFilePaths);
+        } catch (IOException e) {
+            logger.warning("Failed to save binary snapshot " + snapshotFilePath + ": " + e);
+        }
+    }
+
+    /**
+     * Removes the binary snapshot of the manifest at {@code filePath}, so that it cannot be taken for a copy of
+     * shards about to be rewritten. The snapshot is only a cache, so failing to remove it is logged rather than
+     * failing the save; the shards it was written from will no longer match it once they are rewritten.
+     */
+    private void deleteBinarySnapshot(Path filePath) {
+        Path snapshotFilePath = BinaryReserveMateSnapshot.getSnapshotFilePath(filePath);
+        try {
+            Files.deleteIfExists(snapshotFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to delete binary snapshot " + snapshotFilePath + ": " + e);
+        }
+    }
+
+    private void deleteShard(Path shardFilePath) throws IOException {
+        Files.deleteIfExists(shardFilePath);
+        Files.deleteIfExists(FileUtil.getBackupFilePath(shardFilePath));
+    }
+
+}
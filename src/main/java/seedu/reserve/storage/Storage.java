@@ -2,17 +2,21 @@ package seedu.reserve.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.reserve.commons.exceptions.DataLoadingException;
 import seedu.reserve.model.ReadOnlyReserveMate;
 import seedu.reserve.model.ReadOnlyUserPrefs;
 import seedu.reserve.model.UserPrefs;
+import seedu.reserve.model.reservation.Reservation;
 
 /**
  * API of the Storage component
  */
-public interface Storage extends ReserveMateStorage, UserPrefsStorage {
+public interface Storage extends ReserveMateStorage, UserPrefsStorage, ReservationArchiveStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
@@ -29,4 +33,24 @@ public interface Storage extends ReserveMateStorage, UserPrefsStorage {
     @Override
     void saveReserveMate(ReadOnlyReserveMate reserveMate) throws IOException;
 
+    @Override
+    List<Reservation> readArchivedReservations() throws DataLoadingException;
+
+    @Override
+    List<Reservation> readArchivedReservations(YearMonth from, YearMonth to) throws DataLoadingException;
+
+    @Override
+    void appendToArchive(List<Reservation> reservations) throws IOException;
+
+    /**
+     * Moves the reservations in {@code reserveMate} whose date-time is before {@code cutoff} to the archive,
+     * then saves the remaining reservations as the reservation book.
+     * Returns the remaining reservations, or {@code reserveMate} itself if none were archived.
+     *
+     * @throws IOException if there was any problem writing to the archive, in which case nothing is moved,
+     *     or to the reservation book.
+     */
+    ReadOnlyReserveMate archiveReservationsBefore(ReadOnlyReserveMate reserveMate, LocalDateTime cutoff)
+            throws IOException;
+
 }
@@ -2,6 +2,10 @@ package seedu.reserve.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -9,7 +13,9 @@ import seedu.reserve.commons.core.LogsCenter;
 import seedu.reserve.commons.exceptions.DataLoadingException;
 import seedu.reserve.model.ReadOnlyReserveMate;
 import seedu.reserve.model.ReadOnlyUserPrefs;
+import seedu.reserve.model.ReserveMate;
 import seedu.reserve.model.UserPrefs;
+import seedu.reserve.model.reservation.Reservation;
 
 /**
  * Manages storage of ReserveMate data in local storage.
@@ -19,13 +25,26 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private ReserveMateStorage reserveMateStorage;
     private UserPrefsStorage userPrefsStorage;
+    private ReservationArchiveStorage archiveStorage;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code ReserveMateStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code ReserveMateStorage} and {@code UserPrefStorage},
+     * which keeps archived reservations in a file alongside the reservation book data file.
      */
     public StorageManager(ReserveMateStorage reserveMateStorage, UserPrefsStorage userPrefsStorage) {
+        this(reserveMateStorage, userPrefsStorage, new JsonReservationArchiveStorage(
+                JsonReservationArchiveStorage.getArchiveFilePath(reserveMateStorage.getReserveMateFilePath())));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code ReserveMateStorage}, {@code UserPrefStorage}
+     * and {@code ReservationArchiveStorage}.
+     */
+    public StorageManager(ReserveMateStorage reserveMateStorage, UserPrefsStorage userPrefsStorage,
+                          ReservationArchiveStorage archiveStorage) {
         this.reserveMateStorage = reserveMateStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.archiveStorage = archiveStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -75,4 +94,61 @@ public class StorageManager implements Storage {
         reserveMateStorage.saveReserveMate(reserveMate, filePath);
     }
 
+    @Override
+    public void saveReserveMate(ReadOnlyReserveMate reserveMate, ReserveMateChanges changes) throws IOException {
+        logger.fine("Attempting to write changes to data file: " + reserveMateStorage.getReserveMateFilePath());
+        reserveMateStorage.saveReserveMate(reserveMate, changes);
+    }
+
+    // ================ Archive methods ==============================
+
+    @Override
+    public Path getArchiveFilePath() {
+        return archiveStorage.getArchiveFilePath();
+    }
+
+    @Override
+    public List<Reservation> readArchivedReservations() throws DataLoadingException {
+        logger.fine("Attempting to read archive from file: " + archiveStorage.getArchiveFilePath());
+        return archiveStorage.readArchivedReservations();
+    }
+
+    @Override
+    public List<Reservation> readArchivedReservations(YearMonth from, YearMonth to) throws DataLoadingException {
+        logger.fine("Attempting to read archive from " + from + " to " + to + " from file: "
+                + archiveStorage.getArchiveFilePath());
+        return archiveStorage.readArchivedReservations(from, to);
+    }
+
+    @Override
+    public void appendToArchive(List<Reservation> reservations) throws IOException {
+        logger.fine("Attempting to append to archive file: " + archiveStorage.getArchiveFilePath());
+        archiveStorage.appendToArchive(reservations);
+    }
+
+    @Override
+    public ReadOnlyReserveMate archiveReservationsBefore(ReadOnlyReserveMate reserveMate, LocalDateTime cutoff)
+            throws IOException {
+        List<Reservation> archived = new ArrayList<>();
+        List<Reservation> remaining = new ArrayList<>();
+        for (Reservation reservation : reserveMate.getReservationList()) {
+            if (reservation.getDateTime().toLocalDateTime().isBefore(cutoff)) {
+                archived.add(reservation);
+            } else {
+                remaining.add(reservation);
+            }
+        }
+        if (archived.isEmpty()) {
+            return reserveMate;
+        }
+
+        logger.info("Archiving " + archived.size() + " reservations from before " + cutoff);
+        // The archive is written first, so that a failure never loses the reservations
+        appendToArchive(archived);
+        ReserveMate remainingReserveMate = new ReserveMate();
+        remainingReserveMate.setReservations(remaining);
+        saveReserveMate(remainingReserveMate);
+        return remainingReserveMate;
+    }
+
 }
@@ -31,6 +31,16 @@ public class CommandBox extends UiPart<Region> {
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
     }
 
+    /**
+     * Stops or resumes accepting commands. The command box takes the focus when it accepts commands again.
+     */
+    public void setDisabled(boolean isDisabled) {
+        commandTextField.setDisable(isDisabled);
+        if (!isDisabled) {
+            commandTextField.requestFocus();
+        }
+    }
+
     /**
      * Handles the Enter button pressed event.
      */
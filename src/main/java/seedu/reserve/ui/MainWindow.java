@@ -1,6 +1,5 @@
 package seedu.reserve.ui;
 
-import java.util.HashMap;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -20,6 +19,7 @@ import seedu.reserve.logic.commands.CommandResult;
 import seedu.reserve.logic.commands.exceptions.CommandException;
 import seedu.reserve.logic.parser.exceptions.ParseException;
 import seedu.reserve.model.Model;
+import seedu.reserve.model.ReadOnlyReservationStatistics;
 import seedu.reserve.model.reservation.Reservation;
 
 /**
@@ -28,6 +28,10 @@ import seedu.reserve.model.reservation.Reservation;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_LOADING = "Loading reservations from %1$s...";
+    public static final String MESSAGE_LOADING_FAILED = "Could not load reservations from %1$s: %2$s\n"
+            + "ReserveMate has started with an empty reservation book.";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
@@ -39,6 +43,7 @@ public class MainWindow extends UiPart<Stage> {
     // Independent Ui parts residing in this Ui container
     private ReservationListPanel reservationListPanel;
     private ResultDisplay resultDisplay;
+    private CommandBox commandBox;
     private HelpWindow helpWindow;
     private StatisticsWindow statisticsWindow;
 
@@ -77,7 +82,10 @@ public class MainWindow extends UiPart<Stage> {
         statisticsWindow = new StatisticsWindow();
 
         model.getFilteredReservationList().addListener((ListChangeListener<Reservation>) change -> {
-            HashMap<String, Integer> updatedStats = model.getReservationStatistics();
+            if (!statisticsWindow.isShowing()) {
+                return;
+            }
+            ReadOnlyReservationStatistics updatedStats = model.getReservationStatistics();
             Platform.runLater(() -> {
                 statisticsWindow.setBarChart(updatedStats);
             });
@@ -136,10 +144,29 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getReserveMateFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Shows that the reservation book is still being loaded, during which no commands can be entered,
+     * or that it has finished loading.
+     */
+    void setLoading(boolean isLoading) {
+        commandBox.setDisabled(isLoading);
+        String feedback = isLoading ? String.format(MESSAGE_LOADING, logic.getReserveMateFilePath()) : "";
+        resultDisplay.setFeedbackToUser(feedback);
+    }
+
+    /**
+     * Enables the command box and shows that loading the reservation book failed because of {@code error}.
+     */
+    void setLoadingFailed(Throwable error) {
+        commandBox.setDisabled(false);
+        resultDisplay.setFeedbackToUser(String.format(MESSAGE_LOADING_FAILED, logic.getReserveMateFilePath(),
+                error.getMessage()));
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -219,9 +246,11 @@ public class MainWindow extends UiPart<Stage> {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-            Platform.runLater(() -> {
-                statisticsWindow.setBarChart(logic.getReservationStatistics());
-            });
+            if (statisticsWindow.isShowing()) {
+                Platform.runLater(() -> {
+                    statisticsWindow.setBarChart(logic.getReservationStatistics());
+                });
+            }
 
             if (commandResult.isShowUserGuide()) {
                 handleHelp();
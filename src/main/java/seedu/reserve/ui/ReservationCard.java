@@ -8,6 +8,8 @@ import seedu.reserve.model.reservation.Reservation;
 
 /**
  * An UI component that displays information of a {@code Reservation}.
+ * A card can be reused to display another reservation, so that list cells do not load the FXML file again
+ * whenever they are scrolled to a different reservation.
  */
 public class ReservationCard extends UiPart<Region> {
 
@@ -21,7 +23,7 @@ public class ReservationCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/ReserveMate-level4/issues/336">The issue on ReserveMate level 4</a>
      */
 
-    public final Reservation reservation;
+    private Reservation reservation;
 
     @FXML
     private HBox cardPane;
@@ -35,14 +37,32 @@ public class ReservationCard extends UiPart<Region> {
     private Label dateTime;
 
     /**
-     * Creates a {@code ReservationCode} with the given {@code Reservation} and index to display.
+     * Creates an empty {@code ReservationCard} to be filled by {@link #setReservation(Reservation, int)}.
      */
-    public ReservationCard(Reservation reservation, int displayedIndex) {
+    public ReservationCard() {
         super(FXML);
+    }
+
+    /**
+     * Creates a {@code ReservationCard} with the given {@code Reservation} and index to display.
+     */
+    public ReservationCard(Reservation reservation, int displayedIndex) {
+        this();
+        setReservation(reservation, displayedIndex);
+    }
+
+    public Reservation getReservation() {
+        return reservation;
+    }
+
+    /**
+     * Displays {@code reservation} with the given index in place of the reservation displayed before.
+     */
+    public void setReservation(Reservation reservation, int displayedIndex) {
         this.reservation = reservation;
         id.setText(displayedIndex + ". ");
         name.setText(reservation.getName().fullName);
-        diners.setText(reservation.getDiners().value + " Diners");
+        diners.setText(reservation.getDiners() + " Diners");
         dateTime.setText(reservation.getDateTime().toString());
     }
 }
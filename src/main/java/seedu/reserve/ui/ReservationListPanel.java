@@ -31,8 +31,12 @@ public class ReservationListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Reservation} using a {@code ReservationCard}.
+     * The {@code ListView} only creates enough cells to fill the visible area and reuses them as the list is
+     * scrolled, so each cell builds its card once and only updates the card's labels afterwards.
      */
     class ReservationListViewCell extends ListCell<Reservation> {
+        private ReservationCard card;
+
         @Override
         protected void updateItem(Reservation reservation, boolean empty) {
             super.updateItem(reservation, empty);
@@ -41,7 +45,11 @@ public class ReservationListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ReservationCard(reservation, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new ReservationCard();
+                }
+                card.setReservation(reservation, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -1,6 +1,5 @@
 package seedu.reserve.ui;
 
-import java.util.HashMap;
 import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
@@ -13,6 +12,8 @@ import javafx.scene.input.ClipboardContent;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import seedu.reserve.commons.core.LogsCenter;
+import seedu.reserve.model.ReadOnlyReservationStatistics;
+import seedu.reserve.model.reservation.Diners;
 
 /**
  * The Statistics Window. Provides the basic application layout containing
@@ -74,7 +75,7 @@ public class StatisticsWindow extends UiPart<Stage> {
      *         </li>
      *     </ul>
      */
-    public void show(HashMap<String, Integer> reservationStatistics) {
+    public void show(ReadOnlyReservationStatistics reservationStatistics) {
         logger.fine("Showing statistics page of reservations.");
         Stage root = getRoot();
         setBarChart(reservationStatistics);
@@ -93,12 +94,12 @@ public class StatisticsWindow extends UiPart<Stage> {
     /**
      * Sets bar chart data from reservation statistics.
      *
-     * @param reservationStatistics HashMap of categories to numerical values.
+     * @param reservationStatistics numbers of reservations by number of diners.
      */
-    public void setBarChart(HashMap<String, Integer> reservationStatistics) {
+    public void setBarChart(ReadOnlyReservationStatistics reservationStatistics) {
         barChart.getData().clear();
 
-        if (reservationStatistics == null || reservationStatistics.isEmpty()) {
+        if (reservationStatistics == null) {
             logger.info("No reservations found to display in chart.");
             statisticsMessage.setText("No reservations to summarize.");
             return;
@@ -110,9 +111,9 @@ public class StatisticsWindow extends UiPart<Stage> {
         series.setName("Reservations");
 
         int maxCount = 1;
-        for (int i = 1; i <= 10; i++) {
+        for (int i = Diners.MIN_DINERS; i <= Diners.MAX_DINERS; i++) {
             String key = String.valueOf(i);
-            int value = reservationStatistics.getOrDefault(key, 0);
+            int value = reservationStatistics.getNumberOfReservations(i);
             maxCount = Math.max(maxCount, value);
             series.getData().add(new XYChart.Data<>(key, value));
         }
@@ -9,4 +9,16 @@ public interface Ui {
 
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
+
+    /**
+     * Shows that the reservation book is still being loaded, during which no commands can be entered,
+     * or that it has finished loading.
+     */
+    void setLoading(boolean isLoading);
+
+    /**
+     * Shows that the reservation book could not be loaded because of {@code error}, and lets commands be
+     * entered on the empty reservation book used instead.
+     */
+    void setLoadingFailed(Throwable error);
 }
@@ -53,6 +53,20 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void setLoading(boolean isLoading) {
+        if (mainWindow != null) {
+            mainWindow.setLoading(isLoading);
+        }
+    }
+
+    @Override
+    public void setLoadingFailed(Throwable error) {
+        if (mainWindow != null) {
+            mainWindow.setLoadingFailed(error);
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -6,17 +6,30 @@ import java.io.IOException;
 import java.net.URL;
 
 import javafx.fxml.FXMLLoader;
+import javafx.fxml.JavaFXBuilderFactory;
+import javafx.util.BuilderFactory;
 import seedu.reserve.MainApp;
 
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
  * It contains a scene graph with a root node of type {@code T}.
+ * All UI parts share the builders that {@code FXMLLoader} looks up by reflection, so that UI parts that are built
+ * repeatedly do not look them up again.
  */
 public abstract class UiPart<T> {
 
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
+    private static final JavaFXBuilderFactory sharedBuilderFactory = new JavaFXBuilderFactory();
+
+    /** Guards {@code sharedBuilderFactory}, which caches its builder types in an unsynchronized map. */
+    private static final BuilderFactory builderFactory = type -> {
+        synchronized (sharedBuilderFactory) {
+            return sharedBuilderFactory.getBuilder(type);
+        }
+    };
+
     private final FXMLLoader fxmlLoader = new FXMLLoader();
 
     /**
@@ -68,6 +81,7 @@ public abstract class UiPart<T> {
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
+        fxmlLoader.setBuilderFactory(builderFactory);
         try {
             fxmlLoader.load();
         } catch (IOException e) {
@@ -39,10 +39,32 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validBatchPath_success() {
+        parametersStub.namedParameters.put("batch", "bookings.txt");
+        expected.setBatchPath(Paths.get("bookings.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidBatchPath_success() {
+        parametersStub.namedParameters.put("batch", "a\0");
+        expected.setBatchPath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setBatchPath(Paths.get("-"));
+        assertEquals(expected, AppParameters.parse("--config=config.json", "unnamed", "--=value", "--batch=-"));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", batchPath=" + appParameters.getBatchPath() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +88,11 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different batch path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setBatchPath(Paths.get("batchPath"));
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
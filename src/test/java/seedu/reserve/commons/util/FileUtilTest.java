@@ -1,13 +1,23 @@
 package seedu.reserve.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.reserve.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,67 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingParentDirs_fileWrittenWithoutTempFile() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.json");
+
+        FileUtil.writeToFile(file, "first");
+        FileUtil.writeToFile(file, "second");
+
+        assertEquals("second", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFile_contentWriterFails_originalFileKept() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "original");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFile(file, out -> {
+            out.write("partial".getBytes());
+            throw new IOException();
+        }));
+
+        assertEquals("original", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void createBackup_existingFile_previousContentKept() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.createBackup(file);
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file)));
+
+        FileUtil.writeToFile(file, "first");
+        FileUtil.createBackup(file);
+        FileUtil.writeToFile(file, "second");
+
+        assertEquals("first", FileUtil.readFromFile(FileUtil.getBackupFilePath(file)));
+        assertEquals("second", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void repairLastLine_unterminatedLastLine_terminatedOrCutOff() throws Exception {
+        Path file = testFolder.resolve("file.log");
+        assertFalse(FileUtil.repairLastLine(file, line -> true));
+
+        String complete = "first" + System.lineSeparator();
+        Files.writeString(file, complete);
+        assertFalse(FileUtil.repairLastLine(file, line -> false));
+        assertEquals(complete, Files.readString(file));
+
+        Files.writeString(file, complete + "torn");
+        assertTrue(FileUtil.repairLastLine(file, line -> !line.equals("torn")));
+        assertEquals(complete, Files.readString(file));
+
+        Files.writeString(file, complete + "second");
+        assertFalse(FileUtil.repairLastLine(file, line -> line.equals("second")));
+        assertEquals(complete + "second" + System.lineSeparator(), Files.readString(file));
+
+        Files.writeString(file, "torn");
+        assertTrue(FileUtil.repairLastLine(file, line -> false));
+        assertEquals("", Files.readString(file));
+    }
+
 }
@@ -0,0 +1,36 @@
+package seedu.reserve.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.reserve.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final Interner<String> interner = new Interner<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_firstValueShared() {
+        String first = new String("Birthday");
+        String second = new String("Birthday");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+    }
+
+    @Test
+    public void intern_differentValues_notShared() {
+        String birthday = interner.intern(new String("Birthday"));
+        String anniversary = interner.intern(new String("Anniversary"));
+        assertEquals("Birthday", birthday);
+        assertEquals("Anniversary", anniversary);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.reserve.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.logic.commands.CommandTestUtil.DATETIME_DESC_AMY;
+import static seedu.reserve.logic.commands.CommandTestUtil.DINERS_DESC_AMY;
+import static seedu.reserve.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.reserve.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.reserve.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.reserve.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.logic.commands.AddCommand;
+import seedu.reserve.logic.commands.ExitCommand;
+import seedu.reserve.logic.commands.HelpCommand;
+import seedu.reserve.logic.commands.ListCommand;
+import seedu.reserve.model.Model;
+import seedu.reserve.model.ModelManager;
+
+public class BatchRunnerTest {
+
+    private static final String ADD_AMY_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + DINERS_DESC_AMY + DATETIME_DESC_AMY;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @Test
+    public void constructor_nullModel_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BatchRunner(null));
+    }
+
+    @Test
+    public void run_mixedCommands_reportsEachCommandAndSummary() throws Exception {
+        String script = String.join("\n",
+                "# nightly import",
+                "",
+                ADD_AMY_COMMAND,
+                ADD_AMY_COMMAND,
+                "unknownCommand",
+                ListCommand.COMMAND_WORD);
+
+        BatchRunner.Summary summary = run(script);
+
+        assertEquals(2, summary.succeeded());
+        assertEquals(2, summary.failed());
+        assertEquals(4, summary.total());
+        assertTrue(summary.isModified());
+        assertEquals(1, model.getReserveMate().getReservationList().size());
+
+        String printed = output.toString(StandardCharsets.UTF_8);
+        assertTrue(printed.startsWith(String.format(BatchRunner.MESSAGE_SUCCESS_FORMAT, 3, "")));
+        assertTrue(printed.contains(String.format(BatchRunner.MESSAGE_FAILURE_FORMAT, 4,
+                Messages.MESSAGE_DUPLICATE_RESERVATION)));
+        assertTrue(printed.contains(String.format(BatchRunner.MESSAGE_FAILURE_FORMAT, 5, "")));
+        assertTrue(printed.endsWith(String.format(BatchRunner.MESSAGE_SUCCESS_FORMAT, 6, ListCommand.MESSAGE_SUCCESS)
+                + System.lineSeparator() + summary.getMessage() + System.lineSeparator()));
+    }
+
+    @Test
+    public void run_exitCommand_stopsEarly() throws Exception {
+        BatchRunner.Summary summary = run(ExitCommand.COMMAND_WORD + "\n" + ADD_AMY_COMMAND);
+
+        assertEquals(1, summary.succeeded());
+        assertEquals(0, summary.failed());
+        assertFalse(summary.isModified());
+        assertEquals(0, model.getReserveMate().getReservationList().size());
+    }
+
+    @Test
+    public void run_readOnlyCommands_notModified() throws Exception {
+        BatchRunner.Summary summary = run(HelpCommand.COMMAND_WORD);
+
+        assertEquals(1, summary.succeeded());
+        assertFalse(summary.isModified());
+    }
+
+    private BatchRunner.Summary run(String script) throws Exception {
+        PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+        return new BatchRunner(model).run(new BufferedReader(new StringReader(script)), out);
+    }
+}
@@ -1,36 +1,53 @@
 package seedu.reserve.logic;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.reserve.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.reserve.logic.Messages.MESSAGE_INVALID_RESERVATION_DISPLAYED_INDEX;
 import static seedu.reserve.logic.commands.CommandTestUtil.DATETIME_DESC_AMY;
+import static seedu.reserve.logic.commands.CommandTestUtil.DATETIME_DESC_BOB;
 import static seedu.reserve.logic.commands.CommandTestUtil.DINERS_DESC_AMY;
+import static seedu.reserve.logic.commands.CommandTestUtil.DINERS_DESC_BOB;
 import static seedu.reserve.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.reserve.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.reserve.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.reserve.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.reserve.logic.commands.CommandTestUtil.OCC_DESC_ANNIVERSARY;
 import static seedu.reserve.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.reserve.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.reserve.logic.commands.CommandTestUtil.VALID_OCCASION_ANNIVERSARY;
 import static seedu.reserve.testutil.Assert.assertThrows;
 import static seedu.reserve.testutil.TypicalReservation.AMY;
+import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ListChangeListener;
 import seedu.reserve.logic.commands.AddCommand;
 import seedu.reserve.logic.commands.CommandResult;
 import seedu.reserve.logic.commands.HelpCommand;
+import seedu.reserve.logic.commands.ListCommand;
+import seedu.reserve.logic.commands.UndoCommand;
 import seedu.reserve.logic.commands.exceptions.CommandException;
 import seedu.reserve.logic.parser.exceptions.ParseException;
 import seedu.reserve.model.Model;
 import seedu.reserve.model.ModelManager;
 import seedu.reserve.model.ReadOnlyReserveMate;
+import seedu.reserve.model.ReserveMate;
 import seedu.reserve.model.UserPrefs;
 import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.storage.JournalReserveMateStorage;
 import seedu.reserve.storage.JsonReserveMateStorage;
 import seedu.reserve.storage.JsonUserPrefsStorage;
 import seedu.reserve.storage.StorageManager;
@@ -40,6 +57,11 @@ public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
     private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
 
+    private static final String ADD_AMY_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + DINERS_DESC_AMY + DATETIME_DESC_AMY;
+    private static final String ADD_BOB_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB
+            + EMAIL_DESC_BOB + DINERS_DESC_BOB + DATETIME_DESC_BOB;
+
     @TempDir
     public Path temporaryFolder;
 
@@ -56,6 +78,12 @@ public class LogicManagerTest {
         logic = new LogicManager(model, storage);
     }
 
+    @AfterEach
+    public void tearDown() throws CommandException {
+        // Background saves must finish before the temporary folder is deleted
+        logic.flush();
+    }
+
     @Test
     public void execute_invalidCommandFormat_throwsParseException() {
         String invalidCommand = "uicfhmowqewca";
@@ -81,6 +109,102 @@ public class LogicManagerTest {
             LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_addCommand_savedAfterFlush() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + DINERS_DESC_AMY + DATETIME_DESC_AMY + OCC_DESC_ANNIVERSARY;
+        logic.execute(addCommand);
+        logic.flush();
+
+        JsonReserveMateStorage savedStorage = new JsonReserveMateStorage(temporaryFolder.resolve("reservemate.json"));
+        assertEquals(model.getReserveMate(), new ReserveMate(savedStorage.readReserveMate().get()));
+    }
+
+    @Test
+    public void loadReserveMate_thenCommand_onlyCommandChangeJournalled() throws Exception {
+        Path filePath = temporaryFolder.resolve("journalled.json");
+        JournalReserveMateStorage reserveMateStorage = new JournalReserveMateStorage(filePath);
+        reserveMateStorage.saveReserveMate(getTypicalReserveMate());
+        StorageManager storage = new StorageManager(reserveMateStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        Model journalledModel = new ModelManager();
+        Logic journalledLogic = new LogicManager(journalledModel, storage);
+
+        journalledLogic.loadReserveMate(storage.readReserveMate().get());
+        journalledLogic.execute(ADD_AMY_COMMAND);
+        journalledLogic.flush();
+
+        assertEquals(1, Files.readAllLines(JournalReserveMateStorage.getJournalFilePath(filePath)).size());
+        assertEquals(journalledModel.getReserveMate(),
+                new ReserveMate(new JournalReserveMateStorage(filePath).readReserveMate().get()));
+    }
+
+    @Test
+    public void execute_undoAfterAdd_reservationRemoved() throws Exception {
+        logic.execute(ADD_AMY_COMMAND);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, new ModelManager());
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void executeBatch_overUndoHistoryLimit_noteShownAndUndoable() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryLimit(1);
+        model.setUserPrefs(userPrefs);
+
+        List<CommandResult> results = logic.executeBatch(List.of(ADD_AMY_COMMAND, ADD_BOB_COMMAND));
+
+        assertTrue(results.get(1).getFeedbackToUser()
+                .endsWith(String.format(LogicManager.MESSAGE_OVER_UNDO_HISTORY_LIMIT, 1)));
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, new ModelManager(
+                new ReserveMate(), userPrefs));
+    }
+
+    @Test
+    public void executeBatch_allCommandsSucceed_singleChangeAndSave() throws Exception {
+        List<ListChangeListener.Change<? extends Reservation>> changes = new ArrayList<>();
+        model.getReserveMate().getReservationList()
+                .addListener((ListChangeListener<Reservation>) changes::add);
+
+        List<CommandResult> results = logic.executeBatch(List.of(ADD_AMY_COMMAND, ADD_BOB_COMMAND,
+                HelpCommand.COMMAND_WORD));
+        logic.flush();
+
+        assertEquals(3, results.size());
+        assertEquals(HelpCommand.SHOWING_HELP_MESSAGE, results.get(2).getFeedbackToUser());
+        assertEquals(2, model.getReserveMate().getReservationList().size());
+        assertEquals(1, changes.size());
+
+        JsonReserveMateStorage savedStorage = new JsonReserveMateStorage(temporaryFolder.resolve("reservemate.json"));
+        assertEquals(model.getReserveMate(), new ReserveMate(savedStorage.readReserveMate().get()));
+    }
+
+    @Test
+    public void executeBatch_commandFails_rolledBack() {
+        List<ListChangeListener.Change<? extends Reservation>> changes = new ArrayList<>();
+        model.getReserveMate().getReservationList()
+                .addListener((ListChangeListener<Reservation>) changes::add);
+
+        String expectedMessage = String.format(LogicManager.MESSAGE_BATCH_FAILED, 3, ADD_AMY_COMMAND,
+                Messages.MESSAGE_DUPLICATE_RESERVATION);
+        assertThrows(CommandException.class, expectedMessage, () -> logic.executeBatch(List.of(ADD_AMY_COMMAND,
+                ADD_BOB_COMMAND, ADD_AMY_COMMAND)));
+
+        assertModelsEqual(new ModelManager(), model);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void executeBatch_unparsableCommand_rolledBack() {
+        String expectedMessage = String.format(LogicManager.MESSAGE_BATCH_FAILED, 2, "uicfhmowqewca",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        assertThrows(CommandException.class, expectedMessage, () -> logic.executeBatch(List.of(ADD_AMY_COMMAND,
+                "uicfhmowqewca")));
+
+        assertModelsEqual(new ModelManager(), model);
+    }
+
     @Test
     public void getFilteredReservationList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredReservationList().remove(0));
@@ -179,12 +303,14 @@ public class LogicManagerTest {
 
         logic = new LogicManager(model, storage);
 
-        // Triggers the saveReserveMate method by executing an add command
+        // Triggers the saveReserveMate method by executing an add command, which is saved in the background
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
             + EMAIL_DESC_AMY + DINERS_DESC_AMY + DATETIME_DESC_AMY + OCC_DESC_ANNIVERSARY;
         Reservation expectedReservation = new ReservationBuilder(AMY).withOccasions(VALID_OCCASION_ANNIVERSARY).build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addReservation(expectedReservation);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertDoesNotThrow(() -> logic.execute(addCommand));
+        assertThrows(CommandException.class, expectedMessage, () -> logic.flush());
+        assertModelsEqual(expectedModel, model);
     }
 }
@@ -8,9 +8,11 @@ import static seedu.reserve.testutil.Assert.assertThrows;
 import static seedu.reserve.testutil.TypicalReservation.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,10 +22,14 @@ import seedu.reserve.commons.core.GuiSettings;
 import seedu.reserve.logic.Messages;
 import seedu.reserve.logic.commands.exceptions.CommandException;
 import seedu.reserve.model.Model;
+import seedu.reserve.model.ReadOnlyReservationStatistics;
 import seedu.reserve.model.ReadOnlyReserveMate;
 import seedu.reserve.model.ReadOnlyUserPrefs;
+import seedu.reserve.model.ReservationArchive;
 import seedu.reserve.model.ReserveMate;
 import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.ReservationQuery;
+import seedu.reserve.model.reservation.ReservationSearchResult;
 import seedu.reserve.testutil.ReservationBuilder;
 
 public class AddCommandTest {
@@ -142,6 +148,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void loadReserveMate(ReadOnlyReserveMate newData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setReservationArchive(ReservationArchive archive) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyReserveMate getReserveMate() {
             throw new AssertionError("This method should not be called.");
@@ -168,7 +184,12 @@ public class AddCommandTest {
         }
 
         @Override
-        public HashMap<String, Integer> getReservationStatistics() {
+        public int getOccupiedHours(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyReservationStatistics getReservationStatistics() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -178,7 +199,73 @@ public class AddCommandTest {
         }
 
         @Override
-        public void updateReservationStatistics() {
+        public void updateFilteredReservationList(Predicate<Reservation> predicate,
+                Comparator<Reservation> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Reservation> getNameContainsAnyPredicate(Collection<String> words) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReservationSearchResult searchReservations(ReservationQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredReservationListIncludingArchive(Predicate<Reservation> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isShowingArchivedReservations() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<? super Reservation> getFilteredReservationListPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Comparator<? super Reservation> getFilteredReservationListComparator() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Model createStagingCopy() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitStagingCopy(Model stagedModel) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean commitReserveMate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoReserveMate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoReserveMate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoReserveMate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoReserveMate() {
             throw new AssertionError("This method should not be called.");
         }
     }
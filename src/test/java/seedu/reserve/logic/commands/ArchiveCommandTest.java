@@ -0,0 +1,58 @@
+package seedu.reserve.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.reserve.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.reserve.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.reserve.testutil.TypicalIndexes.INDEX_FIRST_RESERVATION;
+import static seedu.reserve.testutil.TypicalReservation.HOON;
+import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.logic.Messages;
+import seedu.reserve.model.Model;
+import seedu.reserve.model.ModelManager;
+import seedu.reserve.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for ArchiveCommand.
+ */
+public class ArchiveCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalReserveMate(), new UserPrefs());
+        expectedModel = new ModelManager(model.getReserveMate(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_noArchivedReservations_showsBook() {
+        assertCommandSuccess(new ArchiveCommand(), model, ArchiveCommand.MESSAGE_NO_ARCHIVED_RESERVATIONS,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_archivedReservations_shownBeforeBook() throws Exception {
+        model.setReservationArchive(() -> List.of(HOON));
+        expectedModel.setReservationArchive(() -> List.of(HOON));
+        expectedModel.updateFilteredReservationListIncludingArchive(Model.PREDICATE_SHOW_ALL_RESERVATIONS);
+
+        assertCommandSuccess(new ArchiveCommand(), model, ArchiveCommand.MESSAGE_SUCCESS, expectedModel);
+        assertEquals(HOON, model.getFilteredReservationList().get(0));
+    }
+
+    @Test
+    public void execute_deleteArchivedReservation_throwsCommandException() throws Exception {
+        model.setReservationArchive(() -> List.of(HOON));
+        new ArchiveCommand().execute(model);
+
+        assertCommandFailure(new DeleteCommand(INDEX_FIRST_RESERVATION, true), model,
+                Messages.MESSAGE_ARCHIVED_RESERVATION);
+    }
+}
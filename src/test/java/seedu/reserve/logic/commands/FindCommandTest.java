@@ -6,13 +6,16 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.reserve.logic.Messages.MESSAGE_NO_RESERVATIONS;
 import static seedu.reserve.logic.Messages.MESSAGE_RESERVATIONS_LISTED_OVERVIEW;
 import static seedu.reserve.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.reserve.testutil.TypicalReservation.BENSON;
 import static seedu.reserve.testutil.TypicalReservation.CARL;
+import static seedu.reserve.testutil.TypicalReservation.DANIEL;
 import static seedu.reserve.testutil.TypicalReservation.ELLE;
 import static seedu.reserve.testutil.TypicalReservation.FIONA;
 import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,6 +23,10 @@ import seedu.reserve.model.Model;
 import seedu.reserve.model.ModelManager;
 import seedu.reserve.model.UserPrefs;
 import seedu.reserve.model.reservation.NameContainsKeywordsPredicate;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.ReservationQuery;
+import seedu.reserve.model.reservation.ReservationSearchResult;
+import seedu.reserve.testutil.ReservationBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -75,6 +82,47 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(FIONA, CARL, ELLE), model.getFilteredReservationList());
     }
 
+    @Test
+    public void execute_search_closestMatchesFirst() {
+        String expectedMessage = String.format(MESSAGE_RESERVATIONS_LISTED_OVERVIEW, 3);
+        FindCommand command = new FindCommand(new ReservationQuery(List.of("meyer"), null, null));
+        ReservationSearchResult result = expectedModel.searchReservations(new ReservationQuery(
+                List.of("meyer"), null, null));
+        expectedModel.updateFilteredReservationList(result, result.getComparator());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+
+        // exact match first, then the names one typo away in date order
+        assertEquals(Arrays.asList(ELLE, DANIEL, BENSON), model.getFilteredReservationList());
+    }
+
+    @Test
+    public void execute_searchByNameAndPhone_onlyReservationsMatchingBoth() {
+        FindCommand command = new FindCommand(new ReservationQuery(List.of("meier"), "8765", null));
+        command.execute(model);
+
+        // a phone number starting with the digits ranks above one containing them
+        assertEquals(List.of(DANIEL, BENSON), model.getFilteredReservationList());
+    }
+
+    @Test
+    public void execute_reservationEditedAfterSearch_stillListed() {
+        new FindCommand(new ReservationQuery(List.of("meyer"), null, null)).execute(model);
+        Reservation editedElle = new ReservationBuilder(ELLE).withPreference("Window seat").build();
+        model.setReservation(ELLE, editedElle);
+        assertEquals(Arrays.asList(editedElle, DANIEL, BENSON), model.getFilteredReservationList());
+
+        // an edit that no longer matches drops out
+        model.setReservation(editedElle, new ReservationBuilder(editedElle).withName("Elle Tan").build());
+        assertEquals(Arrays.asList(DANIEL, BENSON), model.getFilteredReservationList());
+    }
+
+    @Test
+    public void execute_listAfterSearch_dateOrderRestored() {
+        new FindCommand(new ReservationQuery(List.of("meyer"), null, null)).execute(model);
+        model.updateFilteredReservationList(Model.PREDICATE_SHOW_ALL_RESERVATIONS);
+        assertEquals(getTypicalReserveMate().getReservationList(), model.getFilteredReservationList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -1,5 +1,7 @@
 package seedu.reserve.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.reserve.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
 
@@ -16,7 +18,7 @@ import seedu.reserve.testutil.ReservationBuilder;
 
 public class FreeCommandTest {
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
-    private static final DateTime TEST_DATE = new DateTime("2025-05-01 0000");
+    private static final DateTime TEST_DATE = DateTime.fromFileString("2025-05-01 0000");
     private Model model = new ModelManager(getTypicalReserveMate(), new UserPrefs());
 
     @Test
@@ -30,15 +32,15 @@ public class FreeCommandTest {
     public void execute_hasFreeSlots_showsFreeSlots() {
         // Add reservations with gaps
         Reservation r1 = new ReservationBuilder()
-                .withDateTime(TEST_DATE.value.plusHours(10).format(FORMATTER))
+                .withDateTime(TEST_DATE.toLocalDateTime().plusHours(10).format(FORMATTER))
                 .build();
         Reservation r2 = new ReservationBuilder()
-                .withDateTime(TEST_DATE.value.plusHours(14).format(FORMATTER))
+                .withDateTime(TEST_DATE.toLocalDateTime().plusHours(14).format(FORMATTER))
                 .build();
         model.addReservation(r1);
         model.addReservation(r2);
 
-        FreeCommand freeCommand = new FreeCommand(new DateTime(TEST_DATE.toString()));
+        FreeCommand freeCommand = new FreeCommand(TEST_DATE);
         String expectedMessage = "Available free time slots:"
                 + "\n- 2025-05-01 0000 to 2025-05-01 1000"
                 + "\n- 2025-05-01 1100 to 2025-05-01 1400"
@@ -52,12 +54,12 @@ public class FreeCommandTest {
         // Add reservations covering the entire day
         for (int i = 0; i < 24; i++) {
             Reservation r = new ReservationBuilder()
-                    .withDateTime(TEST_DATE.value.plusHours(i).format(FORMATTER))
+                    .withDateTime(TEST_DATE.toLocalDateTime().plusHours(i).format(FORMATTER))
                     .build();
             model.addReservation(r);
         }
 
-        FreeCommand freeCommand = new FreeCommand(new DateTime(TEST_DATE.toString()));
+        FreeCommand freeCommand = new FreeCommand(TEST_DATE);
         String expectedMessage = FreeCommand.MESSAGE_NO_FREE_SLOTS;
         assertCommandSuccess(freeCommand, model, expectedMessage, model);
     }
@@ -65,11 +67,11 @@ public class FreeCommandTest {
     @Test
     public void execute_freeSlotBeforeFirstReservation_showsEarlySlot() {
         Reservation r1 = new ReservationBuilder()
-                .withDateTime(TEST_DATE.value.plusHours(12).format(FORMATTER))
+                .withDateTime(TEST_DATE.toLocalDateTime().plusHours(12).format(FORMATTER))
                 .build();
         model.addReservation(r1);
 
-        FreeCommand freeCommand = new FreeCommand(new DateTime(TEST_DATE.toString()));
+        FreeCommand freeCommand = new FreeCommand(TEST_DATE);
         String expectedMessage = "Available free time slots:"
                 + "\n- 2025-05-01 0000 to 2025-05-01 1200"
                 + "\n- 2025-05-01 1300 to 2025-05-02 0000";
@@ -80,11 +82,11 @@ public class FreeCommandTest {
     @Test
     public void execute_freeSlotAfterLastReservation_showsLateSlot() {
         Reservation r1 = new ReservationBuilder()
-                .withDateTime(TEST_DATE.value.plusHours(8).format(FORMATTER))
+                .withDateTime(TEST_DATE.toLocalDateTime().plusHours(8).format(FORMATTER))
                 .build();
         model.addReservation(r1);
 
-        FreeCommand freeCommand = new FreeCommand(new DateTime(TEST_DATE.toString()));
+        FreeCommand freeCommand = new FreeCommand(TEST_DATE);
         String expectedMessage = "Available free time slots:"
                 + "\n- 2025-05-01 0000 to 2025-05-01 0800"
                 + "\n- 2025-05-01 0900 to 2025-05-02 0000";
@@ -95,11 +97,11 @@ public class FreeCommandTest {
     @Test
     public void execute_singleReservationAtStartOfDay_showsCorrectSlots() {
         Reservation r1 = new ReservationBuilder()
-                .withDateTime(TEST_DATE.value.format(FORMATTER)) // Exactly at start of day
+                .withDateTime(TEST_DATE.toLocalDateTime().format(FORMATTER)) // Exactly at start of day
                 .build();
         model.addReservation(r1);
 
-        FreeCommand freeCommand = new FreeCommand(new DateTime(TEST_DATE.toString()));
+        FreeCommand freeCommand = new FreeCommand(TEST_DATE);
         String expectedMessage = "Available free time slots:"
                 + "\n- 2025-05-01 0100 to 2025-05-02 0000";
 
@@ -109,11 +111,11 @@ public class FreeCommandTest {
     @Test
     public void execute_singleReservationAtEndOfDay_showsCorrectSlots() {
         Reservation r1 = new ReservationBuilder()
-                .withDateTime(TEST_DATE.value.plusHours(23).format(FORMATTER)) // Last hour of day
+                .withDateTime(TEST_DATE.toLocalDateTime().plusHours(23).format(FORMATTER)) // Last hour of day
                 .build();
         model.addReservation(r1);
 
-        FreeCommand freeCommand = new FreeCommand(new DateTime(TEST_DATE.toString()));
+        FreeCommand freeCommand = new FreeCommand(TEST_DATE);
         String expectedMessage = "Available free time slots:"
                 + "\n- 2025-05-01 0000 to 2025-05-01 2300";
 
@@ -124,19 +126,68 @@ public class FreeCommandTest {
     public void execute_consecutiveReservations_showsSingleGap() {
         // 10-11 and 11-12 (should show as one continuous free slot after)
         Reservation r1 = new ReservationBuilder()
-                .withDateTime(TEST_DATE.value.plusHours(10).format(FORMATTER))
+                .withDateTime(TEST_DATE.toLocalDateTime().plusHours(10).format(FORMATTER))
                 .build();
         Reservation r2 = new ReservationBuilder()
-                .withDateTime(TEST_DATE.value.plusHours(11).format(FORMATTER))
+                .withDateTime(TEST_DATE.toLocalDateTime().plusHours(11).format(FORMATTER))
                 .build();
         model.addReservation(r1);
         model.addReservation(r2);
 
-        FreeCommand freeCommand = new FreeCommand(new DateTime(TEST_DATE.toString()));
+        FreeCommand freeCommand = new FreeCommand(TEST_DATE);
         String expectedMessage = "Available free time slots:"
                 + "\n- 2025-05-01 0000 to 2025-05-01 1000"
                 + "\n- 2025-05-01 1200 to 2025-05-02 0000";
 
         assertCommandSuccess(freeCommand, model, expectedMessage, model);
     }
+
+    @Test
+    public void execute_reservationDeleted_slotFreedAgain() {
+        Reservation r1 = new ReservationBuilder()
+                .withDateTime(TEST_DATE.toLocalDateTime().plusHours(10).format(FORMATTER))
+                .build();
+        model.addReservation(r1);
+        model.deleteReservation(r1);
+
+        assertCommandSuccess(new FreeCommand(TEST_DATE), model, FreeCommand.MESSAGE_ALL_FREE_SLOTS, model);
+    }
+
+    @Test
+    public void execute_dateRangeWithoutReservations_allRangeFree() {
+        FreeCommand freeCommand = new FreeCommand(TEST_DATE, DateTime.fromFileString("2025-05-03 0000"));
+        assertCommandSuccess(freeCommand, model, FreeCommand.MESSAGE_ALL_FREE_SLOTS_IN_RANGE, model);
+    }
+
+    @Test
+    public void execute_dateRange_freeSlotsSpanDays() {
+        Reservation r1 = new ReservationBuilder()
+                .withDateTime(TEST_DATE.toLocalDateTime().plusHours(22).format(FORMATTER))
+                .build();
+        Reservation r2 = new ReservationBuilder()
+                .withDateTime(TEST_DATE.toLocalDateTime().plusHours(33).format(FORMATTER))
+                .build();
+        model.addReservation(r1);
+        model.addReservation(r2);
+
+        FreeCommand freeCommand = new FreeCommand(TEST_DATE, DateTime.fromFileString("2025-05-03 0000"));
+        String expectedMessage = "Available free time slots:"
+                + "\n- 2025-05-01 0000 to 2025-05-01 2200"
+                + "\n- 2025-05-01 2300 to 2025-05-02 0900"
+                + "\n- 2025-05-02 1000 to 2025-05-04 0000";
+
+        assertCommandSuccess(freeCommand, model, expectedMessage, model);
+    }
+
+    @Test
+    public void equals() {
+        FreeCommand freeCommand = new FreeCommand(TEST_DATE);
+        DateTime otherDate = DateTime.fromFileString("2025-05-02 0000");
+
+        assertTrue(freeCommand.equals(freeCommand));
+        assertTrue(freeCommand.equals(new FreeCommand(TEST_DATE, TEST_DATE)));
+        assertFalse(freeCommand.equals(null));
+        assertFalse(freeCommand.equals(new FreeCommand(otherDate)));
+        assertFalse(freeCommand.equals(new FreeCommand(TEST_DATE, otherDate)));
+    }
 }
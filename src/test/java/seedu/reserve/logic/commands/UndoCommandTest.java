@@ -0,0 +1,73 @@
+package seedu.reserve.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.reserve.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.reserve.logic.commands.CommandTestUtil.showReservationAtIndex;
+import static seedu.reserve.testutil.TypicalIndexes.INDEX_FIRST_RESERVATION;
+import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.model.Model;
+import seedu.reserve.model.ModelManager;
+import seedu.reserve.model.ReserveMate;
+import seedu.reserve.model.UserPrefs;
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for UndoCommand and RedoCommand.
+ */
+public class UndoCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalReserveMate(), new UserPrefs());
+        expectedModel = new ModelManager(getTypicalReserveMate(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_noHistory_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_undoDelete_reservationRestored() {
+        Reservation reservationToDelete =
+                model.getFilteredReservationList().get(INDEX_FIRST_RESERVATION.getZeroBased());
+        model.deleteReservation(reservationToDelete);
+        model.commitReserveMate();
+        showReservationAtIndex(model, INDEX_FIRST_RESERVATION);
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        expectedModel.deleteReservation(reservationToDelete);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_undoClear_reservationBookRestored() {
+        model.setReserveMate(new ReserveMate());
+        model.commitReserveMate();
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void equals() {
+        UndoCommand undoCommand = new UndoCommand();
+
+        assertTrue(undoCommand.equals(undoCommand));
+        assertTrue(undoCommand.equals(new UndoCommand()));
+        assertFalse(undoCommand.equals(null));
+        assertFalse(undoCommand.equals(new RedoCommand()));
+        assertTrue(new RedoCommand().equals(new RedoCommand()));
+    }
+}
@@ -56,7 +56,7 @@ public class ArgumentTokenizerTest {
     @Test
     public void tokenize_noPrefixes_allTakenAsPreamble() {
         String argsString = "  some random string /o occasion with leading and trailing spaces ";
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString);
+        ArgumentMultimap argMultimap = new ArgumentTokenizer().tokenize(argsString);
 
         // Same string expected as preamble, but leading/trailing spaces should be trimmed
         assertPreamblePresent(argMultimap, argsString.trim());
@@ -115,6 +115,22 @@ public class ArgumentTokenizerTest {
         assertPreamblePresent(argMultimap, argsString); // Unknown prefix is taken as part of preamble
     }
 
+    @Test
+    public void tokenize_sameTokenizerReused_noValuesCarriedOver() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(pSlash, dashT, hatQ);
+
+        ArgumentMultimap argMultimap = tokenizer.tokenize("SomePreambleString -t dashT-Value p/pSlash value");
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value");
+
+        argMultimap = tokenizer.tokenize(" ^Q111");
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, hatQ, "111");
+        assertArgumentAbsent(argMultimap, pSlash);
+        assertArgumentAbsent(argMultimap, dashT);
+    }
+
     @Test
     public void tokenize_multipleArgumentsWithRepeats() {
         // Two arguments repeated, some have empty values
@@ -136,6 +152,39 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_mixedCasePrefixes_matchedCaseInsensitively() {
+        String argsString = "SomePreambleString P/ pSlash value -T dashT value ^q hatQ value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentPresent(argMultimap, dashT, "dashT value");
+        assertArgumentPresent(argMultimap, hatQ, "hatQ value");
+    }
+
+    @Test
+    public void tokenize_overlappingPrefixes_longestPrefixMatched() {
+        Prefix dashTt = new Prefix("-tt");
+        String argsString = "-tt long value -t short value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + argsString, dashT, dashTt);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, dashTt, "long value");
+        assertArgumentPresent(argMultimap, dashT, "short value");
+    }
+
+    @Test
+    public void tokenize_manyRepeatedArguments_orderPreserved() {
+        StringBuilder argsString = new StringBuilder();
+        String[] expectedValues = new String[100];
+        for (int i = 0; i < expectedValues.length; i++) {
+            expectedValues[i] = "value " + i;
+            argsString.append(" p/").append(expectedValues[i]);
+        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString.toString(), pSlash);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, pSlash, expectedValues);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -1,18 +1,24 @@
 package seedu.reserve.logic.parser;
 
 import static seedu.reserve.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.reserve.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.reserve.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.reserve.logic.parser.FindCommandParser.MESSAGE_INVALID_EMAIL;
 import static seedu.reserve.logic.parser.FindCommandParser.MESSAGE_INVALID_NAME;
+import static seedu.reserve.logic.parser.FindCommandParser.MESSAGE_INVALID_PHONE;
 import static seedu.reserve.logic.parser.FindCommandParser.MESSAGE_LONG_NAME;
 import static seedu.reserve.logic.parser.FindCommandParser.MESSAGE_SHORT_NAME;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.reserve.logic.Messages;
 import seedu.reserve.logic.commands.FindCommand;
 import seedu.reserve.model.reservation.NameContainsKeywordsPredicate;
+import seedu.reserve.model.reservation.ReservationQuery;
 
 public class FindCommandParserTest {
 
@@ -94,5 +100,32 @@ public class FindCommandParserTest {
         assertParseFailure(parser, "O'Connor", MESSAGE_INVALID_NAME);
     }
 
+    @Test
+    public void parse_searchPrefixes_returnsSearchFindCommand() {
+        FindCommand expected = new FindCommand(new ReservationQuery(List.of("alice", "bob"), "9435", "alice@"));
+        assertParseSuccess(parser, " n/Alice bob p/9435 e/ALICE@", expected);
+
+        // fields may be given in any order, and any of them may be left out
+        assertParseSuccess(parser, " e/alice@ p/9435  n/alice bob ", expected);
+        assertParseSuccess(parser, " p/9435",
+                new FindCommand(new ReservationQuery(List.of(), "9435", null)));
+    }
+
+    @Test
+    public void parse_searchWithPreamble_throwsParseException() {
+        assertParseFailure(parser, " alice n/bob", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE));
+    }
 
+    @Test
+    public void parse_invalidSearchValues_throwsParseException() {
+        assertParseFailure(parser, " n/al1ce", MESSAGE_INVALID_NAME);
+        assertParseFailure(parser, " n/a", MESSAGE_SHORT_NAME);
+        assertParseFailure(parser, " p/94", MESSAGE_INVALID_PHONE);
+        assertParseFailure(parser, " p/94351253 1", MESSAGE_INVALID_PHONE);
+        assertParseFailure(parser, " p/943a", MESSAGE_INVALID_PHONE);
+        assertParseFailure(parser, " e/", MESSAGE_INVALID_EMAIL);
+        assertParseFailure(parser, " e/alice bob", MESSAGE_INVALID_EMAIL);
+        assertParseFailure(parser, " p/9435 p/9436", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_PHONE));
+    }
 }
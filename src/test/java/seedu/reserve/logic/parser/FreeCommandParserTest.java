@@ -102,4 +102,22 @@ public class FreeCommandParserTest {
         assertParseFailure(parser, " d/2025-04-28 d/2025-05-01",
                 Messages.getErrorMessageForDuplicatePrefixes(PREFIX_DATE_TIME));
     }
+
+    @Test
+    public void parse_dateRange_returnsFreeCommand() {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        String startDateStr = today.plusDays(1).format(FORMATTER);
+        String endDateStr = today.plusDays(3).format(FORMATTER);
+
+        assertParseSuccess(parser, " d/" + startDateStr + " ed/" + endDateStr,
+                new FreeCommand(new DateTime(startDateStr + " 0000"), new DateTime(endDateStr + " 0000")));
+
+        // end date before start date
+        assertParseFailure(parser, " d/" + endDateStr + " ed/" + startDateStr,
+                FreeCommandParser.MESSAGE_INVALID_ORDER);
+
+        // end date beyond 60 days
+        assertParseFailure(parser, " d/" + startDateStr + " ed/" + today.plusDays(61).format(FORMATTER),
+                DateTime.MESSAGE_CONSTRAINTS_FREE);
+    }
 }
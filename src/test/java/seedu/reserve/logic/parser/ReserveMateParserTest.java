@@ -13,6 +13,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.reserve.logic.commands.AddCommand;
+import seedu.reserve.logic.commands.ArchiveCommand;
 import seedu.reserve.logic.commands.ClearCommand;
 import seedu.reserve.logic.commands.DeleteCommand;
 import seedu.reserve.logic.commands.EditCommand;
@@ -21,7 +22,9 @@ import seedu.reserve.logic.commands.FilterCommand;
 import seedu.reserve.logic.commands.FindCommand;
 import seedu.reserve.logic.commands.HelpCommand;
 import seedu.reserve.logic.commands.ListCommand;
+import seedu.reserve.logic.commands.RedoCommand;
 import seedu.reserve.logic.commands.StatisticsCommand;
+import seedu.reserve.logic.commands.UndoCommand;
 import seedu.reserve.logic.parser.exceptions.ParseException;
 import seedu.reserve.model.reservation.DateTime;
 import seedu.reserve.model.reservation.NameContainsKeywordsPredicate;
@@ -106,6 +109,17 @@ public class ReserveMateParserTest {
         assertTrue(parser.parseCommand("ExIt") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_archive() throws Exception {
+        assertTrue(parser.parseCommand(ArchiveCommand.COMMAND_WORD) instanceof ArchiveCommand);
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
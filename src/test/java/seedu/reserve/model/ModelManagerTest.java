@@ -8,16 +8,31 @@ import static seedu.reserve.testutil.Assert.assertThrows;
 import static seedu.reserve.testutil.TypicalReservation.ALICE;
 import static seedu.reserve.testutil.TypicalReservation.BENSON;
 import static seedu.reserve.testutil.TypicalReservation.CARL;
+import static seedu.reserve.testutil.TypicalReservation.FIONA;
+import static seedu.reserve.testutil.TypicalReservation.GEORGE;
+import static seedu.reserve.testutil.TypicalReservation.HOON;
+import static seedu.reserve.testutil.TypicalReservation.IDA;
+import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.reserve.commons.core.GuiSettings;
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.model.reservation.DateTime;
 import seedu.reserve.model.reservation.NameContainsKeywordsPredicate;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.ReservationBetweenDatePredicate;
+import seedu.reserve.model.reservation.ReservationQuery;
+import seedu.reserve.model.reservation.ReservationSearchResult;
+import seedu.reserve.testutil.ReservationBuilder;
 import seedu.reserve.testutil.ReserveMateBuilder;
 
 public class ModelManagerTest {
@@ -95,6 +110,192 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredReservationList().remove(0));
     }
 
+    @Test
+    public void updateFilteredReservationList_dateRangePredicate_showsReservationsInRange() {
+        modelManager.setReserveMate(getTypicalReserveMate());
+        ReservationBetweenDatePredicate predicate = new ReservationBetweenDatePredicate(
+                DateTime.fromFileString("2025-05-12 1000"), DateTime.fromFileString("2025-05-18 1400"));
+
+        modelManager.updateFilteredReservationList(predicate);
+        assertEquals(predicate, modelManager.getFilteredReservationListPredicate());
+        assertEquals(List.of(FIONA, CARL, GEORGE), modelManager.getFilteredReservationList());
+
+        // range predicates apply to the whole reservation book, not only to the reservations in the previous range
+        modelManager.updateFilteredReservationList(new NameContainsKeywordsPredicate(List.of("alice")));
+        assertEquals(List.of(ALICE), modelManager.getFilteredReservationList());
+        modelManager.updateFilteredReservationList(predicate);
+        modelManager.updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
+        assertEquals(getTypicalReserveMate().getReservationList(), modelManager.getFilteredReservationList());
+    }
+
+    @Test
+    public void updateFilteredReservationListIncludingArchive_archive_readOnceAndShownBeforeBook()
+            throws Exception {
+        modelManager.setReserveMate(getTypicalReserveMate());
+        int[] readCount = new int[1];
+        modelManager.setReservationArchive(() -> {
+            readCount[0]++;
+            return List.of(HOON, IDA);
+        });
+        ReservationBetweenDatePredicate predicate = new ReservationBetweenDatePredicate(
+                DateTime.fromFileString("2025-05-08 0000"), DateTime.fromFileString("2025-05-12 1200"));
+
+        modelManager.updateFilteredReservationListIncludingArchive(predicate);
+        assertEquals(List.of(IDA, ALICE, FIONA), modelManager.getFilteredReservationList());
+        assertTrue(modelManager.isShowingArchivedReservations());
+
+        // archived reservations are hidden again by the next filter that does not include them
+        modelManager.updateFilteredReservationList(predicate);
+        assertEquals(List.of(ALICE, FIONA), modelManager.getFilteredReservationList());
+        assertFalse(modelManager.isShowingArchivedReservations());
+
+        modelManager.updateFilteredReservationListIncludingArchive(PREDICATE_SHOW_ALL_RESERVATIONS);
+        assertEquals(List.of(HOON, IDA), modelManager.getFilteredReservationList().subList(0, 2));
+        assertEquals(getTypicalReserveMate().getReservationList().size() + 2,
+                modelManager.getFilteredReservationList().size());
+        assertFalse(modelManager.hasReservation(HOON));
+        assertEquals(2, readCount[0]);
+
+        // nothing is read again once the whole archive has been read
+        modelManager.updateFilteredReservationListIncludingArchive(predicate);
+        modelManager.updateFilteredReservationListIncludingArchive(PREDICATE_SHOW_ALL_RESERVATIONS);
+        assertEquals(2, readCount[0]);
+    }
+
+    @Test
+    public void updateFilteredReservationListIncludingArchive_dateRange_onlyMonthsNotYetReadAreRead()
+            throws Exception {
+        modelManager.setReserveMate(getTypicalReserveMate());
+        List<YearMonth> readRanges = new ArrayList<>();
+        modelManager.setReservationArchive(new ReservationArchive() {
+            @Override
+            public List<Reservation> readArchivedReservations() {
+                readRanges.add(null);
+                return List.of(HOON, IDA);
+            }
+
+            @Override
+            public List<Reservation> readArchivedReservations(YearMonth from, YearMonth to) {
+                readRanges.add(from);
+                readRanges.add(to);
+                return !from.isAfter(YearMonth.of(2025, 5)) && !to.isBefore(YearMonth.of(2025, 5))
+                        ? List.of(HOON, IDA)
+                        : List.of();
+            }
+        });
+
+        modelManager.updateFilteredReservationListIncludingArchive(new ReservationBetweenDatePredicate(
+                DateTime.fromFileString("2025-05-08 0000"), DateTime.fromFileString("2025-05-12 1200")));
+        assertEquals(List.of(IDA, ALICE, FIONA), modelManager.getFilteredReservationList());
+        assertEquals(List.of(YearMonth.of(2025, 5), YearMonth.of(2025, 5)), readRanges);
+
+        // months already read are not read again
+        modelManager.updateFilteredReservationListIncludingArchive(new ReservationBetweenDatePredicate(
+                DateTime.fromFileString("2025-05-01 0000"), DateTime.fromFileString("2025-07-01 0000")));
+        assertEquals(List.of(HOON, IDA), modelManager.getFilteredReservationList().subList(0, 2));
+        assertEquals(List.of(YearMonth.of(2025, 5), YearMonth.of(2025, 5),
+                YearMonth.of(2025, 6), YearMonth.of(2025, 7)), readRanges);
+    }
+
+    @Test
+    public void updateFilteredReservationListIncludingArchive_unreadableArchive_throwsDataLoadingException() {
+        modelManager.setReserveMate(getTypicalReserveMate());
+        modelManager.setReservationArchive(() -> {
+            throw new DataLoadingException(new Exception("unreadable"));
+        });
+
+        assertThrows(DataLoadingException.class, () ->
+                modelManager.updateFilteredReservationListIncludingArchive(PREDICATE_SHOW_ALL_RESERVATIONS));
+        assertEquals(getTypicalReserveMate().getReservationList(), modelManager.getFilteredReservationList());
+    }
+
+    @Test
+    public void commitStagingCopy_stagedFilterIncludingArchive_archiveShown() throws Exception {
+        modelManager.addReservation(ALICE);
+        modelManager.setReservationArchive(() -> List.of(HOON));
+
+        Model stagingCopy = modelManager.createStagingCopy();
+        stagingCopy.updateFilteredReservationListIncludingArchive(PREDICATE_SHOW_ALL_RESERVATIONS);
+        assertEquals(List.of(ALICE), modelManager.getFilteredReservationList());
+
+        modelManager.commitStagingCopy(stagingCopy);
+        assertEquals(List.of(HOON, ALICE), modelManager.getFilteredReservationList());
+    }
+
+    @Test
+    public void createStagingCopy_stagedChanges_notVisibleUntilCommitted() {
+        modelManager.addReservation(ALICE);
+        modelManager.updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
+
+        Model stagingCopy = modelManager.createStagingCopy();
+        assertEquals(PREDICATE_SHOW_ALL_RESERVATIONS, stagingCopy.getFilteredReservationListPredicate());
+        stagingCopy.addReservation(BENSON);
+        stagingCopy.deleteReservation(ALICE);
+        assertTrue(modelManager.hasReservation(ALICE));
+        assertFalse(modelManager.hasReservation(BENSON));
+
+        int[] changeCount = new int[1];
+        modelManager.getReserveMate().getReservationList().addListener(
+                (ListChangeListener<Reservation>) change -> changeCount[0]++);
+        modelManager.commitStagingCopy(stagingCopy);
+        assertFalse(modelManager.hasReservation(ALICE));
+        assertTrue(modelManager.hasReservation(BENSON));
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void commitStagingCopy_stagedChanges_undoneAsEdits() {
+        modelManager.loadReserveMate(getTypicalReserveMate());
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryLimit(2);
+        modelManager.setUserPrefs(userPrefs);
+
+        Model stagingCopy = modelManager.createStagingCopy();
+        stagingCopy.deleteReservation(ALICE);
+        stagingCopy.addReservation(HOON);
+        modelManager.commitStagingCopy(stagingCopy);
+
+        // two edits fit in the history, where a copy of the whole book before and after would not
+        assertTrue(modelManager.commitReserveMate());
+        modelManager.undoReserveMate();
+        assertEquals(getTypicalReserveMate(), modelManager.getReserveMate());
+    }
+
+    @Test
+    public void createStagingCopy_afterSearch_stagingCopySearchesItsOwnBook() {
+        modelManager.loadReserveMate(getTypicalReserveMate());
+        ReservationSearchResult result = modelManager.searchReservations(new ReservationQuery(
+                List.of("meier"), null, null));
+        modelManager.updateFilteredReservationList(result, result.getComparator());
+
+        Model stagingCopy = modelManager.createStagingCopy();
+        assertEquals(modelManager.getFilteredReservationList(), stagingCopy.getFilteredReservationList());
+        Reservation editedBenson = new ReservationBuilder(BENSON).withPreference("Window seat").build();
+        stagingCopy.setReservation(BENSON, editedBenson);
+        assertTrue(stagingCopy.getFilteredReservationList().contains(editedBenson));
+
+        modelManager.commitStagingCopy(stagingCopy);
+        assertTrue(modelManager.getFilteredReservationList().contains(editedBenson));
+    }
+
+    @Test
+    public void loadReserveMate_thenCommand_loadNotUndone() {
+        modelManager.loadReserveMate(getTypicalReserveMate());
+        assertEquals(getTypicalReserveMate().getReservationList(), modelManager.getFilteredReservationList());
+        assertFalse(modelManager.canUndoReserveMate());
+
+        modelManager.deleteReservation(ALICE);
+        modelManager.commitReserveMate();
+        modelManager.undoReserveMate();
+        assertEquals(getTypicalReserveMate(), modelManager.getReserveMate());
+        assertFalse(modelManager.canUndoReserveMate());
+    }
+
+    @Test
+    public void commitStagingCopy_nullModel_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.commitStagingCopy(null));
+    }
+
     @Test
     public void getReservationStatistics_success() {
         ReserveMate reserveMate = new ReserveMateBuilder()
@@ -105,15 +306,17 @@ public class ModelManagerTest {
         UserPrefs userPrefs = new UserPrefs();
         modelManager = new ModelManager(reserveMate, userPrefs);
 
-        HashMap<String, Integer> expectedStatistics = new HashMap<>();
-        for (int i = 1; i <= 10; i++) {
-            expectedStatistics.put(String.valueOf(i), 0);
-        }
-        expectedStatistics.put("5", 1);
-        expectedStatistics.put("3", 1);
-        expectedStatistics.put("2", 1);
+        ReadOnlyReservationStatistics statistics = modelManager.getReservationStatistics();
+        assertEquals(1, statistics.getNumberOfReservations(5));
+        assertEquals(1, statistics.getNumberOfReservations(3));
+        assertEquals(1, statistics.getNumberOfReservations(2));
+        assertEquals(0, statistics.getNumberOfReservations(1));
+        assertEquals(3, statistics.getTotalNumberOfReservations());
 
-        assertEquals(modelManager.getReservationStatistics(), expectedStatistics);
+        // statistics view follows later changes
+        modelManager.deleteReservation(BENSON);
+        assertEquals(0, statistics.getNumberOfReservations(3));
+        assertEquals(2, statistics.getTotalNumberOfReservations());
     }
 
     @Test
@@ -146,7 +349,6 @@ public class ModelManagerTest {
 
         // different reservationStatistics -> returns false
         modelManager.addReservation(CARL);
-        modelManagerCopy.clearReservationStatistics();
         assertFalse(modelManager.equals(modelManagerCopy));
 
         // resets modelManager to initial state for upcoming tests
@@ -0,0 +1,150 @@
+package seedu.reserve.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.testutil.Assert.assertThrows;
+import static seedu.reserve.testutil.TypicalReservation.ALICE;
+import static seedu.reserve.testutil.TypicalReservation.BENSON;
+import static seedu.reserve.testutil.TypicalReservation.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.testutil.ReservationBuilder;
+
+public class ReservationHistoryTest {
+
+    private final ReserveMate reserveMate = new ReserveMate();
+    private final ReservationHistory history = new ReservationHistory();
+
+    @Test
+    public void constructor_negativeLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ReservationHistory(-1));
+    }
+
+    @Test
+    public void commit_noChanges_returnsFalse() {
+        assertFalse(history.commit());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undoRedo_addEditRemove_restoresEachState() {
+        Reservation editedAlice = new ReservationBuilder(ALICE).withName("Alice Tan").build();
+
+        add(ALICE);
+        history.commit();
+        add(BENSON);
+        history.commit();
+        reserveMate.setReservation(ALICE, editedAlice);
+        history.recordSet(ALICE, editedAlice);
+        reserveMate.removeReservation(BENSON);
+        history.recordRemove(BENSON);
+        history.commit();
+        assertEquals(List.of(editedAlice), reserveMate.getReservationList());
+        assertEquals(4, history.size());
+
+        history.undo(reserveMate);
+        assertEquals(List.of(ALICE, BENSON), reserveMate.getReservationList());
+        history.undo(reserveMate);
+        assertEquals(List.of(ALICE), reserveMate.getReservationList());
+        assertTrue(history.canRedo());
+
+        history.redo(reserveMate);
+        history.redo(reserveMate);
+        assertEquals(List.of(editedAlice), reserveMate.getReservationList());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undo_reset_restoresPreviousReservations() {
+        add(ALICE);
+        add(BENSON);
+        history.commit();
+
+        history.recordReset(reserveMate.getReservationList(), List.of());
+        reserveMate.setReservations(List.of());
+        history.commit();
+
+        history.undo(reserveMate);
+        assertEquals(List.of(ALICE, BENSON), reserveMate.getReservationList());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedo() {
+        add(ALICE);
+        history.commit();
+        history.undo(reserveMate);
+
+        add(BENSON);
+        history.commit();
+        assertFalse(history.canRedo());
+        assertEquals(1, history.size());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_committedFirst() {
+        add(ALICE);
+        history.undo(reserveMate);
+        assertTrue(reserveMate.getReservationList().isEmpty());
+    }
+
+    @Test
+    public void undo_nothingToUndo_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> history.undo(reserveMate));
+        assertThrows(IllegalStateException.class, () -> history.redo(reserveMate));
+    }
+
+    @Test
+    public void commit_overLimit_forgetsOldestSteps() {
+        ReservationHistory smallHistory = new ReservationHistory(2);
+        for (Reservation reservation : List.of(ALICE, BENSON, CARL)) {
+            reserveMate.addReservation(reservation);
+            smallHistory.recordAdd(reservation);
+            smallHistory.commit();
+        }
+        assertEquals(2, smallHistory.size());
+
+        smallHistory.undo(reserveMate);
+        smallHistory.undo(reserveMate);
+        assertFalse(smallHistory.canUndo());
+        assertEquals(List.of(ALICE), reserveMate.getReservationList());
+
+        smallHistory.setLimit(0);
+        assertEquals(0, smallHistory.size());
+        assertFalse(smallHistory.canRedo());
+    }
+
+    @Test
+    public void commit_newestStepOverLimit_keptUntilNextStep() {
+        ReservationHistory smallHistory = new ReservationHistory(1);
+        reserveMate.addReservation(ALICE);
+        smallHistory.recordAdd(ALICE);
+        smallHistory.commit();
+
+        smallHistory.recordReset(reserveMate.getReservationList(), List.of(BENSON, CARL));
+        reserveMate.setReservations(List.of(BENSON, CARL));
+        smallHistory.commit();
+        assertTrue(smallHistory.isNewestStepOverLimit());
+        assertEquals(3, smallHistory.size());
+
+        reserveMate.removeReservation(CARL);
+        smallHistory.recordRemove(CARL);
+        smallHistory.commit();
+        assertFalse(smallHistory.isNewestStepOverLimit());
+        assertEquals(1, smallHistory.size());
+
+        smallHistory.undo(reserveMate);
+        assertEquals(2, reserveMate.getReservationList().size());
+        assertTrue(reserveMate.hasReservation(CARL));
+        assertFalse(smallHistory.canUndo());
+    }
+
+    private void add(Reservation reservation) {
+        reserveMate.addReservation(reservation);
+        history.recordAdd(reservation);
+    }
+}
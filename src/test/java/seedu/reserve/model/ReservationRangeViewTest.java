@@ -0,0 +1,123 @@
+package seedu.reserve.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.reserve.testutil.TypicalReservation.ALICE;
+import static seedu.reserve.testutil.TypicalReservation.BENSON;
+import static seedu.reserve.testutil.TypicalReservation.CARL;
+import static seedu.reserve.testutil.TypicalReservation.DANIEL;
+import static seedu.reserve.testutil.TypicalReservation.ELLE;
+import static seedu.reserve.testutil.TypicalReservation.FIONA;
+import static seedu.reserve.testutil.TypicalReservation.GEORGE;
+import static seedu.reserve.testutil.TypicalReservation.HOON;
+import static seedu.reserve.testutil.TypicalReservation.IDA;
+import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.reserve.model.reservation.DateTime;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.ReservationBetweenDatePredicate;
+import seedu.reserve.testutil.ReservationBuilder;
+
+public class ReservationRangeViewTest {
+
+    private static final DateTime MAY_12 = DateTime.fromFileString("2025-05-12 1100");
+    private static final DateTime MAY_20 = DateTime.fromFileString("2025-05-20 1600");
+
+    private final ReserveMate reserveMate = getTypicalReserveMate();
+    private final ReservationRangeView view = new ReservationRangeView(reserveMate.getReservationList());
+
+    /** A copy of {@code view} kept up to date only through the changes it reports. */
+    private final List<Reservation> mirror = new ArrayList<>(view);
+
+    public ReservationRangeViewTest() {
+        view.addListener((ListChangeListener<Reservation>) this::applyToMirror);
+    }
+
+    @Test
+    public void constructor_showsAllReservations() {
+        assertEquals(reserveMate.getReservationList(), view);
+    }
+
+    @Test
+    public void setRange_inclusiveBounds_showsReservationsInRange() {
+        view.setRange(MAY_12, MAY_20);
+        assertView(List.of(FIONA, CARL, GEORGE, DANIEL));
+
+        // narrowing, widening and moving the range
+        view.setRange(DateTime.fromFileString("2025-05-13 0000"), MAY_20);
+        assertView(List.of(CARL, GEORGE, DANIEL));
+        view.setRange(null, MAY_20);
+        assertView(List.of(ALICE, FIONA, CARL, GEORGE, DANIEL));
+        view.setRange(DateTime.fromFileString("2025-05-21 0000"), null);
+        assertView(List.of(BENSON, ELLE));
+
+        // empty and reversed ranges
+        view.setRange(DateTime.fromFileString("2025-06-01 0000"), null);
+        assertView(List.of());
+        view.setRange(MAY_20, MAY_12);
+        assertView(List.of());
+
+        view.clearRange();
+        assertView(reserveMate.getReservationList());
+    }
+
+    @Test
+    public void sourceChanged_reservationsAddedAndRemoved_viewFollowsRange() {
+        view.setRange(MAY_12, MAY_20);
+
+        // before, inside and after the range
+        reserveMate.addReservation(HOON);
+        reserveMate.addReservation(new ReservationBuilder(IDA).withDateTime("2025-05-16 1200").build());
+        reserveMate.addReservation(new ReservationBuilder(IDA).withDateTime("2025-05-29 1200").build());
+        assertViewMatchesRange();
+
+        reserveMate.removeReservation(CARL);
+        reserveMate.removeReservation(ALICE);
+        assertViewMatchesRange();
+
+        // edits that move reservations into, out of and within the range
+        reserveMate.setReservation(BENSON, new ReservationBuilder(BENSON).withDateTime("2025-05-12 1100").build());
+        reserveMate.setReservation(FIONA, new ReservationBuilder(FIONA).withDateTime("2025-05-28 1100").build());
+        reserveMate.setReservation(GEORGE, new ReservationBuilder(GEORGE).withDateTime("2025-05-13 1100").build());
+        assertViewMatchesRange();
+
+        reserveMate.setReservations(List.of(ELLE, DANIEL, CARL));
+        assertViewMatchesRange();
+        reserveMate.setReservations(List.of());
+        assertViewMatchesRange();
+    }
+
+    private void assertView(List<Reservation> expected) {
+        assertEquals(expected, view);
+        assertEquals(expected, mirror);
+    }
+
+    private void assertViewMatchesRange() {
+        ReservationBetweenDatePredicate predicate = new ReservationBetweenDatePredicate(MAY_12, MAY_20);
+        assertView(reserveMate.getReservationList().filtered(predicate));
+    }
+
+    private void applyToMirror(ListChangeListener.Change<? extends Reservation> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<Reservation> permuted = new ArrayList<>(mirror);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), mirror.get(i));
+                }
+                mirror.clear();
+                mirror.addAll(permuted);
+            } else if (!change.wasUpdated()) {
+                List<Reservation> removed =
+                        mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize());
+                assertEquals(change.getRemoved(), removed);
+                removed.clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.reserve.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.testutil.TypicalReservation.ALICE;
+import static seedu.reserve.testutil.TypicalReservation.BENSON;
+import static seedu.reserve.testutil.TypicalReservation.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.testutil.ReservationBuilder;
+
+public class ReservationStatisticsTest {
+
+    @Test
+    public void addAndRemove_countsUpdated() {
+        ReservationStatistics statistics = new ReservationStatistics();
+        statistics.add(ALICE);
+        statistics.add(BENSON);
+        assertEquals(1, statistics.getNumberOfReservations(3));
+        assertEquals(2, statistics.getTotalNumberOfReservations());
+
+        statistics.remove(BENSON);
+        assertEquals(0, statistics.getNumberOfReservations(3));
+        assertEquals(1, statistics.getTotalNumberOfReservations());
+    }
+
+    @Test
+    public void setReservations_countsReplaced() {
+        ReservationStatistics statistics = new ReservationStatistics();
+        statistics.add(ALICE);
+
+        statistics.setReservations(List.of(BENSON, CARL));
+        assertEquals(0, statistics.getNumberOfReservations(5));
+        assertEquals(1, statistics.getNumberOfReservations(3));
+        assertEquals(2, statistics.getTotalNumberOfReservations());
+    }
+
+    @Test
+    public void getNumberOfReservations_outOfRange_returnsZero() {
+        ReservationStatistics statistics = new ReservationStatistics();
+        statistics.add(ALICE);
+        assertEquals(0, statistics.getNumberOfReservations(0));
+        assertEquals(0, statistics.getNumberOfReservations(11));
+    }
+
+    @Test
+    public void reserveMate_setReservation_statisticsFollowEdit() {
+        ReserveMate reserveMate = new ReserveMate();
+        reserveMate.addReservation(BENSON);
+        Reservation editedBenson = new ReservationBuilder(BENSON).withDiners("7").build();
+
+        reserveMate.setReservation(BENSON, editedBenson);
+
+        assertEquals(0, reserveMate.getReservationStatistics().getNumberOfReservations(3));
+        assertEquals(1, reserveMate.getReservationStatistics().getNumberOfReservations(7));
+    }
+
+    @Test
+    public void equals() {
+        ReservationStatistics statistics = new ReservationStatistics();
+        statistics.add(ALICE);
+        ReservationStatistics statisticsCopy = new ReservationStatistics();
+        statisticsCopy.setReservations(List.of(ALICE));
+
+        assertTrue(statistics.equals(statisticsCopy));
+        assertTrue(statistics.equals(statistics));
+        assertFalse(statistics.equals(null));
+        assertFalse(statistics.equals(5));
+
+        statisticsCopy.add(BENSON);
+        assertFalse(statistics.equals(statisticsCopy));
+    }
+
+}
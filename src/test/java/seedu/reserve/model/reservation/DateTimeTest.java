@@ -2,6 +2,7 @@ package seedu.reserve.model.reservation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.reserve.testutil.Assert.assertThrows;
 
@@ -101,13 +102,38 @@ public class DateTimeTest {
         assertFalse(DateTime.isValidFileInputDateTime(INVALID_DATE_TIME_FORMAT_STR));
         assertFalse(DateTime.isValidFileInputDateTime(INVALID_DATE_TIME_NON_HOURLY));
 
+        assertFalse(DateTime.isValidFileInputDateTime("2025-13-01 1800")); // invalid month
+        assertFalse(DateTime.isValidFileInputDateTime("2025-04-31 1800")); // invalid day
+        assertFalse(DateTime.isValidFileInputDateTime("2025-04-00 1800")); // invalid day
+        assertFalse(DateTime.isValidFileInputDateTime("2025-04-30 2400")); // invalid hour
+        assertFalse(DateTime.isValidFileInputDateTime("2025-04-30 1860")); // invalid minute
+        assertFalse(DateTime.isValidFileInputDateTime("2025-0a-30 1800")); // non-digit
+        assertFalse(DateTime.isValidFileInputDateTime("2025-04-30T1800")); // wrong separator
+        assertFalse(DateTime.isValidFileInputDateTime("2025-04-30 18000")); // too long
+
         // valid date time
         assertTrue(DateTime.isValidFileInputDateTime(formattedYesterdayDateTime));
         assertTrue(DateTime.isValidFileInputDateTime(formattedTomorrowDateTime));
+        assertTrue(DateTime.isValidFileInputDateTime("2024-02-29 0000")); // leap day
+        assertTrue(DateTime.isValidFileInputDateTime("2025-04-30 2300"));
         assertEquals(DateTime.class, DateTime.fromFileString(formattedYesterdayDateTime).getClass());
 
     }
 
+    @Test
+    public void of_sameHour_sharedInstance() {
+        DateTime tomorrow = DateTime.of(formattedTomorrowDateTime);
+        assertSame(tomorrow, DateTime.of(formattedTomorrowDateTime));
+        assertSame(tomorrow, DateTime.fromFileString(formattedTomorrowDateTime));
+        assertSame(DateTime.fromFileString(formattedYesterdayDateTime),
+                DateTime.fromFileString(formattedYesterdayDateTime));
+
+        // outside the shared hours -> equal but not shared
+        assertEquals(DateTime.fromFileString("1990-12-12 1800"), DateTime.fromFileString("1990-12-12 1800"));
+
+        assertThrows(IllegalArgumentException.class, () -> DateTime.of(formattedYesterdayDateTime));
+    }
+
     @Test
     public void equals() {
         DateTime dateTime = new DateTime(formattedTomorrowDateTime);
@@ -128,6 +154,19 @@ public class DateTimeTest {
         assertFalse(dateTime.equals(new DateTime(formattedDayAfterDateTime)));
     }
 
+    @Test
+    public void toLocalDateTime_fileString_sameDateAndHour() {
+        DateTime dateTime = DateTime.fromFileString("1969-12-31 2300");
+        assertEquals(LocalDateTime.of(1969, 12, 31, 23, 0), dateTime.toLocalDateTime());
+        assertEquals(23, dateTime.getHour());
+        assertEquals("1969-12-31 2300", dateTime.toString());
+
+        dateTime = DateTime.fromFileString("2025-02-28 0000");
+        assertEquals(LocalDateTime.of(2025, 2, 28, 0, 0), dateTime.toLocalDateTime());
+        assertEquals(0, dateTime.getHour());
+        assertTrue(dateTime.compareTo(DateTime.fromFileString("2025-02-27 2300")) > 0);
+    }
+
     @Test
     public void isBetween() {
         // date in between both start and end date
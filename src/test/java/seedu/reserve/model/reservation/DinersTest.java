@@ -23,12 +23,12 @@ public class DinersTest {
     @Test
     public void constructor_removeLeadingZeros_success() {
         // Remove leading zero
-        assertEquals("1", new Diners("00001").value);
-        assertEquals("5", new Diners("005").value);
-        assertEquals("10", new Diners("010").value);
+        assertEquals("1", new Diners("00001").toString());
+        assertEquals("5", new Diners("005").toString());
+        assertEquals("10", new Diners("010").toString());
 
-        assertEquals("1", new Diners("1").value);
-        assertEquals("10", new Diners("10").value);
+        assertEquals("1", new Diners("1").toString());
+        assertEquals("10", new Diners("10").toString());
     }
 
     @Test
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.reserve.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -87,4 +89,9 @@ public class NameTest {
     public void hashCodeTest() {
         assertEquals(name1.hashCode(), name2.hashCode());
     }
+
+    @Test
+    public void getLowerCaseWords() {
+        assertEquals(List.of("peter", "jack"), new Name("PETER   jack").getLowerCaseWords());
+    }
 }
@@ -2,6 +2,7 @@ package seedu.reserve.model.reservation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.reserve.logic.commands.CommandTestUtil.VALID_DATETIME_BOB;
 import static seedu.reserve.logic.commands.CommandTestUtil.VALID_DINERS_BOB;
@@ -122,6 +123,18 @@ public class ReservationTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void constructor_equalValues_sharedBetweenReservations() {
+        Reservation alice = new ReservationBuilder(ALICE).build();
+        Reservation bob = new ReservationBuilder(BOB).withDiners(ALICE.getDiners().toString())
+                .withOccasions(ALICE.getOccasions().stream().map(occasion -> occasion.occasionName)
+                        .toArray(String[]::new))
+                .withPreference(ALICE.getPreference().toString()).build();
+        assertSame(alice.getDiners(), bob.getDiners());
+        assertSame(alice.getOccasions(), bob.getOccasions());
+        assertSame(alice.getPreference(), bob.getPreference());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Reservation.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone="
@@ -3,20 +3,28 @@ package seedu.reserve.model.reservation;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.reserve.logic.commands.CommandTestUtil.VALID_OCCASION_BIRTHDAY;
+import static seedu.reserve.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.reserve.testutil.Assert.assertThrows;
 import static seedu.reserve.testutil.TypicalReservation.ALICE;
+import static seedu.reserve.testutil.TypicalReservation.AMY;
 import static seedu.reserve.testutil.TypicalReservation.BOB;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.transformation.FilteredList;
 import seedu.reserve.model.reservation.exceptions.DuplicateReservationException;
 import seedu.reserve.model.reservation.exceptions.ReservationNotFoundException;
 import seedu.reserve.testutil.ReservationBuilder;
@@ -111,6 +119,26 @@ public class UniqueReservationListTest {
         assertThrows(DuplicateReservationException.class, () -> uniqueReservationList.setReservation(ALICE, BOB));
     }
 
+    @Test
+    public void setReservation_editedReservationClashesInSameSlot_throwsDuplicateReservationException() {
+        Reservation sharedSlot = new ReservationBuilder(BOB).withDateTime(ALICE.getDateTime().toString()).build();
+        uniqueReservationList.add(ALICE);
+        uniqueReservationList.add(sharedSlot);
+        Reservation editedAlice = new ReservationBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        assertThrows(DuplicateReservationException.class, () ->
+                uniqueReservationList.setReservation(ALICE, editedAlice));
+        assertTrue(uniqueReservationList.contains(ALICE));
+    }
+
+    @Test
+    public void setReservation_editedReservationHasDifferentDateTime_updatesIdentity() {
+        uniqueReservationList.add(ALICE);
+        Reservation editedAlice = new ReservationBuilder(ALICE).withDateTime(BOB.getDateTime().toString()).build();
+        uniqueReservationList.setReservation(ALICE, editedAlice);
+        assertFalse(uniqueReservationList.contains(ALICE));
+        assertTrue(uniqueReservationList.contains(editedAlice));
+    }
+
     @Test
     public void remove_nullReservation_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueReservationList.remove(null));
@@ -129,6 +157,23 @@ public class UniqueReservationListTest {
         assertEquals(expectedUniqueReservationList, uniqueReservationList);
     }
 
+    @Test
+    public void remove_existingReservation_reservationNoLongerContained() {
+        uniqueReservationList.add(ALICE);
+        uniqueReservationList.add(BOB);
+        uniqueReservationList.remove(new ReservationBuilder(ALICE).build());
+        assertFalse(uniqueReservationList.contains(ALICE));
+        assertTrue(uniqueReservationList.contains(BOB));
+    }
+
+    @Test
+    public void remove_reservationWithSameIdentityButDifferentFields_throwsReservationNotFoundException() {
+        uniqueReservationList.add(ALICE);
+        Reservation editedAlice = new ReservationBuilder(ALICE)
+                .withOccasions(VALID_OCCASION_BIRTHDAY).build();
+        assertThrows(ReservationNotFoundException.class, () -> uniqueReservationList.remove(editedAlice));
+    }
+
     @Test
     public void setReservations_nullUniqueReservationList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueReservationList
@@ -177,6 +222,17 @@ public class UniqueReservationListTest {
         assertEquals(expectedUniqueReservationList, uniqueReservationList);
     }
 
+    @Test
+    public void setReservations_unsortedList_sortsByDateTime() {
+        Reservation earlierReservation = new ReservationBuilder(BOB).withDateTime("2025-05-01 1800").build();
+        Reservation laterReservation = new ReservationBuilder(ALICE).withDateTime("2025-05-02 1800").build();
+        uniqueReservationList.setReservations(Arrays.asList(laterReservation, earlierReservation));
+        assertEquals(Arrays.asList(earlierReservation, laterReservation),
+                uniqueReservationList.asUnmodifiableObservableList());
+        assertTrue(uniqueReservationList.contains(earlierReservation));
+        assertTrue(uniqueReservationList.contains(laterReservation));
+    }
+
     @Test
     public void setReservations_listWithDuplicateReservations_throwsDuplicateReservationException() {
         List<Reservation> listWithDuplicateReservations = Arrays.asList(ALICE, ALICE);
@@ -184,6 +240,189 @@ public class UniqueReservationListTest {
                 .setReservations(listWithDuplicateReservations));
     }
 
+    @Test
+    public void setReservations_listWithSameEmailAtSameDateTime_throwsDuplicateReservationException() {
+        Reservation sameEmailAsAlice = new ReservationBuilder(BOB).withEmail(ALICE.getEmail().value)
+                .withDateTime(ALICE.getDateTime().toString()).build();
+        assertThrows(DuplicateReservationException.class, () -> uniqueReservationList
+                .setReservations(Arrays.asList(ALICE, sameEmailAsAlice)));
+    }
+
+    @Test
+    public void setReservations_listWithSameContactsAtDifferentDateTimes_success() {
+        Reservation aliceLater = new ReservationBuilder(ALICE).withDateTime("2025-05-11 1800").build();
+        uniqueReservationList.setReservations(Arrays.asList(ALICE, aliceLater));
+        assertEquals(Arrays.asList(ALICE, aliceLater), uniqueReservationList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getOccupiedHours_followsAddSetAndRemove() {
+        LocalDate aliceDate = ALICE.getDateTime().toLocalDate();
+        int aliceHourBit = 1 << ALICE.getDateTime().getHour();
+        Reservation bobWithAliceDateTime = new ReservationBuilder(BOB)
+                .withDateTime(ALICE.getDateTime().toString()).build();
+        Reservation aliceLater = new ReservationBuilder(ALICE).withDateTime("2025-05-10 2000").build();
+
+        assertEquals(0, uniqueReservationList.getOccupiedHours(aliceDate));
+        uniqueReservationList.add(ALICE);
+        uniqueReservationList.add(bobWithAliceDateTime);
+        assertEquals(aliceHourBit, uniqueReservationList.getOccupiedHours(aliceDate));
+
+        // hour stays occupied while another reservation remains in it
+        uniqueReservationList.remove(bobWithAliceDateTime);
+        assertEquals(aliceHourBit, uniqueReservationList.getOccupiedHours(aliceDate));
+
+        uniqueReservationList.setReservation(ALICE, aliceLater);
+        assertEquals(1 << 20, uniqueReservationList.getOccupiedHours(aliceDate));
+
+        uniqueReservationList.remove(aliceLater);
+        assertEquals(0, uniqueReservationList.getOccupiedHours(aliceDate));
+
+        uniqueReservationList.setReservations(Collections.singletonList(ALICE));
+        assertEquals(aliceHourBit, uniqueReservationList.getOccupiedHours(aliceDate));
+    }
+
+    @Test
+    public void getNameContainsAnyPredicate_followsAddSetAndRemove() {
+        Predicate<Reservation> predicate = uniqueReservationList.getNameContainsAnyPredicate(List.of("alice", "bob"));
+        Reservation aliceRenamed = new ReservationBuilder(ALICE).withName("Carol Tan").build();
+        Reservation aliceCopy = new ReservationBuilder(ALICE).build();
+
+        uniqueReservationList.add(ALICE);
+        uniqueReservationList.add(BOB);
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(BOB));
+
+        // reservations not in the list never match, even if their name does
+        assertFalse(predicate.test(aliceCopy));
+
+        uniqueReservationList.setReservation(aliceCopy, aliceRenamed);
+        assertFalse(predicate.test(ALICE));
+        assertFalse(predicate.test(aliceRenamed));
+
+        uniqueReservationList.remove(new ReservationBuilder(BOB).build());
+        assertFalse(predicate.test(BOB));
+
+        uniqueReservationList.setReservations(List.of(ALICE));
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(aliceRenamed));
+    }
+
+    @Test
+    public void getNameContainsAnyPredicate_filteredView_seesEditedReservation() {
+        uniqueReservationList.add(ALICE);
+        FilteredList<Reservation> filtered = new FilteredList<>(uniqueReservationList.asUnmodifiableObservableList(),
+                uniqueReservationList.getNameContainsAnyPredicate(List.of("alice")));
+        Reservation editedAlice = new ReservationBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+
+        uniqueReservationList.setReservation(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice), filtered);
+    }
+
+    @Test
+    public void search_nameWords_scoresExactPrefixAndTypoMatches() {
+        Reservation alicent = new ReservationBuilder(BOB).withName("Alicent Tan").build();
+        Reservation alise = new ReservationBuilder(AMY).withName("Alise Tan").build();
+        uniqueReservationList.setReservations(List.of(ALICE, alicent, alise));
+
+        ReservationSearchResult result = uniqueReservationList.search(new ReservationQuery(List.of("alice"),
+                null, null));
+        assertEquals(3, result.size());
+        assertEquals(ReservationSearchIndex.EXACT_WORD_SCORE, result.getScore(ALICE));
+        assertEquals(ReservationSearchIndex.WORD_PREFIX_SCORE, result.getScore(alicent));
+        assertEquals(ReservationSearchIndex.TYPO_SCORE - ReservationSearchIndex.SCORE_PER_TYPO,
+                result.getScore(alise));
+
+        // "ali" is too short for typos
+        result = uniqueReservationList.search(new ReservationQuery(List.of("ali"), null, null));
+        assertEquals(3, result.size());
+        result = uniqueReservationList.search(new ReservationQuery(List.of("alx"), null, null));
+        assertEquals(0, result.size());
+
+        // each word adds its best match
+        result = uniqueReservationList.search(new ReservationQuery(List.of("alice", "tan"), null, null));
+        assertEquals(ReservationSearchIndex.WORD_PREFIX_SCORE + ReservationSearchIndex.EXACT_WORD_SCORE,
+                result.getScore(alicent));
+        assertTrue(result.getComparator().compare(alicent, ALICE) < 0);
+        assertTrue(result.getComparator().compare(alise, ALICE) < 0);
+    }
+
+    @Test
+    public void search_shortWord_noTypoMatches() {
+        uniqueReservationList.add(new ReservationBuilder(ALICE).withName("Tan").build());
+        assertEquals(0, uniqueReservationList.search(new ReservationQuery(List.of("tam"), null, null)).size());
+    }
+
+    @Test
+    public void search_phoneAndEmail_matchesAnywhereInPhoneAndStartOfEmail() {
+        uniqueReservationList.setReservations(List.of(ALICE, BOB));
+        String alicePhone = ALICE.getPhone().value;
+
+        ReservationSearchResult result = uniqueReservationList.search(new ReservationQuery(List.of(),
+                alicePhone.substring(2, 6), null));
+        assertTrue(result.test(ALICE));
+        assertFalse(result.test(BOB));
+        assertEquals(ReservationSearchIndex.PHONE_INFIX_SCORE, result.getScore(ALICE));
+
+        result = uniqueReservationList.search(new ReservationQuery(List.of(), null,
+                ALICE.getEmail().value.substring(0, 3).toUpperCase()));
+        assertTrue(result.test(ALICE));
+        assertFalse(result.test(BOB));
+
+        // fields must all match
+        result = uniqueReservationList.search(new ReservationQuery(List.of(), alicePhone, VALID_EMAIL_BOB));
+        assertEquals(0, result.size());
+    }
+
+    @Test
+    public void search_afterRemove_removedReservationNotFound() {
+        uniqueReservationList.setReservations(List.of(ALICE, BOB));
+        uniqueReservationList.remove(ALICE);
+        ReservationQuery query = new ReservationQuery(List.of("alice"), ALICE.getPhone().value, null);
+        assertEquals(0, uniqueReservationList.search(query).size());
+    }
+
+    @Test
+    public void applyInSingleChange_severalEdits_listenersNotifiedOnce() {
+        uniqueReservationList.add(ALICE);
+        List<ListChangeListener.Change<? extends Reservation>> changes = new ArrayList<>();
+        uniqueReservationList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Reservation>) changes::add);
+
+        uniqueReservationList.applyInSingleChange(() -> { });
+        assertTrue(changes.isEmpty());
+
+        uniqueReservationList.applyInSingleChange(() -> {
+            uniqueReservationList.add(BOB);
+            uniqueReservationList.remove(ALICE);
+            uniqueReservationList.add(AMY);
+        });
+        assertEquals(1, changes.size());
+        assertEquals(2, uniqueReservationList.asUnmodifiableObservableList().size());
+        assertFalse(uniqueReservationList.contains(ALICE));
+    }
+
+    @Test
+    public void rebind_searchOfAnotherList_searchesThisList() {
+        UniqueReservationList otherList = new UniqueReservationList();
+        otherList.add(ALICE);
+        uniqueReservationList.add(ALICE);
+        Reservation editedAlice = new ReservationBuilder(ALICE).withPreference("Window seat").build();
+        uniqueReservationList.setReservation(ALICE, editedAlice);
+
+        Predicate<? super Reservation> searchOfOther = otherList.search(new ReservationQuery(List.of("alice"),
+                null, null));
+        assertFalse(searchOfOther.test(editedAlice));
+        assertTrue(uniqueReservationList.rebind(searchOfOther).test(editedAlice));
+
+        Predicate<? super Reservation> nameOfOther = otherList.getNameContainsAnyPredicate(List.of("alice"));
+        assertFalse(nameOfOther.test(editedAlice));
+        assertTrue(uniqueReservationList.rebind(nameOfOther).test(editedAlice));
+
+        Predicate<Reservation> anyReservation = reservation -> true;
+        assertEquals(anyReservation, uniqueReservationList.rebind(anyReservation));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
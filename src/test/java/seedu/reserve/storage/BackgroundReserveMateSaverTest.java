@@ -0,0 +1,119 @@
+package seedu.reserve.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.reserve.testutil.Assert.assertThrows;
+import static seedu.reserve.testutil.TypicalReservation.ALICE;
+import static seedu.reserve.testutil.TypicalReservation.HOON;
+import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.model.ReadOnlyReserveMate;
+import seedu.reserve.model.ReserveMate;
+
+public class BackgroundReserveMateSaverTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BackgroundReserveMateSaver(null, List.of()));
+    }
+
+    @Test
+    public void scheduleSave_nullChanges_throwsNullPointerException() {
+        BackgroundReserveMateSaver saver = new BackgroundReserveMateSaver(new ReserveMateStorageStub(), List.of());
+        assertThrows(NullPointerException.class, () -> saver.scheduleSave(null));
+    }
+
+    @Test
+    public void flush_afterScheduledSaves_latestReservationsSaved() throws Exception {
+        ReserveMateStorageStub storage = new ReserveMateStorageStub();
+        ReserveMate reserveMate = getTypicalReserveMate();
+        BackgroundReserveMateSaver saver = new BackgroundReserveMateSaver(storage, reserveMate.getReservationList());
+
+        ReserveMateChanges addHoon = new ReserveMateChanges();
+        addHoon.recordAdd(HOON);
+        reserveMate.addReservation(HOON);
+        saver.scheduleSave(addHoon);
+        ReserveMateChanges removeAlice = new ReserveMateChanges();
+        removeAlice.recordRemove(ALICE);
+        reserveMate.removeReservation(ALICE);
+        saver.scheduleSave(removeAlice);
+        saver.flush();
+
+        ReadOnlyReserveMate saved = storage.savedReserveMates.get(storage.savedReserveMates.size() - 1);
+        assertEquals(reserveMate, new ReserveMate(saved));
+    }
+
+    @Test
+    public void flush_clearScheduled_earlierChangesDropped() throws Exception {
+        ReserveMateStorageStub storage = new ReserveMateStorageStub();
+        BackgroundReserveMateSaver saver = new BackgroundReserveMateSaver(storage,
+                getTypicalReserveMate().getReservationList());
+
+        ReserveMateChanges changes = new ReserveMateChanges();
+        changes.recordRemove(ALICE);
+        changes.recordClear();
+        changes.recordAdd(HOON);
+        saver.scheduleSave(changes);
+        saver.flush();
+
+        assertEquals(List.of(HOON), storage.savedReserveMates.get(0).getReservationList());
+    }
+
+    @Test
+    public void flush_saveFailed_throwsIoExceptionOnce() throws Exception {
+        ReserveMateStorageStub storage = new ReserveMateStorageStub();
+        storage.saveError = DUMMY_IO_EXCEPTION;
+        BackgroundReserveMateSaver saver = new BackgroundReserveMateSaver(storage, List.of());
+
+        ReserveMateChanges changes = new ReserveMateChanges();
+        changes.recordAdd(ALICE);
+        saver.scheduleSave(changes);
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), saver::flush);
+        saver.flush();
+    }
+
+    /**
+     * A {@code ReserveMateStorage} stub that records every reservation book saved to it.
+     */
+    private static class ReserveMateStorageStub implements ReserveMateStorage {
+        private final List<ReadOnlyReserveMate> savedReserveMates = new ArrayList<>();
+        private IOException saveError;
+
+        @Override
+        public Path getReserveMateFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyReserveMate> readReserveMate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyReserveMate> readReserveMate(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveReserveMate(ReadOnlyReserveMate reserveMate) throws IOException {
+            if (saveError != null) {
+                throw saveError;
+            }
+            savedReserveMates.add(reserveMate);
+        }
+
+        @Override
+        public void saveReserveMate(ReadOnlyReserveMate reserveMate, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.reserve.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.reserve.testutil.TypicalReservation.ALICE;
+import static seedu.reserve.testutil.TypicalReservation.getTypicalReservations;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.reserve.model.reservation.Reservation;
+
+public class BinaryReserveMateSnapshotTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() {
+        assertFalse(new BinaryReserveMateSnapshot(testFolder.resolve("data.json.bin")).read().isPresent());
+    }
+
+    @Test
+    public void saveAndRead_unchangedSources_sameReservationsInOrder() throws Exception {
+        Path sourceFilePath = Files.writeString(testFolder.resolve("data.json"), "{}");
+        BinaryReserveMateSnapshot snapshot = new BinaryReserveMateSnapshot(testFolder.resolve("data.json.bin"));
+        List<Reservation> reservations = getTypicalReservations();
+
+        snapshot.save(reservations, List.of(sourceFilePath));
+
+        assertEquals(Optional.of(reservations), snapshot.read());
+    }
+
+    @Test
+    public void read_sourceChanged_emptyResult() throws Exception {
+        Path sourceFilePath = Files.writeString(testFolder.resolve("data.json"), "{}");
+        BinaryReserveMateSnapshot snapshot = new BinaryReserveMateSnapshot(testFolder.resolve("data.json.bin"));
+        snapshot.save(List.of(ALICE), List.of(sourceFilePath));
+
+        FileTime lastModified = Files.getLastModifiedTime(sourceFilePath);
+        Files.setLastModifiedTime(sourceFilePath, FileTime.fromMillis(lastModified.toMillis() + 1000));
+        assertFalse(snapshot.read().isPresent());
+
+        Files.setLastModifiedTime(sourceFilePath, lastModified);
+        Files.writeString(sourceFilePath, "{ }");
+        Files.setLastModifiedTime(sourceFilePath, lastModified);
+        assertFalse(snapshot.read().isPresent());
+
+        Files.delete(sourceFilePath);
+        assertFalse(snapshot.read().isPresent());
+    }
+
+    @Test
+    public void read_damagedFile_emptyResult() throws Exception {
+        Path sourceFilePath = Files.writeString(testFolder.resolve("data.json"), "{}");
+        Path filePath = testFolder.resolve("data.json.bin");
+        new BinaryReserveMateSnapshot(filePath).save(getTypicalReservations(), List.of(sourceFilePath));
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+        assertFalse(new BinaryReserveMateSnapshot(filePath).read().isPresent());
+
+        Files.write(filePath, new byte[] {1, 2, 3});
+        assertFalse(new BinaryReserveMateSnapshot(filePath).read().isPresent());
+    }
+}
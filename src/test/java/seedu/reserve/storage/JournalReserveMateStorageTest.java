@@ -0,0 +1,306 @@
+package seedu.reserve.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.testutil.Assert.assertThrows;
+import static seedu.reserve.testutil.TypicalReservation.ALICE;
+import static seedu.reserve.testutil.TypicalReservation.HOON;
+import static seedu.reserve.testutil.TypicalReservation.IDA;
+import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.model.ReserveMate;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.testutil.ReservationBuilder;
+
+public class JournalReserveMateStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readReserveMate_nullFilePath_throwsNullPointerException() {
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(testFolder.resolve("data.json"));
+        assertThrows(NullPointerException.class, () -> storage.readReserveMate(null));
+    }
+
+    @Test
+    public void readReserveMate_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournalReserveMateStorage(testFolder.resolve("data.json")).readReserveMate().isPresent());
+    }
+
+    @Test
+    public void saveReserveMate_changesAfterFirstSave_appendedToJournalWithoutRewritingSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalFilePath = JournalReserveMateStorage.getJournalFilePath(filePath);
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(filePath);
+        ReserveMate original = getTypicalReserveMate();
+
+        storage.saveReserveMate(original);
+        String snapshot = Files.readString(filePath);
+        assertFalse(Files.exists(journalFilePath));
+
+        ReserveMateChanges changes = new ReserveMateChanges();
+        original.addReservation(HOON);
+        changes.recordAdd(HOON);
+        original.removeReservation(ALICE);
+        changes.recordRemove(ALICE);
+        storage.saveReserveMate(original, changes);
+        Reservation edited = new ReservationBuilder(HOON).withPreference("Window seat").build();
+        original.setReservation(HOON, edited);
+        changes = new ReserveMateChanges();
+        changes.recordRemove(HOON);
+        changes.recordAdd(edited);
+        storage.saveReserveMate(original, changes);
+
+        // the edit is journalled as a single entry
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new ReserveMate(new JournalReserveMateStorage(filePath).readReserveMate().get()));
+    }
+
+    @Test
+    public void saveReserveMate_changes_bookNotRead() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(filePath);
+        ReserveMate original = getTypicalReserveMate();
+        storage.saveReserveMate(original);
+
+        ReserveMateChanges changes = new ReserveMateChanges();
+        changes.recordAdd(HOON);
+        storage.saveReserveMate(() -> {
+            throw new AssertionError("The book should not be read");
+        }, changes);
+
+        original.addReservation(HOON);
+        assertEquals(original, new ReserveMate(new JournalReserveMateStorage(filePath).readReserveMate().get()));
+    }
+
+    @Test
+    public void saveReserveMate_noChanges_journalNotCreated() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(filePath);
+        ReserveMate original = getTypicalReserveMate();
+
+        storage.saveReserveMate(original);
+        storage.saveReserveMate(original, new ReserveMateChanges());
+        assertFalse(Files.exists(JournalReserveMateStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveReserveMate_changesBeforeFirstSave_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ReserveMate original = getTypicalReserveMate();
+        ReserveMateChanges changes = new ReserveMateChanges();
+        changes.recordAdd(HOON);
+
+        new JournalReserveMateStorage(filePath).saveReserveMate(original, changes);
+
+        assertFalse(Files.exists(JournalReserveMateStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new ReserveMate(new ShardedReserveMateStorage(filePath).readReserveMate().get()));
+    }
+
+    @Test
+    public void saveReserveMate_clearedData_snapshotWrittenAndReadBack() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalFilePath = JournalReserveMateStorage.getJournalFilePath(filePath);
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(filePath);
+        ReserveMate original = getTypicalReserveMate();
+
+        storage.saveReserveMate(original);
+        ReserveMateChanges changes = new ReserveMateChanges();
+        changes.recordAdd(HOON);
+        storage.saveReserveMate(original, changes);
+        original.setReservations(List.of());
+        changes = new ReserveMateChanges();
+        changes.recordClear();
+        storage.saveReserveMate(original, changes);
+        assertFalse(Files.exists(journalFilePath));
+
+        original.addReservation(IDA);
+        changes = new ReserveMateChanges();
+        changes.recordAdd(IDA);
+        storage.saveReserveMate(original, changes);
+
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new ReserveMate(new JournalReserveMateStorage(filePath).readReserveMate().get()));
+    }
+
+    @Test
+    public void saveReserveMate_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalFilePath = JournalReserveMateStorage.getJournalFilePath(filePath);
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(filePath, 0);
+        ReserveMate original = getTypicalReserveMate();
+
+        storage.saveReserveMate(original);
+        original.addReservation(HOON);
+        ReserveMateChanges changes = new ReserveMateChanges();
+        changes.recordAdd(HOON);
+        storage.saveReserveMate(original, changes);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new ReserveMate(new ShardedReserveMateStorage(filePath).readReserveMate().get()));
+    }
+
+    @Test
+    public void saveReserveMate_wholeBookAfterChanges_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalFilePath = JournalReserveMateStorage.getJournalFilePath(filePath);
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(filePath);
+        ReserveMate original = getTypicalReserveMate();
+
+        storage.saveReserveMate(original);
+        ReserveMateChanges changes = new ReserveMateChanges();
+        changes.recordAdd(HOON);
+        storage.saveReserveMate(original, changes);
+        storage.saveReserveMate(original);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new ReserveMate(new JournalReserveMateStorage(filePath).readReserveMate().get()));
+    }
+
+    @Test
+    public void readReserveMate_snapshotReadFromBackup_journalNotReplayed() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalFilePath = JournalReserveMateStorage.getJournalFilePath(filePath);
+        Path shardFilePath = ShardedReserveMateStorage.getShardFilePath(filePath, YearMonth.of(2025, 5));
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(filePath);
+        ReserveMate olderGeneration = getTypicalReserveMate();
+        storage.saveReserveMate(olderGeneration);
+        ReserveMate newerGeneration = getTypicalReserveMate();
+        newerGeneration.removeReservation(ALICE);
+        storage.saveReserveMate(newerGeneration);
+        ReserveMateChanges changes = new ReserveMateChanges();
+        changes.recordAdd(ALICE);
+        storage.saveReserveMate(newerGeneration, changes);
+
+        Files.writeString(shardFilePath, "not json");
+        JournalReserveMateStorage readStorage = new JournalReserveMateStorage(filePath);
+        assertEquals(olderGeneration, new ReserveMate(readStorage.readReserveMate().get()));
+        assertFalse(Files.exists(journalFilePath));
+        assertTrue(Files.exists(JournalReserveMateStorage.getSkippedJournalFilePath(journalFilePath)));
+
+        // the backup is not cached in the binary snapshot, so it is still reported as a backup when read again
+        ShardedReserveMateStorage snapshotStorage = new ShardedReserveMateStorage(filePath);
+        snapshotStorage.readReserveMate();
+        assertTrue(snapshotStorage.isLastReadFromBackup());
+
+        // the next save writes the whole book, as the journal no longer matches the snapshot
+        changes = new ReserveMateChanges();
+        changes.recordAdd(HOON);
+        olderGeneration.addReservation(HOON);
+        readStorage.saveReserveMate(olderGeneration, changes);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(olderGeneration,
+                new ReserveMate(new JournalReserveMateStorage(filePath).readReserveMate().get()));
+    }
+
+    @Test
+    public void readReserveMate_incompleteLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalFilePath = JournalReserveMateStorage.getJournalFilePath(filePath);
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(filePath);
+        ReserveMate original = getTypicalReserveMate();
+
+        storage.saveReserveMate(original);
+        original.addReservation(HOON);
+        ReserveMateChanges changes = new ReserveMateChanges();
+        changes.recordAdd(HOON);
+        storage.saveReserveMate(original, changes);
+        Files.write(journalFilePath, "{\"op\":\"add\",\"reserv".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, new ReserveMate(new JournalReserveMateStorage(filePath).readReserveMate().get()));
+    }
+
+    @Test
+    public void saveReserveMate_afterIncompleteLastEntryRead_appendedEntriesReadBack() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalFilePath = JournalReserveMateStorage.getJournalFilePath(filePath);
+        ReserveMate original = getTypicalReserveMate();
+        new JournalReserveMateStorage(filePath).saveReserveMate(original);
+        Files.writeString(journalFilePath, "{\"op\":\"add\",\"reserv");
+
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(filePath);
+        assertEquals(original, new ReserveMate(storage.readReserveMate().get()));
+        original.addReservation(HOON);
+        ReserveMateChanges changes = new ReserveMateChanges();
+        changes.recordAdd(HOON);
+        storage.saveReserveMate(original, changes);
+
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new ReserveMate(new JournalReserveMateStorage(filePath).readReserveMate().get()));
+    }
+
+    @Test
+    public void saveReserveMate_snapshotSaveFailed_nextSaveWritesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalFilePath = JournalReserveMateStorage.getJournalFilePath(filePath);
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(filePath);
+        ReserveMate original = getTypicalReserveMate();
+        storage.saveReserveMate(original);
+
+        // a directory in place of the month file stops the snapshot from being written
+        Path shardFilePath = ShardedReserveMateStorage.getShardFilePath(filePath, YearMonth.of(2025, 5));
+        Files.delete(shardFilePath);
+        Files.createDirectories(shardFilePath.resolve("locked"));
+        original.setReservations(List.of(HOON));
+        ReserveMateChanges changes = new ReserveMateChanges();
+        changes.recordClear();
+        changes.recordAdd(HOON);
+        ReserveMateChanges clearChanges = changes;
+        assertThrows(IOException.class, () -> storage.saveReserveMate(original, clearChanges));
+
+        Files.delete(shardFilePath.resolve("locked"));
+        Files.delete(shardFilePath);
+        original.addReservation(IDA);
+        changes = new ReserveMateChanges();
+        changes.recordAdd(IDA);
+        storage.saveReserveMate(original, changes);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new ReserveMate(new JournalReserveMateStorage(filePath).readReserveMate().get()));
+    }
+
+    @Test
+    public void readReserveMate_corruptedEntryBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalFilePath = JournalReserveMateStorage.getJournalFilePath(filePath);
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(filePath);
+        ReserveMate original = getTypicalReserveMate();
+
+        storage.saveReserveMate(original);
+        Files.writeString(journalFilePath, "not json" + System.lineSeparator());
+        ReserveMateChanges changes = new ReserveMateChanges();
+        changes.recordAdd(HOON);
+        storage.saveReserveMate(original, changes);
+
+        assertThrows(DataLoadingException.class, () -> new JournalReserveMateStorage(filePath).readReserveMate());
+    }
+
+    @Test
+    public void readReserveMate_unknownOperation_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(filePath);
+        storage.saveReserveMate(getTypicalReserveMate());
+        Files.writeString(JournalReserveMateStorage.getJournalFilePath(filePath),
+                "{\"op\":\"rename\"}" + System.lineSeparator() + "{\"op\":\"clear\"}" + System.lineSeparator());
+
+        assertThrows(DataLoadingException.class, () -> new JournalReserveMateStorage(filePath).readReserveMate());
+        assertTrue(Files.exists(filePath));
+    }
+
+}
@@ -0,0 +1,115 @@
+package seedu.reserve.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.testutil.Assert.assertThrows;
+import static seedu.reserve.testutil.TypicalReservation.ALICE;
+import static seedu.reserve.testutil.TypicalReservation.BENSON;
+import static seedu.reserve.testutil.TypicalReservation.CARL;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.commons.util.JsonUtil;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.testutil.ReservationBuilder;
+
+public class JsonReservationArchiveStorageTest {
+
+    private static final YearMonth MAY_2025 = YearMonth.of(2025, 5);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readArchive_missingFile_emptyResult() throws Exception {
+        assertTrue(new JsonReservationArchiveStorage(testFolder.resolve("data.json.archive"))
+                .readArchivedReservations().isEmpty());
+    }
+
+    @Test
+    public void appendToArchive_severalTimes_readBackOnceInDateTimeOrder() throws Exception {
+        JsonReservationArchiveStorage storage =
+                new JsonReservationArchiveStorage(testFolder.resolve("data").resolve("data.json.archive"));
+
+        storage.appendToArchive(List.of(CARL, ALICE));
+        storage.appendToArchive(List.of(BENSON, CARL));
+
+        assertEquals(List.of(ALICE, CARL, BENSON), storage.readArchivedReservations());
+    }
+
+    @Test
+    public void readArchivedReservations_range_onlyMonthsInRangeRead() throws Exception {
+        Path filePath = testFolder.resolve("data.json.archive");
+        JsonReservationArchiveStorage storage = new JsonReservationArchiveStorage(filePath);
+        Reservation april = new ReservationBuilder(BENSON).withDateTime("2025-04-30 2300").build();
+        Reservation june = new ReservationBuilder(CARL).withDateTime("2025-06-01 0000").build();
+        storage.appendToArchive(List.of(june, ALICE, april));
+
+        assertTrue(Files.exists(ShardedReserveMateStorage.getShardFilePath(filePath, YearMonth.of(2025, 4))));
+        assertEquals(List.of(ALICE), storage.readArchivedReservations(MAY_2025, MAY_2025));
+        assertEquals(List.of(ALICE, june), storage.readArchivedReservations(MAY_2025, YearMonth.of(2025, 12)));
+
+        // a month file that cannot be read is not touched by a range without it
+        Files.write(ShardedReserveMateStorage.getShardFilePath(filePath, YearMonth.of(2025, 4)),
+                List.of("not json", "not json"));
+        assertEquals(List.of(ALICE), storage.readArchivedReservations(MAY_2025, MAY_2025));
+        assertThrows(DataLoadingException.class, storage::readArchivedReservations);
+    }
+
+    @Test
+    public void readArchivedReservations_archiveWrittenBeforeSplit_readWithMonths() throws Exception {
+        Path filePath = testFolder.resolve("data.json.archive");
+        Reservation april = new ReservationBuilder(BENSON).withDateTime("2025-04-30 2300").build();
+        Files.write(filePath, List.of(JsonUtil.toCompactJsonString(new JsonAdaptedReservation(april)),
+                JsonUtil.toCompactJsonString(new JsonAdaptedReservation(CARL))));
+        JsonReservationArchiveStorage storage = new JsonReservationArchiveStorage(filePath);
+        storage.appendToArchive(List.of(ALICE));
+
+        assertEquals(List.of(april, ALICE, CARL), storage.readArchivedReservations());
+        assertEquals(List.of(ALICE, CARL), storage.readArchivedReservations(MAY_2025, MAY_2025));
+    }
+
+    @Test
+    public void readArchive_incompleteLastLine_lineIgnored() throws Exception {
+        Path filePath = testFolder.resolve("data.json.archive");
+        JsonReservationArchiveStorage storage = new JsonReservationArchiveStorage(filePath);
+        storage.appendToArchive(List.of(ALICE));
+        Files.write(ShardedReserveMateStorage.getShardFilePath(filePath, MAY_2025),
+                "{\"name\":\"Ben".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(List.of(ALICE), storage.readArchivedReservations());
+    }
+
+    @Test
+    public void appendToArchive_afterIncompleteLastLine_lineCutOffAndAppendedRead() throws Exception {
+        Path filePath = testFolder.resolve("data.json.archive");
+        Path monthFilePath = ShardedReserveMateStorage.getShardFilePath(filePath, MAY_2025);
+        JsonReservationArchiveStorage storage = new JsonReservationArchiveStorage(filePath);
+        storage.appendToArchive(List.of(ALICE));
+        Files.write(monthFilePath, "{\"name\":\"Ben".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        storage.appendToArchive(List.of(BENSON));
+
+        assertEquals(2, Files.readAllLines(monthFilePath).size());
+        assertEquals(List.of(ALICE, BENSON), storage.readArchivedReservations());
+    }
+
+    @Test
+    public void readArchive_invalidLineBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json.archive");
+        Files.write(ShardedReserveMateStorage.getShardFilePath(filePath, MAY_2025), List.of("not json"));
+        JsonReservationArchiveStorage storage = new JsonReservationArchiveStorage(filePath);
+        storage.appendToArchive(List.of(ALICE));
+
+        assertThrows(DataLoadingException.class, storage::readArchivedReservations);
+    }
+}
@@ -9,6 +9,7 @@ import static seedu.reserve.testutil.TypicalReservation.IDA;
 import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -86,6 +87,38 @@ public class JsonReserveMateStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveReserveMate_compact_success() throws Exception {
+        Path filePath = testFolder.resolve("TempReserveMate.json");
+        ReserveMate original = getTypicalReserveMate();
+        JsonReserveMateStorage jsonReserveMateStorage = new JsonReserveMateStorage(filePath, true);
+
+        jsonReserveMateStorage.saveReserveMate(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new ReserveMate(jsonReserveMateStorage.readReserveMate().get()));
+    }
+
+    @Test
+    public void readReserveMate_corruptedFile_fallsBackToPreviousSave() throws Exception {
+        Path filePath = testFolder.resolve("TempReserveMate.json");
+        ReserveMate original = getTypicalReserveMate();
+        JsonReserveMateStorage jsonReserveMateStorage = new JsonReserveMateStorage(filePath);
+
+        jsonReserveMateStorage.saveReserveMate(original);
+        jsonReserveMateStorage.saveReserveMate(new ReserveMate());
+        Files.writeString(filePath, "{ \"reservations\": [");
+
+        assertEquals(original, new ReserveMate(jsonReserveMateStorage.readReserveMate().get()));
+    }
+
+    @Test
+    public void readReserveMate_corruptedFileWithoutPreviousSave_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempReserveMate.json");
+        Files.writeString(filePath, "{ \"reservations\": [");
+
+        assertThrows(DataLoadingException.class, () -> new JsonReserveMateStorage(filePath).readReserveMate());
+    }
+
     @Test
     public void saveReserveMate_nullReserveMate_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveReserveMate(null, "SomeFile.json"));
@@ -0,0 +1,145 @@
+package seedu.reserve.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.testutil.Assert.assertThrows;
+import static seedu.reserve.testutil.TypicalReservation.ALICE;
+import static seedu.reserve.testutil.TypicalReservation.BENSON;
+import static seedu.reserve.testutil.TypicalReservation.HOON;
+import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.commons.util.FileUtil;
+import seedu.reserve.model.ReserveMate;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.testutil.ReservationBuilder;
+
+public class ShardedReserveMateStorageTest {
+
+    private static final YearMonth MAY_2025 = YearMonth.of(2025, 5);
+    private static final YearMonth JUNE_2025 = YearMonth.of(2025, 6);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readReserveMate_nullFilePath_throwsNullPointerException() {
+        ShardedReserveMateStorage storage = new ShardedReserveMateStorage(testFolder.resolve("data.json"));
+        assertThrows(NullPointerException.class, () -> storage.readReserveMate(null));
+    }
+
+    @Test
+    public void readReserveMate_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedReserveMateStorage(testFolder.resolve("data.json")).readReserveMate().isPresent());
+    }
+
+    @Test
+    public void readAndSaveReserveMate_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ReserveMate original = getTypicalReserveMate();
+        original.addReservation(new ReservationBuilder(HOON).withDateTime("2025-06-01 1200").build());
+
+        new ShardedReserveMateStorage(filePath).saveReserveMate(original);
+        assertTrue(Files.exists(ShardedReserveMateStorage.getShardFilePath(filePath, MAY_2025)));
+        assertTrue(Files.exists(ShardedReserveMateStorage.getShardFilePath(filePath, JUNE_2025)));
+
+        ReserveMate readBack = new ReserveMate(new ShardedReserveMateStorage(filePath).readReserveMate().get());
+        assertEquals(original, readBack);
+    }
+
+    @Test
+    public void saveReserveMate_afterRead_onlyChangedShardsRewritten() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path mayShard = ShardedReserveMateStorage.getShardFilePath(filePath, MAY_2025);
+        Path juneShard = ShardedReserveMateStorage.getShardFilePath(filePath, JUNE_2025);
+        ReserveMate original = getTypicalReserveMate();
+        Reservation june = new ReservationBuilder(HOON).withDateTime("2025-06-01 1200").build();
+        original.addReservation(june);
+        new ShardedReserveMateStorage(filePath).saveReserveMate(original);
+
+        ShardedReserveMateStorage storage = new ShardedReserveMateStorage(filePath);
+        ReserveMate readBack = new ReserveMate(storage.readReserveMate().get());
+        Files.writeString(mayShard, "untouched");
+        Reservation editedJune = new ReservationBuilder(june).withPreference("Window seat").build();
+        readBack.setReservation(june, editedJune);
+        storage.saveReserveMate(readBack);
+        assertEquals("untouched", Files.readString(mayShard));
+
+        // a month left without reservations loses its shard
+        readBack.removeReservation(editedJune);
+        storage.saveReserveMate(readBack);
+        assertFalse(Files.exists(juneShard));
+        assertEquals("untouched", Files.readString(mayShard));
+    }
+
+    @Test
+    public void readReserveMate_fileWrittenBeforeSharding_readAndShardedOnSave() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ReserveMate original = getTypicalReserveMate();
+        new JsonReserveMateStorage(filePath).saveReserveMate(original);
+
+        ShardedReserveMateStorage storage = new ShardedReserveMateStorage(filePath);
+        ReserveMate readBack = new ReserveMate(storage.readReserveMate().get());
+        assertEquals(original, readBack);
+
+        storage.saveReserveMate(readBack);
+        assertTrue(Files.exists(ShardedReserveMateStorage.getShardFilePath(filePath, MAY_2025)));
+        assertEquals(original, new ReserveMate(new ShardedReserveMateStorage(filePath).readReserveMate().get()));
+    }
+
+    @Test
+    public void readReserveMate_shardsUnchangedSinceSave_readFromBinarySnapshot() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path mayShard = ShardedReserveMateStorage.getShardFilePath(filePath, MAY_2025);
+        ReserveMate original = getTypicalReserveMate();
+        new ShardedReserveMateStorage(filePath).saveReserveMate(original);
+        assertTrue(Files.exists(BinaryReserveMateSnapshot.getSnapshotFilePath(filePath)));
+
+        // a shard damaged without changing its size or modification time is not read
+        FileTime lastModified = Files.getLastModifiedTime(mayShard);
+        Files.writeString(mayShard, " ".repeat((int) Files.size(mayShard)));
+        Files.setLastModifiedTime(mayShard, lastModified);
+        assertEquals(original, new ReserveMate(new ShardedReserveMateStorage(filePath).readReserveMate().get()));
+
+        // a changed shard is read instead of the binary snapshot
+        Files.setLastModifiedTime(mayShard, FileTime.fromMillis(lastModified.toMillis() + 1000));
+        assertThrows(DataLoadingException.class, () -> new ShardedReserveMateStorage(filePath).readReserveMate());
+    }
+
+    @Test
+    public void saveReserveMate_binarySnapshotCannotBeReplaced_shardsStillSaved() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        // a non-empty directory cannot be deleted or replaced, like a file held open on Windows
+        Path snapshotFilePath = BinaryReserveMateSnapshot.getSnapshotFilePath(filePath);
+        Files.createDirectories(snapshotFilePath.resolve("locked"));
+        ReserveMate original = getTypicalReserveMate();
+
+        new ShardedReserveMateStorage(filePath).saveReserveMate(original);
+
+        assertTrue(Files.isDirectory(snapshotFilePath));
+        assertEquals(original, new ReserveMate(new ShardedReserveMateStorage(filePath).readReserveMate().get()));
+    }
+
+    @Test
+    public void readReserveMate_missingShard_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ReserveMate original = new ReserveMate();
+        original.addReservation(ALICE);
+        original.addReservation(new ReservationBuilder(BENSON).withDateTime("2025-06-01 1200").build());
+        new ShardedReserveMateStorage(filePath).saveReserveMate(original);
+
+        Path juneShard = ShardedReserveMateStorage.getShardFilePath(filePath, JUNE_2025);
+        Files.delete(juneShard);
+        Files.deleteIfExists(FileUtil.getBackupFilePath(juneShard));
+        assertThrows(DataLoadingException.class, () -> new ShardedReserveMateStorage(filePath).readReserveMate());
+    }
+}
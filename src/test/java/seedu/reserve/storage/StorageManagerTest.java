@@ -1,10 +1,18 @@
 package seedu.reserve.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.reserve.testutil.TypicalReservation.ALICE;
+import static seedu.reserve.testutil.TypicalReservation.CARL;
+import static seedu.reserve.testutil.TypicalReservation.FIONA;
 import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +22,7 @@ import seedu.reserve.commons.core.GuiSettings;
 import seedu.reserve.model.ReadOnlyReserveMate;
 import seedu.reserve.model.ReserveMate;
 import seedu.reserve.model.UserPrefs;
+import seedu.reserve.model.reservation.Reservation;
 
 public class StorageManagerTest {
 
@@ -60,6 +69,29 @@ public class StorageManagerTest {
         assertEquals(original, new ReserveMate(retrieved));
     }
 
+    @Test
+    public void archiveReservationsBefore_oldReservations_movedToArchive() throws Exception {
+        ReserveMate original = getTypicalReserveMate();
+        LocalDateTime cutoff = LocalDateTime.of(2025, 5, 16, 0, 0);
+        List<Reservation> expectedRemaining = new ArrayList<>(original.getReservationList());
+        expectedRemaining.removeAll(List.of(ALICE, FIONA, CARL));
+
+        ReadOnlyReserveMate remaining = storageManager.archiveReservationsBefore(original, cutoff);
+
+        assertEquals(expectedRemaining, remaining.getReservationList());
+        assertEquals(List.of(ALICE, FIONA, CARL), storageManager.readArchivedReservations());
+        assertEquals(new ReserveMate(remaining), new ReserveMate(storageManager.readReserveMate().get()));
+    }
+
+    @Test
+    public void archiveReservationsBefore_noOldReservations_nothingWritten() throws Exception {
+        ReserveMate original = getTypicalReserveMate();
+
+        assertSame(original, storageManager.archiveReservationsBefore(original, LocalDateTime.of(2025, 1, 1, 0, 0)));
+        assertEquals(List.of(), storageManager.readArchivedReservations());
+        assertFalse(storageManager.readReserveMate().isPresent());
+    }
+
     @Test
     public void getReserveMateFilePath() {
         assertNotNull(storageManager.getReserveMateFilePath());
@@ -34,7 +34,7 @@ public class ReservationUtil {
         sb.append(PREFIX_NAME + reservation.getName().fullName + " ");
         sb.append(PREFIX_PHONE + reservation.getPhone().value + " ");
         sb.append(PREFIX_EMAIL + reservation.getEmail().value + " ");
-        sb.append(PREFIX_NUMBER_OF_DINERS + reservation.getDiners().value + " ");
+        sb.append(PREFIX_NUMBER_OF_DINERS + reservation.getDiners().toString() + " ");
         sb.append(PREFIX_DATE_TIME + reservation.getDateTime().toString() + " ");
         reservation.getOccasions().stream().forEach(
             s -> sb.append(PREFIX_OCCASION + s.occasionName + " ")
@@ -54,7 +54,7 @@ public class ReservationUtil {
         descriptor.getEmail().ifPresent(email -> sb.append(PREFIX_EMAIL)
                 .append(email.value).append(" "));
         descriptor.getDiners().ifPresent(diner -> sb.append(PREFIX_NUMBER_OF_DINERS)
-                .append(diner.value).append(" "));
+                .append(diner).append(" "));
         descriptor.getDateTime().ifPresent(dateTime -> sb.append(PREFIX_DATE_TIME)
                 .append(dateTime.toString()).append(" "));
         if (descriptor.getOccasions().isPresent()) {